@@ -0,0 +1,61 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>This is the exception thrown by {@link BulkRowWriter} when one of the requests of a bulk write fails. The
+ * requests before it have been applied; {@link #getCompleted()} returns their results.</p>
+ *
+ * <p>Thread safety: Exceptions are not thread safe.</p>
+ */
+public class BulkRowWriteException extends SmartsheetException {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = 1L;
+
+    /** The results of the requests that succeeded. */
+    private final List<?> completed;
+
+    /**
+     * Constructor.
+     *
+     * @param completed the results of the requests that succeeded
+     * @param cause the failure of the next request
+     */
+    public BulkRowWriteException(List<?> completed, SmartsheetException cause) {
+        super(completed.size() + " items were written before a request failed: " + cause.getMessage(), cause);
+        this.completed = Collections.unmodifiableList(completed);
+    }
+
+    /**
+     * <p>Gets the results of the requests that succeeded: the rows added or updated, or the ids of the rows
+     * deleted.</p>
+     *
+     * @return the completed results
+     */
+    public List<?> getCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,402 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.internal.AbstractResources;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.json.SerializedList;
+import com.smartsheet.api.models.Row;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>Adds, updates and deletes any number of rows, splitting them into requests the server accepts.</p>
+ *
+ * <p>Rows are read from the given iterator as they are sent and grouped into requests of at most
+ * {@link #setMaxRowsPerRequest maxRowsPerRequest} rows and {@link #setMaxBytesPerRequest maxBytesPerRequest} bytes
+ * of JSON. Each row is serialized once, by the client's serializer, both to measure it and to send it. Each write
+ * returns a future of the merged results of all its requests. Writes to the same sheet are applied one request at a
+ * time, in the order they were submitted (the server rejects concurrent changes to a sheet), while writes to
+ * different sheets proceed concurrently, up to the number of threads of the executor.</p>
+ *
+ * <p>If a request fails the write stops and its future fails with a {@link BulkRowWriteException} holding the
+ * results of the requests already applied.</p>
+ *
+ * <p>Thread Safety: This class is thread safe. The iterator of a write is read by the writer's threads and must not
+ * be used by the caller once submitted.</p>
+ */
+public class BulkRowWriter implements Closeable {
+
+    /** The default most rows per request. */
+    public static final int DEFAULT_MAX_ROWS_PER_REQUEST = 500;
+
+    /** The default most bytes of JSON per request. */
+    public static final long DEFAULT_MAX_BYTES_PER_REQUEST = 4 * 1024 * 1024;
+
+    /** The most row ids per delete request, which are sent in the URL. */
+    public static final int MAX_IDS_PER_DELETE = 400;
+
+    private final SheetRowResources rowResources;
+
+    /** Measures the size of rows: the client's serializer, which the rows are sent with. */
+    private final JsonSerializer serializer;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+
+    private volatile int maxRowsPerRequest = DEFAULT_MAX_ROWS_PER_REQUEST;
+    private volatile long maxBytesPerRequest = DEFAULT_MAX_BYTES_PER_REQUEST;
+
+    /** The lane of each sheet being written to. */
+    private final ConcurrentMap<Long, Lane> lanes = new ConcurrentHashMap<Long, Lane>();
+
+    /**
+     * Constructor, writing to up to parallelism sheets at once on threads of its own.
+     *
+     * @param rowResources the row resources of the client, i.e. {@code smartsheet.sheetResources().rowResources()}
+     * @param parallelism the most sheets written to at once
+     */
+    public BulkRowWriter(SheetRowResources rowResources, int parallelism) {
+        this(rowResources, Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "smartsheet-bulk-rows");
+                thread.setDaemon(true);
+                return thread;
+            }
+        }), true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rowResources the row resources of the client, i.e. {@code smartsheet.sheetResources().rowResources()}
+     * @param executor runs the requests; its number of threads bounds the sheets written to at once. An executor
+     *                 running each task on the calling thread makes every write complete before it is returned.
+     */
+    public BulkRowWriter(SheetRowResources rowResources, Executor executor) {
+        this(rowResources, executor, false);
+    }
+
+    private BulkRowWriter(SheetRowResources rowResources, Executor executor, boolean ownsExecutor) {
+        if (rowResources == null || executor == null) {
+            throw new IllegalArgumentException("rowResources and executor are required");
+        }
+        this.rowResources = rowResources;
+        this.serializer = rowResources instanceof AbstractResources ?
+                ((AbstractResources) rowResources).getJsonSerializer() : new JacksonJsonSerializer();
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Set the most rows sent in one add or update request.
+     *
+     * @param maxRowsPerRequest the most rows per request
+     * @return this writer
+     */
+    public BulkRowWriter setMaxRowsPerRequest(int maxRowsPerRequest) {
+        if (maxRowsPerRequest <= 0) {
+            throw new IllegalArgumentException("maxRowsPerRequest must be positive");
+        }
+        this.maxRowsPerRequest = maxRowsPerRequest;
+        return this;
+    }
+
+    /**
+     * Set the most bytes of JSON sent in one add or update request. A single row larger than this is sent alone.
+     *
+     * @param maxBytesPerRequest the most bytes per request
+     * @return this writer
+     */
+    public BulkRowWriter setMaxBytesPerRequest(long maxBytesPerRequest) {
+        if (maxBytesPerRequest <= 0) {
+            throw new IllegalArgumentException("maxBytesPerRequest must be positive");
+        }
+        this.maxBytesPerRequest = maxBytesPerRequest;
+        return this;
+    }
+
+    /**
+     * Add rows to a sheet.
+     *
+     * @param sheetId the id of the sheet
+     * @param rows the rows to add
+     * @return the added rows, in order
+     */
+    public Future<List<Row>> addRows(long sheetId, Iterable<Row> rows) {
+        return addRows(sheetId, rows.iterator());
+    }
+
+    /**
+     * Add rows to a sheet, reading them from the iterator as they are sent.
+     *
+     * @param sheetId the id of the sheet
+     * @param rows the rows to add
+     * @return the added rows, in order
+     */
+    public Future<List<Row>> addRows(final long sheetId, Iterator<Row> rows) {
+        return submit(sheetId, new RowWrite(rows) {
+            @Override
+            List<Row> send(List<Row> chunk) throws SmartsheetException {
+                return rowResources.addRows(sheetId, chunk);
+            }
+        });
+    }
+
+    /**
+     * Update rows of a sheet.
+     *
+     * @param sheetId the id of the sheet
+     * @param rows the rows to update
+     * @return the updated rows, in order
+     */
+    public Future<List<Row>> updateRows(long sheetId, Iterable<Row> rows) {
+        return updateRows(sheetId, rows.iterator());
+    }
+
+    /**
+     * Update rows of a sheet, reading them from the iterator as they are sent.
+     *
+     * @param sheetId the id of the sheet
+     * @param rows the rows to update
+     * @return the updated rows, in order
+     */
+    public Future<List<Row>> updateRows(final long sheetId, Iterator<Row> rows) {
+        return submit(sheetId, new RowWrite(rows) {
+            @Override
+            List<Row> send(List<Row> chunk) throws SmartsheetException {
+                return rowResources.updateRows(sheetId, chunk);
+            }
+        });
+    }
+
+    /**
+     * Delete rows of a sheet, {@link #MAX_IDS_PER_DELETE} at a time.
+     *
+     * @param sheetId the id of the sheet
+     * @param rowIds the ids of the rows to delete
+     * @param ignoreRowsNotFound true to ignore ids of rows that don't exist
+     * @return the ids of the deleted rows
+     */
+    public Future<List<Long>> deleteRows(final long sheetId, Iterable<Long> rowIds,
+                                         final boolean ignoreRowsNotFound) {
+        final Iterator<Long> ids = rowIds.iterator();
+        return submit(sheetId, new Callable<List<Long>>() {
+            @Override
+            public List<Long> call() throws SmartsheetException {
+                List<Long> deleted = new ArrayList<Long>();
+                while (ids.hasNext()) {
+                    Set<Long> chunk = new LinkedHashSet<Long>();
+                    while (ids.hasNext() && chunk.size() < MAX_IDS_PER_DELETE) {
+                        chunk.add(ids.next());
+                    }
+                    try {
+                        deleted.addAll(rowResources.deleteRows(sheetId, chunk, ignoreRowsNotFound));
+                    } catch (SmartsheetException e) {
+                        throw new BulkRowWriteException(deleted, e);
+                    }
+                }
+                return deleted;
+            }
+        });
+    }
+
+    /**
+     * Shut down the writer's own threads once the submitted writes are done. An executor passed to the constructor
+     * is left running.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private <T> Future<T> submit(long sheetId, Callable<T> write) {
+        FutureTask<T> task = new FutureTask<T>(write);
+        while (true) {
+            Lane lane = lanes.get(sheetId);
+            if (lane == null) {
+                Lane newLane = new Lane(sheetId);
+                lane = lanes.putIfAbsent(sheetId, newLane);
+                if (lane == null) {
+                    lane = newLane;
+                }
+            }
+            if (lane.add(task)) {
+                return task;
+            }
+        }
+    }
+
+    /**
+     * Sends the rows of an add or update in chunks, merging the results.
+     */
+    private abstract class RowWrite implements Callable<List<Row>> {
+        private final Iterator<Row> rows;
+
+        /** A row read from the iterator that didn't fit in the previous chunk, and its JSON and size. */
+        private Row pending;
+        private String pendingJson;
+        private long pendingBytes;
+
+        RowWrite(Iterator<Row> rows) {
+            this.rows = rows;
+        }
+
+        abstract List<Row> send(List<Row> chunk) throws SmartsheetException;
+
+        @Override
+        public List<Row> call() throws SmartsheetException {
+            List<Row> written = new ArrayList<Row>();
+            try {
+                List<Row> chunk;
+                while (!(chunk = nextChunk()).isEmpty()) {
+                    written.addAll(send(chunk));
+                }
+            } catch (SmartsheetException e) {
+                throw new BulkRowWriteException(written, e);
+            }
+            return written;
+        }
+
+        /**
+         * @return the next rows to send, together with their JSON so the client doesn't serialize them again
+         */
+        private List<Row> nextChunk() throws JSONSerializerException {
+            int maxRows = maxRowsPerRequest;
+            long maxBytes = maxBytesPerRequest;
+            SerializedList<Row> chunk = new SerializedList<Row>();
+            // the enclosing array and the separating commas
+            long bytes = 2;
+            while (chunk.size() < maxRows) {
+                if (pending == null) {
+                    if (!rows.hasNext()) {
+                        break;
+                    }
+                    pending = rows.next();
+                    serialize(pending);
+                }
+                if (!chunk.isEmpty() && bytes + pendingBytes > maxBytes) {
+                    break;
+                }
+                chunk.add(pending, pendingJson);
+                bytes += pendingBytes;
+                pending = null;
+                pendingJson = null;
+            }
+            return chunk;
+        }
+
+        private void serialize(Row row) throws JSONSerializerException {
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            serializer.serialize(row, json);
+            // plus its separating comma
+            pendingBytes = json.size() + 1;
+            try {
+                pendingJson = json.toString("UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Runs the writes to one sheet one after the other on the executor, taking a single thread at a time.
+     */
+    private final class Lane implements Runnable {
+        private final long sheetId;
+
+        /** The writes waiting, guarded by this. */
+        private final LinkedList<Runnable> writes = new LinkedList<Runnable>();
+
+        /** Whether the lane is running on the executor, guarded by this. */
+        private boolean running;
+
+        /** Whether the lane has been removed from the map and takes no more writes, guarded by this. */
+        private boolean retired;
+
+        Lane(long sheetId) {
+            this.sheetId = sheetId;
+        }
+
+        /**
+         * @return false if the lane is retired and the write must go to a new lane
+         */
+        synchronized boolean add(Runnable write) {
+            if (retired) {
+                return false;
+            }
+            writes.add(write);
+            if (!running) {
+                // set first, since an executor running on the calling thread retires the lane before returning
+                running = true;
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    running = false;
+                    writes.remove(write);
+                    throw e;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            Runnable write;
+            while ((write = next()) != null) {
+                write.run();
+            }
+        }
+
+        private synchronized Runnable next() {
+            Runnable write = writes.poll();
+            if (write == null) {
+                running = false;
+                retired = true;
+                lanes.remove(sheetId, this);
+            }
+            return write;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>The items of a paged list call, such as listSheets, listUsers or listShares, fetched one page at a time as they
+ * are iterated.</p>
+ *
+ * <p>While the items of a page are consumed the next page is fetched in the background, so the request overlaps the
+ * processing and at most two pages are held in memory. Each call to {@link #iterator()} starts again from the first
+ * page. If a page can't be fetched, {@link Iterator#hasNext()} throws a {@link SmartsheetRuntimeException}.</p>
+ *
+ * <p>Any list method taking {@link PaginationParameters} can be iterated this way, for example:</p>
+ * <pre>
+ * PagedIterable&lt;Share&gt; shares = new PagedIterable&lt;Share&gt;(new PagedIterable.PageFetcher&lt;Share&gt;() {
+ *     public PagedResult&lt;Share&gt; fetchPage(PaginationParameters pagination) throws SmartsheetException {
+ *         return smartsheet.sheetResources().shareResources().listShares(sheetId, pagination);
+ *     }
+ * }, 100);
+ * </pre>
+ *
+ * <p>For large listings whose pages are independent, {@link #forEachPage} and {@link #fetchAll} fetch several pages
+ * at once instead.</p>
+ *
+ * <p>Thread Safety: This class is thread safe; its iterators are not and are used by one thread.</p>
+ *
+ * @param <T> the type of the items
+ */
+public class PagedIterable<T> implements Iterable<T> {
+
+    /** Fetches the next pages of iterators that don't have their own executor. */
+    private static final ExecutorService DEFAULT_PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "smartsheet-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Fetches a page of the list.
+     *
+     * @param <T> the type of the items
+     */
+    public interface PageFetcher<T> {
+        /**
+         * @param pagination the page to fetch (never includeAll)
+         * @return the page
+         * @throws SmartsheetException if the page can't be fetched
+         */
+        PagedResult<T> fetchPage(PaginationParameters pagination) throws SmartsheetException;
+    }
+
+    private final PageFetcher<T> fetcher;
+    private final int pageSize;
+    private final ExecutorService prefetchExecutor;
+
+    /**
+     * Constructor, prefetching on a shared pool of daemon threads.
+     *
+     * @param fetcher fetches the pages
+     * @param pageSize the number of items per page
+     */
+    public PagedIterable(PageFetcher<T> fetcher, int pageSize) {
+        this(fetcher, pageSize, DEFAULT_PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param fetcher fetches the pages
+     * @param pageSize the number of items per page
+     * @param prefetchExecutor fetches the next page in the background, or null to fetch each page when it's reached
+     */
+    public PagedIterable(PageFetcher<T> fetcher, int pageSize, ExecutorService prefetchExecutor) {
+        if (fetcher == null || pageSize <= 0) {
+            throw new IllegalArgumentException("A fetcher and a positive page size are required");
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PageIterator();
+    }
+
+    /**
+     * Handles the pages fetched by {@link #forEachPage}.
+     *
+     * @param <T> the type of the items
+     */
+    public interface PageHandler<T> {
+        /**
+         * @param page the page
+         * @throws SmartsheetException to stop fetching
+         */
+        void handle(PagedResult<T> page) throws SmartsheetException;
+    }
+
+    /**
+     * Fetch every page, the first one alone to learn the number of pages and the rest concurrently, with up to
+     * parallelism requests in flight. Pages are handed to the handler on the calling thread, in page order or as
+     * they arrive. Requests still go through the client's rate and concurrency limiters, if any, so parallelism only
+     * bounds how far ahead of them the fetching gets.
+     *
+     * @param executor runs the requests, or null for a shared pool of daemon threads
+     * @param parallelism the most pages fetched at once
+     * @param ordered true to handle the pages in order, false to handle each one as soon as it arrives
+     * @param handler handles each page
+     * @throws SmartsheetException if a page can't be fetched or the handler fails; pages in flight are cancelled
+     */
+    public void forEachPage(ExecutorService executor, int parallelism, boolean ordered, PageHandler<T> handler)
+            throws SmartsheetException {
+        if (parallelism <= 0 || handler == null) {
+            throw new IllegalArgumentException("A handler and a positive parallelism are required");
+        }
+        ExecutorService pool = executor == null ? DEFAULT_PREFETCH_EXECUTOR : executor;
+
+        PagedResult<T> first = fetcher.fetchPage(new PaginationParameters(false, pageSize, 1));
+        int totalPages = first.getTotalPages() == null ? 1 : first.getTotalPages();
+        handler.handle(first);
+
+        int nextPage = 2;
+        LinkedList<Future<PagedResult<T>>> inFlight = new LinkedList<Future<PagedResult<T>>>();
+        // only unordered pages are taken from a completion queue; ordered ones are taken from inFlight, and queueing
+        // them too would keep every page fetched reachable until the end
+        CompletionService<PagedResult<T>> completed = ordered ? null
+                : new ExecutorCompletionService<PagedResult<T>>(pool);
+        try {
+            while (nextPage <= totalPages || !inFlight.isEmpty()) {
+                while (nextPage <= totalPages && inFlight.size() < parallelism) {
+                    Callable<PagedResult<T>> task = fetchTask(nextPage++);
+                    inFlight.add(ordered ? pool.submit(task) : completed.submit(task));
+                }
+                Future<PagedResult<T>> done;
+                if (ordered) {
+                    done = inFlight.removeFirst();
+                } else {
+                    done = completed.take();
+                    inFlight.remove(done);
+                }
+                handler.handle(getPage(done));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException("Interrupted while fetching pages.", e);
+        } finally {
+            for (Future<PagedResult<T>> future : inFlight) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Fetch every item, several pages at a time (see {@link #forEachPage}).
+     *
+     * @param executor runs the requests, or null for a shared pool of daemon threads
+     * @param parallelism the most pages fetched at once
+     * @return the items, in order
+     * @throws SmartsheetException if a page can't be fetched
+     */
+    public List<T> fetchAll(ExecutorService executor, int parallelism) throws SmartsheetException {
+        final List<T> items = new ArrayList<T>();
+        forEachPage(executor, parallelism, true, new PageHandler<T>() {
+            @Override
+            public void handle(PagedResult<T> page) {
+                if (page.getData() != null) {
+                    items.addAll(page.getData());
+                }
+            }
+        });
+        return items;
+    }
+
+    private Callable<PagedResult<T>> fetchTask(final int page) {
+        return new Callable<PagedResult<T>>() {
+            @Override
+            public PagedResult<T> call() throws SmartsheetException {
+                return fetcher.fetchPage(new PaginationParameters(false, pageSize, page));
+            }
+        };
+    }
+
+    private static <T> PagedResult<T> getPage(Future<PagedResult<T>> future) throws SmartsheetException,
+            InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SmartsheetException) {
+                throw (SmartsheetException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SmartsheetException(cause.getMessage(), cause);
+        }
+    }
+
+    private class PageIterator implements Iterator<T> {
+        /** The items of the current page. */
+        private Iterator<T> items = Collections.<T>emptyList().iterator();
+
+        /** The number of the next page, 0 once there is none. */
+        private int nextPage = 1;
+
+        /** The next page, fetched in the background, or null if it is fetched when needed. */
+        private Future<PagedResult<T>> prefetched;
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext()) {
+                if (nextPage == 0) {
+                    return false;
+                }
+                PagedResult<T> page = takeNextPage();
+                List<T> data = page.getData();
+                if (data == null || data.isEmpty()) {
+                    nextPage = 0;
+                    return false;
+                }
+                Integer totalPages = page.getTotalPages();
+                boolean last = totalPages != null ? nextPage >= totalPages : data.size() < pageSize;
+                nextPage = last ? 0 : nextPage + 1;
+                items = data.iterator();
+                if (nextPage != 0 && prefetchExecutor != null) {
+                    prefetched = prefetchExecutor.submit(fetchTask(nextPage));
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private PagedResult<T> takeNextPage() {
+            try {
+                if (prefetched == null) {
+                    return fetchTask(nextPage).call();
+                }
+                Future<PagedResult<T>> future = prefetched;
+                prefetched = null;
+                return future.get();
+            } catch (ExecutionException e) {
+                throw unwrap(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmartsheetRuntimeException(new SmartsheetException("Interrupted while fetching a page.", e));
+            } catch (Exception e) {
+                throw unwrap(e);
+            }
+        }
+
+        private RuntimeException unwrap(Throwable cause) {
+            if (cause instanceof SmartsheetException) {
+                return new SmartsheetRuntimeException((SmartsheetException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return new SmartsheetRuntimeException(new SmartsheetException(cause.getMessage(), cause));
+        }
+    }
+}
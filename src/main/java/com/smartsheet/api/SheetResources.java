@@ -28,6 +28,7 @@ import java.io.OutputStream;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 /**
  * <p>This interface provides methods to access Sheet resources.</p>
@@ -54,6 +55,19 @@ public interface SheetResources {
      */
     public PagedResult<Sheet> listSheets(EnumSet<SourceInclusion> includes, PaginationParameters pagination, Date modifiedSince) throws SmartsheetException;
 
+    /**
+     * <p>Iterate over all sheets, fetching them a page at a time (the next page in the background) as they are
+     * iterated.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheets</p>
+     *
+     * @param includes the source inclusion
+     * @param modifiedSince restrict results to sheets modified on or after this date
+     * @param pageSize the number of sheets per request
+     * @return the sheets; iterating throws a {@link SmartsheetRuntimeException} if a page can't be fetched
+     */
+    public PagedIterable<Sheet> iterateSheets(EnumSet<SourceInclusion> includes, Date modifiedSince, int pageSize);
+
     /**
      * <p>List all sheets.</p>
      *
@@ -94,6 +108,12 @@ public interface SheetResources {
      *
      * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
      *
+     * <p>With a {@link com.smartsheet.api.internal.SheetCache} set (see SmartsheetBuilder.setSheetCache), the sheet
+     * returned may be the cached instance, shared with every other caller, so it must not be modified (e.g. with
+     * {@code trackChanges()} and edits to its rows); a call passing ifVersionAfter bypasses the cache and returns a
+     * sheet of the caller's own. Rows, columns and cells changed through this client drop the sheet from the cache
+     * once the change is made.</p>
+     *
      * @param id the id of the sheet
      * @param includes used to specify the optional objects to include.
      * @param columnIds the column ids
@@ -125,6 +145,12 @@ public interface SheetResources {
      *
      * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
      *
+     * <p>With a {@link com.smartsheet.api.internal.SheetCache} set (see SmartsheetBuilder.setSheetCache), the sheet
+     * returned may be the cached instance, shared with every other caller, so it must not be modified (e.g. with
+     * {@code trackChanges()} and edits to its rows); a call passing ifVersionAfter bypasses the cache and returns a
+     * sheet of the caller's own. Rows, columns and cells changed through this client drop the sheet from the cache
+     * once the change is made.</p>
+     *
      * @param id the id of the sheet
      * @param includes used to specify the optional objects to include.
      * @param columnIds the column ids
@@ -158,6 +184,12 @@ public interface SheetResources {
      *
      * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
      *
+     * <p>With a {@link com.smartsheet.api.internal.SheetCache} set (see SmartsheetBuilder.setSheetCache), the sheet
+     * returned may be the cached instance, shared with every other caller, so it must not be modified (e.g. with
+     * {@code trackChanges()} and edits to its rows); a call passing ifVersionAfter bypasses the cache and returns a
+     * sheet of the caller's own. Rows, columns and cells changed through this client drop the sheet from the cache
+     * once the change is made.</p>
+     *
      * @param id the id of the sheet
      * @param includes used to specify the optional objects to include.
      * @param columnIds the column ids
@@ -188,6 +220,108 @@ public interface SheetResources {
                           Integer ifVersionAfter,
                           Integer level) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet, reading its rows one at a time as they are iterated instead of holding them all in memory.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The returned sheet keeps its connection open until every row has been read or it is closed.</p>
+     *
+     * @param id the id of the sheet
+     * @return the streaming sheet (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public StreamingSheet streamSheet(long id) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet, reading its rows one at a time as they are iterated instead of holding them all in memory.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The returned sheet keeps its connection open until every row has been read or it is closed.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param level compatibility level
+     * @return the streaming sheet (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public StreamingSheet streamSheet(long id,
+                                      EnumSet<SheetInclusion> includes,
+                                      EnumSet<ObjectExclusion> excludes,
+                                      Set<Long> rowIds,
+                                      Set<Integer> rowNumbers,
+                                      Set<Long> columnIds,
+                                      Integer pageSize,
+                                      Integer page,
+                                      Integer level) throws SmartsheetException;
+
+    /**
+     * <p>Get a large sheet a page of rows at a time, fetching the pages concurrently.</p>
+     *
+     * <p>The first page gives the sheet's attributes and totalRowCount; the other pages are then fetched with up to
+     * parallelism requests in flight and merged, in row order, into the returned sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param pageSize the number of rows per request
+     * @param executor runs the requests, or null for a shared pool of daemon threads
+     * @param parallelism the most pages fetched at once
+     * @return the sheet with all of its rows
+     * @throws IllegalArgumentException if pageSize or parallelism isn't positive
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if the sheet changed while its pages were fetched, or there is any other error
+     */
+    public Sheet loadSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, int pageSize,
+                           ExecutorService executor, int parallelism) throws SmartsheetException;
+
+    /**
+     * <p>Get a large sheet a page of rows at a time, fetching the pages concurrently and handing them to a handler
+     * in row order instead of keeping them.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param pageSize the number of rows per request
+     * @param executor runs the requests, or null for a shared pool of daemon threads
+     * @param parallelism the most pages fetched at once
+     * @param rowPages handles each page of rows, on the calling thread
+     * @return the sheet's attributes, without rows
+     * @throws IllegalArgumentException if pageSize or parallelism isn't positive
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if the sheet changed while its pages were fetched, or there is any other error
+     */
+    public Sheet loadSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, int pageSize,
+                           ExecutorService executor, int parallelism, PagedIterable.PageHandler<Row> rowPages)
+            throws SmartsheetException;
+
     /**
      * <p>Get a sheet as an Excel file.</p>
      *
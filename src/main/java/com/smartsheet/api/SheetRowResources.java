@@ -74,6 +74,27 @@ public interface SheetRowResources {
      */
     public List<Row> addRows(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes ) throws SmartsheetException;
 
+    /**
+     * <p>Insert rows to a sheet, serializing them as the request is sent instead of into memory first.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /sheets/{id}/rows</p>
+     *
+     * <p>The rows may be produced lazily (e.g. read from a file as they are iterated), so the request body never has
+     * to be held in memory; it is sent chunked, without a Content-Length. If the request is retried the rows are iterated again, so each call to
+     * {@code rows.iterator()} must return the same rows.</p>
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows to create
+     * @return the list of created rows
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public List<Row> addRowsFrom(long sheetId, Iterable<Row> rows) throws SmartsheetException;
+
     /**
      * <p>Insert rows to a sheet, allowing partial success. If a row cannot be inserted, it will fail, while the others may succeed..</p>
      *
@@ -216,6 +237,43 @@ public interface SheetRowResources {
      */
     public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) throws SmartsheetException;
 
+    /**
+     * <p>Make the rows of a sheet match the given rows, matching them on the value of a key column.</p>
+     *
+     * <p>Only the key column and the columns of the given cells are fetched. A given row whose key isn't in the sheet
+     * is added; a row in the sheet whose key is given is updated with just the cells whose value or formula differs
+     * (numbers compare by value, so 5 matches 5.0, while strings compare exactly, so "007" matches neither "7" nor
+     * 7; cells setting a hyperlink, cell link, object value or image are always sent); rows already matching are
+     * left alone. With deleteMissing, rows of the sheet whose key isn't among the given rows are deleted; rows with
+     * an empty key are never touched.</p>
+     *
+     * <p>If the sheet has several rows with the same key, only the first is matched. With deleteMissing the others
+     * are deleted, so the sheet ends up with one row per key; without it they are left alone.</p>
+     *
+     * <p>The changes are sent in batches (see {@link BulkRowWriter}): all the adds, then the updates, then the
+     * deletes, each phase starting only once the previous one succeeded. If a batch fails nothing after it is sent,
+     * and the {@link BulkRowWriteException} holds everything applied before it: the rows added, the rows updated and
+     * the ids of the rows deleted, in that order.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API methods: GET /sheets/{sheetId}, POST, PUT and DELETE
+     * /sheets/{sheetId}/rows</p>
+     *
+     * @param sheetId the sheet id
+     * @param keyColumnId the id of the column identifying rows
+     * @param rows the rows the sheet should contain, each with a value in the key column
+     * @param deleteMissing whether to delete the rows whose key isn't among the given rows
+     * @return the changes made
+     * @throws IllegalArgumentException if a row has no key, two rows have the same key or a cell has no column id
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws BulkRowWriteException if a batch fails, holding the results of the batches already sent
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public RowUpsertResult upsertRows(long sheetId, long keyColumnId, List<Row> rows, boolean deleteMissing)
+            throws SmartsheetException;
+
     /**
      * <p>Update rows.</p>
      *
@@ -258,6 +316,26 @@ public interface SheetRowResources {
      */
     public List<Row> updateRows(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) throws SmartsheetException;
 
+    /**
+     * <p>Update rows, serializing them as the request is sent instead of into memory first.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: PUT /sheets/{id}/rows</p>
+     *
+     * <p>If the request is retried the rows are iterated again, so each call to {@code rows.iterator()} must return
+     * the same rows.</p>
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows to update
+     * @return the list of updated rows
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public List<Row> updateRowsFrom(long sheetId, Iterable<Row> rows) throws SmartsheetException;
+
     /**
      * <p>Update rows, but allow partial success. The PartialRowUpdateResult will contain the successful
      * rows and those that failed, with specific messages for each.</p>
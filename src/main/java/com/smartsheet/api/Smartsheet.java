@@ -20,6 +20,8 @@ package com.smartsheet.api;
  * %[license]
  */
 
+import com.smartsheet.api.async.AsyncSmartsheet;
+
 /**
  * <p>This interface is the entry point of the Smartsheet SDK, it provides convenient methods to get XXXResources instances
  * for accessing different types of resources.</p>
@@ -204,4 +206,14 @@ public interface Smartsheet {
      * @return the event resources instance
      */
     public EventResources eventResources();
+
+    /**
+     * <p>Returns the asynchronous view of this Smartsheet client, whose resources methods return a future instead of
+     * blocking until the response arrives. It shares this client's settings (access token, assumed user, etc.) and
+     * HTTP client. Unless the builder is given pool settings, asynchronous requests use a pool of up to 200
+     * connections, so that many can be in flight at once.</p>
+     *
+     * @return the asynchronous client
+     */
+    public AsyncSmartsheet async();
 }
@@ -23,8 +23,16 @@ package com.smartsheet.api;
 
 
 import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.SheetCache;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
+import com.smartsheet.api.internal.http.RateLimiter;
+import com.smartsheet.api.internal.http.ResponseCache;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
 
 /**
  * <p>A convenience class to help create a {@link Smartsheet} instance with the appropriate fields.</p>
@@ -82,6 +90,76 @@ public class SmartsheetBuilder {
      */
     private String changeAgent;
 
+    /**
+     * <p>Represents a connection manager shared with other clients.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private HttpClientConnectionManager connectionManager;
+
+    /**
+     * <p>Represents the maximum number of pooled connections.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private Integer maxConnections;
+
+    /**
+     * <p>Represents the maximum number of pooled connections per route.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private Integer maxConnectionsPerRoute;
+
+    /**
+     * <p>Represents how long idle connections are kept alive when the server doesn't specify it.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private Long keepAliveMillis;
+
+    /**
+     * <p>Represents how long a connection may stay idle in the pool before it is evicted.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private Long idleConnectionTimeoutMillis;
+
+    /**
+     * <p>Represents the rate limiter that paces requests.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private RateLimiter rateLimiter;
+
+    /**
+     * <p>Represents the adaptive limiter on the number of requests in flight.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * <p>Represents the cache getSheet serves sheets from.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private SheetCache sheetCache;
+
+    /**
+     * <p>Represents the disk cache for metadata GET requests.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private ResponseCache responseCache;
+
+    /**
+     * <p>Represents whether identical concurrent GET requests are coalesced.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private boolean coalesceRequests;
+
     /**
      * <p>Represents the default base URI of the Smartsheet REST API.</p>
      *
@@ -183,6 +261,154 @@ public class SmartsheetBuilder {
         return this;
     }
 
+    /**
+     * <p>Set a connection manager (typically a PoolingHttpClientConnectionManager) to share between clients.</p>
+     *
+     * <p>This setting is ignored when an HttpClient is set. The connection manager is not shut down when the
+     * Smartsheet instance is closed, and the connection limits and idle eviction of this builder don't apply to it.</p>
+     *
+     * @param connectionManager the connection manager
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConnectionManager(HttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of pooled connections.</p>
+     *
+     * <p>This setting is ignored when an HttpClient is set. It also applies to the separate pool used for asynchronous
+     * requests (which otherwise allows 200 connections, see DefaultHttpClient.DEFAULT_ASYNC_MAX_CONNECTIONS), but
+     * not to a shared connection manager.</p>
+     *
+     * @param maxConnections the maximum number of connections
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of pooled connections per route. Since all requests go to the same host this is
+     * effectively the number of threads that can have a request in flight at the same time.</p>
+     *
+     * <p>This setting is ignored when an HttpClient is set. It also applies to the separate pool used for asynchronous
+     * requests (which otherwise allows 200 per route, see DefaultHttpClient.DEFAULT_ASYNC_MAX_CONNECTIONS_PER_ROUTE),
+     * but not to a shared connection manager.</p>
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections per route
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    /**
+     * <p>Set how long idle connections are kept alive when the server response doesn't specify it.</p>
+     *
+     * <p>This setting is ignored when an HttpClient is set.</p>
+     *
+     * @param keepAliveMillis the keep-alive duration in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+        return this;
+    }
+
+    /**
+     * <p>Set how long a connection may stay idle in the pool before it is evicted.</p>
+     *
+     * <p>This setting is ignored when an HttpClient or a connection manager is set.</p>
+     *
+     * @param idleConnectionTimeoutMillis the idle timeout in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setIdleConnectionTimeoutMillis(long idleConnectionTimeoutMillis) {
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * <p>Set a client-side rate limiter, which paces requests per access token so that they stay under the Smartsheet
+     * rate limit instead of being rejected with error 4003 and retried. For example
+     * {@code setRateLimiter(new RateLimiter(RateLimiter.DEFAULT_REQUESTS_PER_MINUTE))}. A single limiter may be
+     * shared by several clients.</p>
+     *
+     * <p>It is only supported by DefaultHttpClient and AndroidHttpClient.</p>
+     *
+     * @param rateLimiter the rate limiter
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set an adaptive concurrency limiter, which caps the number of requests in flight and adjusts the cap to the
+     * server: it grows while latency is stable and halves on 4002/4003/503 responses or latency spikes. Its
+     * {@code getLimit()} shows where the cap has converged.</p>
+     *
+     * <p>It is only supported by DefaultHttpClient and AndroidHttpClient.</p>
+     *
+     * @param concurrencyLimiter the concurrency limiter
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set a cache for getSheet. Sheets fetched again within the cache's staleness limit are served from memory,
+     * and stale ones are revalidated with ifVersionAfter so that unchanged sheets aren't downloaded again.</p>
+     *
+     * <p>Cached sheets are shared between callers and must not be modified, not even to edit rows and send them back
+     * with updateRows; get a sheet to edit with getSheet and ifVersionAfter, which bypasses the cache. Writes made
+     * through this client to a sheet's rows, columns or cells (or any other request changing the sheet) drop its
+     * cached copies.</p>
+     *
+     * @param sheetCache the sheet cache
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setSheetCache(SheetCache sheetCache) {
+        this.sheetCache = sheetCache;
+        return this;
+    }
+
+    /**
+     * <p>Set a disk cache for GET requests, such as listColumns, getFolder or getServerInfo, that rarely change. For
+     * example {@code setResponseCache(new ResponseCache(dir, 50 << 20).addRule(ResponseCache.METADATA_PATHS,
+     * 3600000, 86400000))} serves them from disk for an hour, then for a day more while refreshing them in the
+     * background.</p>
+     *
+     * <p>It is only supported by DefaultHttpClient and AndroidHttpClient.</p>
+     *
+     * @param responseCache the response cache
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    /**
+     * <p>Coalesce identical GET requests (same URI, access token, assumed user and result type) made at the same
+     * time from several threads: one request is sent and every caller gets its result, or its exception. This cuts
+     * bursts, such as many threads reading the same sheet after a webhook fires, to a single API call. Callers
+     * getting a shared result must not modify it.</p>
+     *
+     * @param coalesceRequests true to coalesce identical requests
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+        return this;
+    }
 
     /**
      * <p>Gets the http client.</p>
@@ -229,6 +455,15 @@ public class SmartsheetBuilder {
         return assumedUser;
     }
 
+    /**
+     * <p>Gets the shared connection manager.</p>
+     *
+     * @return the connection manager
+     */
+    public HttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
     /**
      * <p>Gets the default base uri.</p>
      *
@@ -262,12 +497,47 @@ public class SmartsheetBuilder {
             accessToken = System.getenv("SMARTSHEET_ACCESS_TOKEN");
         }
 
-        SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, httpClient, jsonSerializer);
+        HttpClient client = httpClient;
+        JsonSerializer serializer = jsonSerializer;
+        if (client == null && usesConnectionPool()) {
+            if (serializer == null) {
+                serializer = new JacksonJsonSerializer();
+            }
+            client = new DefaultHttpClient(createPooledHttpClient(), DefaultHttpClient.createPooledHttpAsyncClient(
+                    maxConnections, maxConnectionsPerRoute, keepAliveMillis), serializer);
+        }
+
+        SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, client, serializer);
 
         if (changeAgent != null) { smartsheet.setChangeAgent(changeAgent); }
         if (assumedUser != null) { smartsheet.setAssumedUser(assumedUser); }
         if (maxRetryTimeMillis != null) { smartsheet.setMaxRetryTimeMillis(maxRetryTimeMillis); }
+        if (rateLimiter != null) { smartsheet.setRateLimiter(rateLimiter); }
+        if (concurrencyLimiter != null) { smartsheet.setConcurrencyLimiter(concurrencyLimiter); }
+        if (sheetCache != null) { smartsheet.setSheetCache(sheetCache); }
+        if (responseCache != null) { smartsheet.setResponseCache(responseCache); }
+        if (coalesceRequests) { smartsheet.setCoalesceRequests(true); }
 
         return smartsheet;
     }
+
+    /**
+     * @return true if any connection pool setting was configured
+     */
+    private boolean usesConnectionPool() {
+        return connectionManager != null || maxConnections != null || maxConnectionsPerRoute != null ||
+                keepAliveMillis != null || idleConnectionTimeoutMillis != null;
+    }
+
+    /**
+     * @return an Apache http client backed by the configured (or a new) connection pool
+     */
+    private CloseableHttpClient createPooledHttpClient() {
+        if (connectionManager != null) {
+            return DefaultHttpClient.createPooledHttpClient(connectionManager, true, keepAliveMillis, null);
+        }
+        return DefaultHttpClient.createPooledHttpClient(
+                DefaultHttpClient.createConnectionManager(maxConnections, maxConnectionsPerRoute), false,
+                keepAliveMillis, idleConnectionTimeoutMillis);
+    }
 }
@@ -0,0 +1,53 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+/**
+ * <p>Unchecked wrapper for a {@link SmartsheetException}, thrown where the checked exception can't be declared (for
+ * example from {@link java.util.Iterator#next()} while rows are being streamed).</p>
+ *
+ * <p>Thread safety: Exceptions are not thread safe.</p>
+ */
+public class SmartsheetRuntimeException extends RuntimeException {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * <p>Constructor.</p>
+     *
+     * @param cause the checked exception being wrapped
+     */
+    public SmartsheetRuntimeException(SmartsheetException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * <p>Gets the wrapped exception.</p>
+     *
+     * @return the smartsheet exception
+     */
+    @Override
+    public synchronized SmartsheetException getCause() {
+        return (SmartsheetException) super.getCause();
+    }
+}
@@ -0,0 +1,55 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * <p>A sheet whose rows are read one at a time from the response of GET /sheets/{id} rather than all being held in
+ * memory, as returned by {@link SheetResources#streamSheet(long)}.</p>
+ *
+ * <p>Each call to {@link #next()} parses the next row from the connection; rows are not retained, so memory use does
+ * not grow with the size of the sheet. Iteration can only be done once. The connection is released when the last row
+ * has been read or when the sheet is closed, whichever comes first; callers that stop early must call
+ * {@link #close()}. If reading fails, {@link #hasNext()} and {@link #next()} throw a
+ * {@link SmartsheetRuntimeException} and the sheet is closed.</p>
+ *
+ * <p>{@link #remove()} is not supported.</p>
+ *
+ * <p>Thread Safety: Implementations of this interface are not thread safe; a streaming sheet is read by one thread.</p>
+ */
+public interface StreamingSheet extends Iterator<Row>, Closeable {
+
+    /**
+     * <p>Get the sheet's attributes (columns, name, version, etc.).</p>
+     *
+     * <p>Its rows are null; they are available through this iterator. Attributes the server sends after the rows are
+     * only set once every row has been read.</p>
+     *
+     * @return the sheet
+     */
+    public Sheet getSheet();
+}
@@ -90,6 +90,19 @@ public interface UserResources {
     public PagedResult<User> listUsers(Set<String> email, EnumSet<ListUserInclusion> includes,
                                        PaginationParameters pagination) throws SmartsheetException;
 
+    /**
+     * <p>Iterate over all users, fetching them a page at a time (the next page in the background) as they are
+     * iterated.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /users</p>
+     *
+     * @param email the list of email addresses
+     * @param includes elements to include in response
+     * @param pageSize the number of users per request
+     * @return the users; iterating throws a {@link SmartsheetRuntimeException} if a page can't be fetched
+     */
+    public PagedIterable<User> iterateUsers(Set<String> email, EnumSet<ListUserInclusion> includes, int pageSize);
+
     /**
      * <p>Add a user to the organization, without sending email.</p>
      *
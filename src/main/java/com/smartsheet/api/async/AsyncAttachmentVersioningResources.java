@@ -0,0 +1,65 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AttachmentVersioningResources;
+import com.smartsheet.api.models.Attachment;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.io.File;
+
+/**
+ * <p>Asynchronous counterpart of {@link AttachmentVersioningResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncAttachmentVersioningResources {
+    /**
+     * Asynchronous version of {@link AttachmentVersioningResources#deleteAllVersions(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param attachentId the attachent id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteAllVersions(long sheetId, long attachentId);
+
+    /**
+     * Asynchronous version of {@link AttachmentVersioningResources#listAllVersions(long, long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param attachmentId the attachment id
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Attachment>> listAllVersions(long sheetId, long attachmentId, PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link AttachmentVersioningResources#attachNewVersion(long, long, File, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param attachmentId the attachment id
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachNewVersion(long sheetId, long attachmentId, File file, String contentType);
+}
@@ -0,0 +1,68 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.CommentAttachmentResources;
+import com.smartsheet.api.models.Attachment;
+
+import java.io.File;
+import java.io.InputStream;
+
+/**
+ * <p>Asynchronous counterpart of {@link CommentAttachmentResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncCommentAttachmentResources {
+    /**
+     * Asynchronous version of {@link CommentAttachmentResources#attachUrl(long, long, Attachment)}.
+     *
+     * @param sheetId the sheet id
+     * @param commentId the comment id
+     * @param attachment the attachment
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachUrl(long sheetId, long commentId, Attachment attachment);
+
+    /**
+     * Asynchronous version of {@link CommentAttachmentResources#attachFile(long, long, File, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param commentId the comment id
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachFile(long sheetId, long commentId, File file, String contentType);
+
+    /**
+     * Asynchronous version of {@link CommentAttachmentResources#attachFile(long, long, InputStream, String, long, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param commentId the comment id
+     * @param inputStream the input stream
+     * @param contentType the content type
+     * @param contentLength the content length
+     * @param attachmentName the attachment name
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachFile(long sheetId, long commentId, InputStream inputStream, String contentType, long contentLength, String attachmentName);
+}
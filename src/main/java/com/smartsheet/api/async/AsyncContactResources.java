@@ -0,0 +1,49 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.ContactResources;
+import com.smartsheet.api.models.Contact;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+/**
+ * <p>Asynchronous counterpart of {@link ContactResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncContactResources {
+    /**
+     * Asynchronous version of {@link ContactResources#getContact(String)}.
+     *
+     * @param contactId the contact id
+     * @return the future result
+     */
+    public SmartsheetFuture<Contact> getContact(String contactId);
+
+    /**
+     * Asynchronous version of {@link ContactResources#listContacts(PaginationParameters)}.
+     *
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Contact>> listContacts(PaginationParameters parameters);
+}
@@ -0,0 +1,64 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.DiscussionCommentResources;
+import com.smartsheet.api.models.Comment;
+
+import java.io.File;
+
+/**
+ * <p>Asynchronous counterpart of {@link DiscussionCommentResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncDiscussionCommentResources {
+    /**
+     * Asynchronous version of {@link DiscussionCommentResources#addComment(long, long, Comment)}.
+     *
+     * @param sheetId the sheet id
+     * @param discussionId the discussion id
+     * @param comment the comment
+     * @return the future result
+     */
+    public SmartsheetFuture<Comment> addComment(long sheetId, long discussionId, Comment comment);
+
+    /**
+     * Asynchronous version of {@link DiscussionCommentResources#addCommentWithAttachment(long, long, Comment, File, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param discussionId the discussion id
+     * @param comment the comment
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Comment> addCommentWithAttachment(long sheetId, long discussionId, Comment comment, File file, String contentType);
+
+    /**
+     * Asynchronous version of {@link DiscussionCommentResources#updateComment(long, Comment)}.
+     *
+     * @param sheetId the sheet id
+     * @param comment the comment
+     * @return the future result
+     */
+    public SmartsheetFuture<Comment> updateComment(long sheetId, Comment comment);
+}
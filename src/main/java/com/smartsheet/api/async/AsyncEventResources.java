@@ -0,0 +1,42 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.EventResources;
+import com.smartsheet.api.models.*;
+
+/**
+ * <p>Asynchronous counterpart of {@link EventResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncEventResources {
+    /**
+     * Asynchronous version of {@link EventResources#listEvents(Object, String, Integer, Boolean)}.
+     *
+     * @param since the since
+     * @param streamPosition the stream position
+     * @param maxCount the max count
+     * @param numericDates the numeric dates
+     * @return the future result
+     */
+    public SmartsheetFuture<EventResult> listEvents(Object since, String streamPosition, Integer maxCount, Boolean numericDates);
+}
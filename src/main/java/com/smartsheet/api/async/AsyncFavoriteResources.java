@@ -0,0 +1,62 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.FavoriteResources;
+import com.smartsheet.api.models.Favorite;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.FavoriteType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Asynchronous counterpart of {@link FavoriteResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncFavoriteResources {
+    /**
+     * Asynchronous version of {@link FavoriteResources#addFavorites(List)}.
+     *
+     * @param favorites the favorites
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Favorite>> addFavorites(List<Favorite> favorites);
+
+    /**
+     * Asynchronous version of {@link FavoriteResources#listFavorites(PaginationParameters)}.
+     *
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Favorite>> listFavorites(PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link FavoriteResources#removeFavorites(FavoriteType, Set)}.
+     *
+     * @param favoriteType the favorite type
+     * @param objectIds the object ids
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> removeFavorites(FavoriteType favoriteType, Set<Long> objectIds);
+}
@@ -0,0 +1,102 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.FolderResources;
+import com.smartsheet.api.models.ContainerDestination;
+import com.smartsheet.api.models.Folder;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.FolderCopyInclusion;
+import com.smartsheet.api.models.enums.FolderRemapExclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link FolderResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncFolderResources {
+    /**
+     * Asynchronous version of {@link FolderResources#getFolder(long, EnumSet)}.
+     *
+     * @param folderId the folder id
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Folder> getFolder(long folderId, EnumSet<SourceInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link FolderResources#updateFolder(Folder)}.
+     *
+     * @param folder the folder
+     * @return the future result
+     */
+    public SmartsheetFuture<Folder> updateFolder(Folder folder);
+
+    /**
+     * Asynchronous version of {@link FolderResources#deleteFolder(long)}.
+     *
+     * @param folderId the folder id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteFolder(long folderId);
+
+    /**
+     * Asynchronous version of {@link FolderResources#listFolders(long, PaginationParameters)}.
+     *
+     * @param parentFolderId the parent folder id
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Folder>> listFolders(long parentFolderId, PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link FolderResources#createFolder(long, Folder)}.
+     *
+     * @param parentFolderId the parent folder id
+     * @param folder the folder
+     * @return the future result
+     */
+    public SmartsheetFuture<Folder> createFolder(long parentFolderId, Folder folder);
+
+    /**
+     * Asynchronous version of {@link FolderResources#copyFolder(long, ContainerDestination, EnumSet, EnumSet)}.
+     *
+     * @param folderId the folder id
+     * @param containerDestination the container destination
+     * @param includes the includes
+     * @param skipRemap the skip remap
+     * @return the future result
+     */
+    public SmartsheetFuture<Folder> copyFolder(long folderId, ContainerDestination containerDestination, EnumSet<FolderCopyInclusion> includes, EnumSet<FolderRemapExclusion> skipRemap);
+
+    /**
+     * Asynchronous version of {@link FolderResources#moveFolder(long, ContainerDestination)}.
+     *
+     * @param folderId the folder id
+     * @param containerDestination the container destination
+     * @return the future result
+     */
+    public SmartsheetFuture<Folder> moveFolder(long folderId, ContainerDestination containerDestination);
+}
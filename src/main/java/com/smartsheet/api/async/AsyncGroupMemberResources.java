@@ -0,0 +1,51 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.GroupMemberResources;
+import com.smartsheet.api.models.GroupMember;
+
+import java.util.List;
+
+/**
+ * <p>Asynchronous counterpart of {@link GroupMemberResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncGroupMemberResources {
+    /**
+     * Asynchronous version of {@link GroupMemberResources#addGroupMembers(long, List)}.
+     *
+     * @param groupId the group id
+     * @param members the members
+     * @return the future result
+     */
+    public SmartsheetFuture<List<GroupMember>> addGroupMembers(long groupId, List<GroupMember> members);
+
+    /**
+     * Asynchronous version of {@link GroupMemberResources#deleteGroupMember(long, long)}.
+     *
+     * @param groupId the group id
+     * @param userId the user id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteGroupMember(long groupId, long userId);
+}
@@ -0,0 +1,80 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.GroupResources;
+import com.smartsheet.api.models.Group;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+/**
+ * <p>Asynchronous counterpart of {@link GroupResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncGroupResources {
+    /**
+     * Asynchronous version of {@link GroupResources#listGroups(PaginationParameters)}.
+     *
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Group>> listGroups(PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link GroupResources#getGroup(long)}.
+     *
+     * @param groupId the group id
+     * @return the future result
+     */
+    public SmartsheetFuture<Group> getGroup(long groupId);
+
+    /**
+     * Asynchronous version of {@link GroupResources#createGroup(Group)}.
+     *
+     * @param group the group
+     * @return the future result
+     */
+    public SmartsheetFuture<Group> createGroup(Group group);
+
+    /**
+     * Asynchronous version of {@link GroupResources#updateGroup(Group)}.
+     *
+     * @param group the group
+     * @return the future result
+     */
+    public SmartsheetFuture<Group> updateGroup(Group group);
+
+    /**
+     * Asynchronous version of {@link GroupResources#deleteGroup(long)}.
+     *
+     * @param groupId the group id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteGroup(long groupId);
+
+    /**
+     * Asynchronous version of {@link GroupResources#memberResources()}.
+     *
+     * @return the group member resources
+     */
+    public AsyncGroupMemberResources memberResources();
+}
@@ -0,0 +1,59 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.HomeResources;
+import com.smartsheet.api.models.Home;
+import com.smartsheet.api.models.enums.SourceExclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link HomeResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncHomeResources {
+    /**
+     * Asynchronous version of {@link HomeResources#getHome(EnumSet)}.
+     *
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Home> getHome(EnumSet<SourceInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link HomeResources#getHome(EnumSet, EnumSet)}.
+     *
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<Home> getHome(EnumSet<SourceInclusion> includes, EnumSet<SourceExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link HomeResources#folderResources()}.
+     *
+     * @return the home folder resources
+     */
+    public AsyncHomeFolderResources folderResources();
+}
@@ -0,0 +1,69 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.PassthroughResources;
+
+import java.util.HashMap;
+
+/**
+ * <p>Asynchronous counterpart of {@link PassthroughResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncPassthroughResources {
+    /**
+     * Asynchronous version of {@link PassthroughResources#getRequest(String, HashMap)}.
+     *
+     * @param endpoint the endpoint
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<String> getRequest(String endpoint, HashMap<String, Object> parameters);
+
+    /**
+     * Asynchronous version of {@link PassthroughResources#postRequest(String, String, HashMap)}.
+     *
+     * @param endpoint the endpoint
+     * @param payload the payload
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<String> postRequest(String endpoint, String payload, HashMap<String, Object> parameters);
+
+    /**
+     * Asynchronous version of {@link PassthroughResources#putRequest(String, String, HashMap)}.
+     *
+     * @param endpoint the endpoint
+     * @param payload the payload
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<String> putRequest(String endpoint, String payload, HashMap<String, Object> parameters);
+
+    /**
+     * Asynchronous version of {@link PassthroughResources#deleteRequest(String)}.
+     *
+     * @param endpoint the endpoint
+     * @return the future result
+     */
+    public SmartsheetFuture<String> deleteRequest(String endpoint);
+}
@@ -0,0 +1,123 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.ReportResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.ReportPublish;
+import com.smartsheet.api.models.SheetEmail;
+import com.smartsheet.api.models.enums.ReportInclusion;
+
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link ReportResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncReportResources {
+    /**
+     * Asynchronous version of {@link ReportResources#getReport(long, EnumSet, Integer, Integer)}.
+     *
+     * @param reportId the report id
+     * @param includes the includes
+     * @param pageSize the page size
+     * @param page the page
+     * @return the future result
+     */
+    public SmartsheetFuture<Report> getReport(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page);
+
+    /**
+     * Asynchronous version of {@link ReportResources#getReport(long, EnumSet, Integer, Integer, Integer)}.
+     *
+     * @param reportId the report id
+     * @param includes the includes
+     * @param pageSize the page size
+     * @param page the page
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<Report> getReport(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page, Integer level);
+
+    /**
+     * Asynchronous version of {@link ReportResources#sendReport(long, SheetEmail)}.
+     *
+     * @param reportId the report id
+     * @param email the email
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> sendReport(long reportId, SheetEmail email);
+
+    /**
+     * Asynchronous version of {@link ReportResources#listReports(PaginationParameters, Date)}.
+     *
+     * @param parameters the parameters
+     * @param modifiedSince the modified since
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Report>> listReports(PaginationParameters parameters, Date modifiedSince);
+
+    /**
+     * Asynchronous version of {@link ReportResources#getReportAsExcel(long, OutputStream)}.
+     *
+     * @param id the id
+     * @param outputStream the output stream
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> getReportAsExcel(long id, OutputStream outputStream);
+
+    /**
+     * Asynchronous version of {@link ReportResources#getReportAsCsv(long, OutputStream)}.
+     *
+     * @param id the id
+     * @param outputStream the output stream
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> getReportAsCsv(long id, OutputStream outputStream);
+
+    /**
+     * Asynchronous version of {@link ReportResources#getPublishStatus(long)}.
+     *
+     * @param id the id
+     * @return the future result
+     */
+    public SmartsheetFuture<ReportPublish> getPublishStatus(long id);
+
+    /**
+     * Asynchronous version of {@link ReportResources#updatePublishStatus(long, ReportPublish)}.
+     *
+     * @param id the id
+     * @param reportPublish the report publish
+     * @return the future result
+     */
+    public SmartsheetFuture<ReportPublish> updatePublishStatus(long id, ReportPublish reportPublish);
+
+    /**
+     * Asynchronous version of {@link ReportResources#shareResources()}.
+     *
+     * @return the share resources
+     */
+    public AsyncShareResources shareResources();
+}
@@ -0,0 +1,80 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.RowAttachmentResources;
+import com.smartsheet.api.models.Attachment;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.io.File;
+import java.io.InputStream;
+
+/**
+ * <p>Asynchronous counterpart of {@link RowAttachmentResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncRowAttachmentResources {
+    /**
+     * Asynchronous version of {@link RowAttachmentResources#attachUrl(long, long, Attachment)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param attachment the attachment
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachUrl(long sheetId, long rowId, Attachment attachment);
+
+    /**
+     * Asynchronous version of {@link RowAttachmentResources#getAttachments(long, long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Attachment>> getAttachments(long sheetId, long rowId, PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link RowAttachmentResources#attachFile(long, long, File, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachFile(long sheetId, long rowId, File file, String contentType);
+
+    /**
+     * Asynchronous version of {@link RowAttachmentResources#attachFile(long, long, InputStream, String, long, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param inputStream the input stream
+     * @param contentType the content type
+     * @param contentLength the content length
+     * @param attachmentName the attachment name
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachFile(long sheetId, long rowId, InputStream inputStream, String contentType, long contentLength, String attachmentName);
+}
@@ -0,0 +1,117 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.RowColumnResources;
+import com.smartsheet.api.models.CellHistory;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.CellHistoryInclusion;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link RowColumnResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncRowColumnResources {
+    /**
+     * Asynchronous version of {@link RowColumnResources#getCellHistory(long, long, long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<CellHistory>> getCellHistory(long sheetId, long rowId, long columnId, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link RowColumnResources#getCellHistory(long, long, long, PaginationParameters, EnumSet, Integer)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param pagination the pagination
+     * @param includes the includes
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<CellHistory>> getCellHistory(long sheetId, long rowId, long columnId, PaginationParameters pagination, EnumSet<CellHistoryInclusion> includes, Integer level);
+
+    /**
+     * Asynchronous version of {@link RowColumnResources#addImageToCell(long, long, long, String, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> addImageToCell(long sheetId, long rowId, long columnId, String file, String contentType);
+
+    /**
+     * Asynchronous version of {@link RowColumnResources#addImageToCell(long, long, long, String, String, boolean, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param file the file
+     * @param contentType the content type
+     * @param overrideValidation the override validation
+     * @param altText the alt text
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> addImageToCell(long sheetId, long rowId, long columnId, String file, String contentType, boolean overrideValidation, String altText);
+
+    /**
+     * Asynchronous version of {@link RowColumnResources#addImageToCell(long, long, long, File, String, boolean, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param file the file
+     * @param contentType the content type
+     * @param overrideValidation the override validation
+     * @param altText the alt text
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> addImageToCell(long sheetId, long rowId, long columnId, File file, String contentType, boolean overrideValidation, String altText);
+
+    /**
+     * Asynchronous version of {@link RowColumnResources#addImageToCell(long, long, long, InputStream, String, long, boolean, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param columnId the column id
+     * @param inputStream the input stream
+     * @param contentType the content type
+     * @param contentLength the content length
+     * @param overrideValidation the override validation
+     * @param altText the alt text
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> addImageToCell(long sheetId, long rowId, long columnId, InputStream inputStream, String contentType, long contentLength, boolean overrideValidation, String altText);
+}
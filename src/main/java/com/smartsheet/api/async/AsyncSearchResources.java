@@ -0,0 +1,66 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SearchResources;
+import com.smartsheet.api.models.SearchResult;
+import com.smartsheet.api.models.enums.SearchInclusion;
+import com.smartsheet.api.models.enums.SearchLocation;
+import com.smartsheet.api.models.enums.SearchScope;
+
+import java.util.Date;
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link SearchResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSearchResources {
+    /**
+     * Asynchronous version of {@link SearchResources#search(String)}.
+     *
+     * @param query the query
+     * @return the future result
+     */
+    public SmartsheetFuture<SearchResult> search(String query);
+
+    /**
+     * Asynchronous version of {@link SearchResources#search(String, EnumSet, SearchLocation, Date, EnumSet)}.
+     *
+     * @param query the query
+     * @param includes the includes
+     * @param location the location
+     * @param modifiedSince the modified since
+     * @param scopes the scopes
+     * @return the future result
+     */
+    public SmartsheetFuture<SearchResult> search(String query, EnumSet<SearchInclusion> includes, SearchLocation location, Date modifiedSince, EnumSet<SearchScope> scopes);
+
+    /**
+     * Asynchronous version of {@link SearchResources#searchSheet(long, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param query the query
+     * @return the future result
+     */
+    public SmartsheetFuture<SearchResult> searchSheet(long sheetId, String query);
+}
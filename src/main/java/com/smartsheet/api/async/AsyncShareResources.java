@@ -0,0 +1,82 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.ShareResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Share;
+
+import java.util.List;
+
+/**
+ * <p>Asynchronous counterpart of {@link ShareResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncShareResources {
+    /**
+     * Asynchronous version of {@link ShareResources#listShares(long, PaginationParameters, Boolean)}.
+     *
+     * @param objectId the object id
+     * @param parameters the parameters
+     * @param includeWorkspaceShares the include workspace shares
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Share>> listShares(long objectId, PaginationParameters parameters, Boolean includeWorkspaceShares);
+
+    /**
+     * Asynchronous version of {@link ShareResources#getShare(long, String)}.
+     *
+     * @param objectId the object id
+     * @param shareId the share id
+     * @return the future result
+     */
+    public SmartsheetFuture<Share> getShare(long objectId, String shareId);
+
+    /**
+     * Asynchronous version of {@link ShareResources#shareTo(long, List, Boolean)}.
+     *
+     * @param objectId the object id
+     * @param shares the shares
+     * @param sendEmail the send email
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Share>> shareTo(long objectId, List<Share> shares, Boolean sendEmail);
+
+    /**
+     * Asynchronous version of {@link ShareResources#updateShare(long, Share)}.
+     *
+     * @param objectId the object id
+     * @param share the share
+     * @return the future result
+     */
+    public SmartsheetFuture<Share> updateShare(long objectId, Share share);
+
+    /**
+     * Asynchronous version of {@link ShareResources#deleteShare(long, String)}.
+     *
+     * @param objectId the object id
+     * @param shareId the share id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteShare(long objectId, String shareId);
+}
@@ -0,0 +1,101 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetAttachmentResources;
+import com.smartsheet.api.models.Attachment;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.io.File;
+import java.io.InputStream;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetAttachmentResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetAttachmentResources {
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#attachUrl(long, Attachment)}.
+     *
+     * @param sheetId the sheet id
+     * @param attachment the attachment
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachUrl(long sheetId, Attachment attachment);
+
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#deleteAttachment(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param attachmentId the attachment id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteAttachment(long sheetId, long attachmentId);
+
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#getAttachment(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param attachmentId the attachment id
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> getAttachment(long sheetId, long attachmentId);
+
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#listAttachments(long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Attachment>> listAttachments(long sheetId, PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#attachFile(long, File, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachFile(long sheetId, File file, String contentType);
+
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#attachFile(long, InputStream, String, long, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param inputStream the input stream
+     * @param contentType the content type
+     * @param contentLength the content length
+     * @param attachmentName the attachment name
+     * @return the future result
+     */
+    public SmartsheetFuture<Attachment> attachFile(long sheetId, InputStream inputStream, String contentType, long contentLength, String attachmentName);
+
+    /**
+     * Asynchronous version of {@link SheetAttachmentResources#versioningResources()}.
+     *
+     * @return the attachment versioning resources
+     */
+    public AsyncAttachmentVersioningResources versioningResources();
+}
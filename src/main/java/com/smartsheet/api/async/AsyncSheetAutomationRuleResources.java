@@ -0,0 +1,69 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetAutomationRuleResources;
+import com.smartsheet.api.models.AutomationRule;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetAutomationRuleResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetAutomationRuleResources {
+    /**
+     * Asynchronous version of {@link SheetAutomationRuleResources#listAutomationRules(long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<AutomationRule>> listAutomationRules(long sheetId, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link SheetAutomationRuleResources#getAutomationRule(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param automationRuleId the automation rule id
+     * @return the future result
+     */
+    public SmartsheetFuture<AutomationRule> getAutomationRule(long sheetId, long automationRuleId);
+
+    /**
+     * Asynchronous version of {@link SheetAutomationRuleResources#updateAutomationRule(long, AutomationRule)}.
+     *
+     * @param sheetId the sheet id
+     * @param automationRule the automation rule
+     * @return the future result
+     */
+    public SmartsheetFuture<AutomationRule> updateAutomationRule(long sheetId, AutomationRule automationRule);
+
+    /**
+     * Asynchronous version of {@link SheetAutomationRuleResources#deleteAutomationRule(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param automationRuleId the automation rule id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteAutomationRule(long sheetId, long automationRuleId);
+}
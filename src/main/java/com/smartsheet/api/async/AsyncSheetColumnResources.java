@@ -0,0 +1,95 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetColumnResources;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.ColumnInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetColumnResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetColumnResources {
+    /**
+     * Asynchronous version of {@link SheetColumnResources#listColumns(long, EnumSet, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param includes the includes
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Column>> listColumns(long sheetId, EnumSet<ColumnInclusion> includes, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link SheetColumnResources#listColumns(long, EnumSet, PaginationParameters, Integer)}.
+     *
+     * @param sheetId the sheet id
+     * @param includes the includes
+     * @param pagination the pagination
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Column>> listColumns(long sheetId, EnumSet<ColumnInclusion> includes, PaginationParameters pagination, Integer level);
+
+    /**
+     * Asynchronous version of {@link SheetColumnResources#addColumns(long, List)}.
+     *
+     * @param sheetId the sheet id
+     * @param columns the columns
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Column>> addColumns(long sheetId, List<Column> columns);
+
+    /**
+     * Asynchronous version of {@link SheetColumnResources#deleteColumn(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param columnId the column id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteColumn(long sheetId, long columnId);
+
+    /**
+     * Asynchronous version of {@link SheetColumnResources#updateColumn(long, Column)}.
+     *
+     * @param sheetId the sheet id
+     * @param column the column
+     * @return the future result
+     */
+    public SmartsheetFuture<Column> updateColumn(long sheetId, Column column);
+
+    /**
+     * Asynchronous version of {@link SheetColumnResources#getColumn(long, long, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param columnId the column id
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Column> getColumn(long sheetId, long columnId, EnumSet<ColumnInclusion> includes);
+}
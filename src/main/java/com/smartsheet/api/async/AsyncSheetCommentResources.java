@@ -0,0 +1,56 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetCommentResources;
+import com.smartsheet.api.models.Comment;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetCommentResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetCommentResources {
+    /**
+     * Asynchronous version of {@link SheetCommentResources#getComment(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param commentId the comment id
+     * @return the future result
+     */
+    public SmartsheetFuture<Comment> getComment(long sheetId, long commentId);
+
+    /**
+     * Asynchronous version of {@link SheetCommentResources#deleteComment(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param commentId the comment id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteComment(long sheetId, long commentId);
+
+    /**
+     * Asynchronous version of {@link SheetCommentResources#attachmentResources()}.
+     *
+     * @return the comment attachment resources
+     */
+    public AsyncCommentAttachmentResources attachmentResources();
+}
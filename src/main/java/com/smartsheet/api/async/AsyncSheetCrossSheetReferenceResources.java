@@ -0,0 +1,60 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetCrossSheetReferenceResources;
+import com.smartsheet.api.models.CrossSheetReference;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetCrossSheetReferenceResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetCrossSheetReferenceResources {
+    /**
+     * Asynchronous version of {@link SheetCrossSheetReferenceResources#listCrossSheetReferences(long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<CrossSheetReference>> listCrossSheetReferences(long sheetId, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link SheetCrossSheetReferenceResources#getCrossSheetReference(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param crossSheetReferenceId the cross sheet reference id
+     * @return the future result
+     */
+    public SmartsheetFuture<CrossSheetReference> getCrossSheetReference(long sheetId, long crossSheetReferenceId);
+
+    /**
+     * Asynchronous version of {@link SheetCrossSheetReferenceResources#createCrossSheetReference(long, CrossSheetReference)}.
+     *
+     * @param sheetId the sheet id
+     * @param crossSheetReference the cross sheet reference
+     * @return the future result
+     */
+    public SmartsheetFuture<CrossSheetReference> createCrossSheetReference(long sheetId, CrossSheetReference crossSheetReference);
+}
@@ -0,0 +1,99 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetDiscussionResources;
+import com.smartsheet.api.models.Discussion;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.DiscussionInclusion;
+
+import java.io.File;
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetDiscussionResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetDiscussionResources {
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#createDiscussion(long, Discussion)}.
+     *
+     * @param sheetId the sheet id
+     * @param discussion the discussion
+     * @return the future result
+     */
+    public SmartsheetFuture<Discussion> createDiscussion(long sheetId, Discussion discussion);
+
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#createDiscussionWithAttachment(long, Discussion, File, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param discussion the discussion
+     * @param file the file
+     * @param contentType the content type
+     * @return the future result
+     */
+    public SmartsheetFuture<Discussion> createDiscussionWithAttachment(long sheetId, Discussion discussion, File file, String contentType);
+
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#getDiscussion(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param discussionId the discussion id
+     * @return the future result
+     */
+    public SmartsheetFuture<Discussion> getDiscussion(long sheetId, long discussionId);
+
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#deleteDiscussion(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param discussionId the discussion id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteDiscussion(long sheetId, long discussionId);
+
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#listDiscussions(long, PaginationParameters, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param pagination the pagination
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Discussion>> listDiscussions(long sheetId, PaginationParameters pagination, EnumSet<DiscussionInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#commentResources()}.
+     *
+     * @return the discussion comment resources
+     */
+    public AsyncDiscussionCommentResources commentResources();
+
+    /**
+     * Asynchronous version of {@link SheetDiscussionResources#attachmentResources()}.
+     *
+     * @return the discussion attachment resources
+     */
+    public AsyncDiscussionAttachmentResources attachmentResources();
+}
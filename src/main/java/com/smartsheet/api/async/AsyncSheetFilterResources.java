@@ -0,0 +1,60 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetFilterResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.SheetFilter;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetFilterResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetFilterResources {
+    /**
+     * Asynchronous version of {@link SheetFilterResources#getFilter(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param filterId the filter id
+     * @return the future result
+     */
+    public SmartsheetFuture<SheetFilter> getFilter(long sheetId, long filterId);
+
+    /**
+     * Asynchronous version of {@link SheetFilterResources#deleteFilter(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param filterId the filter id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteFilter(long sheetId, long filterId);
+
+    /**
+     * Asynchronous version of {@link SheetFilterResources#listFilters(long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<SheetFilter>> listFilters(long sheetId, PaginationParameters pagination);
+}
@@ -0,0 +1,424 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.models.*;
+import com.smartsheet.api.models.enums.*;
+
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetResources {
+    /**
+     * Asynchronous version of {@link SheetResources#listSheets(EnumSet, PaginationParameters, Date)}.
+     *
+     * @param includes the includes
+     * @param pagination the pagination
+     * @param modifiedSince the modified since
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Sheet>> listSheets(EnumSet<SourceInclusion> includes, PaginationParameters pagination, Date modifiedSince);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer)}.
+     *
+     * @param id the id
+     * @param includes the includes
+     * @param excludes the excludes
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer, Integer)}.
+     *
+     * @param id the id
+     * @param includes the includes
+     * @param excludes the excludes
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page
+     * @param ifVersionAfter the if version after
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page, Integer ifVersionAfter);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer, Integer, Integer)}.
+     *
+     * @param id the id
+     * @param includes the includes
+     * @param excludes the excludes
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page
+     * @param ifVersionAfter the if version after
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page, Integer ifVersionAfter, Integer level);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheetAsExcel(long, OutputStream)}.
+     *
+     * @param id the id
+     * @param outputStream the output stream
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> getSheetAsExcel(long id, OutputStream outputStream);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheetAsCSV(long, OutputStream)}.
+     *
+     * @param id the id
+     * @param outputStream the output stream
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> getSheetAsCSV(long id, OutputStream outputStream);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheetAsPDF(long, OutputStream, PaperSize)}.
+     *
+     * @param id the id
+     * @param outputStream the output stream
+     * @param paperSize the paper size
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> getSheetAsPDF(long id, OutputStream outputStream, PaperSize paperSize);
+
+    /**
+     * Asynchronous version of {@link SheetResources#createSheet(Sheet)}.
+     *
+     * @param sheet the sheet
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> createSheet(Sheet sheet);
+
+    /**
+     * Asynchronous version of {@link SheetResources#createSheetFromTemplate(Sheet, EnumSet)}.
+     *
+     * @param sheet the sheet
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> createSheetFromTemplate(Sheet sheet, EnumSet<SheetTemplateInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link SheetResources#importCsv(String, String, Integer, Integer)}.
+     *
+     * @param file the file
+     * @param sheetName the sheet name
+     * @param headerRowIndex the header row index
+     * @param primaryRowIndex the primary row index
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> importCsv(String file, String sheetName, Integer headerRowIndex, Integer primaryRowIndex);
+
+    /**
+     * Asynchronous version of {@link SheetResources#importXlsx(String, String, Integer, Integer)}.
+     *
+     * @param file the file
+     * @param sheetName the sheet name
+     * @param headerRowIndex the header row index
+     * @param primaryRowIndex the primary row index
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> importXlsx(String file, String sheetName, Integer headerRowIndex, Integer primaryRowIndex);
+
+    /**
+     * Asynchronous version of {@link SheetResources#createSheetInFolder(long, Sheet)}.
+     *
+     * @param folderId the folder id
+     * @param sheet the sheet
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> createSheetInFolder(long folderId, Sheet sheet);
+
+    /**
+     * Asynchronous version of {@link SheetResources#createSheetInFolderFromTemplate(long, Sheet, EnumSet)}.
+     *
+     * @param folderID the folder i d
+     * @param sheet the sheet
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> createSheetInFolderFromTemplate(long folderID, Sheet sheet, EnumSet<SheetTemplateInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link SheetResources#importCsvInFolder(long, String, String, Integer, Integer)}.
+     *
+     * @param folderID the folder i d
+     * @param file the file
+     * @param sheetName the sheet name
+     * @param headerRowIndex the header row index
+     * @param primaryRowIndex the primary row index
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> importCsvInFolder(long folderID, String file, String sheetName, Integer headerRowIndex, Integer primaryRowIndex);
+
+    /**
+     * Asynchronous version of {@link SheetResources#importXlsxInFolder(long, String, String, Integer, Integer)}.
+     *
+     * @param folderID the folder i d
+     * @param file the file
+     * @param sheetName the sheet name
+     * @param headerRowIndex the header row index
+     * @param primaryRowIndex the primary row index
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> importXlsxInFolder(long folderID, String file, String sheetName, Integer headerRowIndex, Integer primaryRowIndex);
+
+    /**
+     * Asynchronous version of {@link SheetResources#createSheetInWorkspace(long, Sheet)}.
+     *
+     * @param workspaceId the workspace id
+     * @param sheet the sheet
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> createSheetInWorkspace(long workspaceId, Sheet sheet);
+
+    /**
+     * Asynchronous version of {@link SheetResources#createSheetInWorkspaceFromTemplate(long, Sheet, EnumSet)}.
+     *
+     * @param workspaceId the workspace id
+     * @param sheet the sheet
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> createSheetInWorkspaceFromTemplate(long workspaceId, Sheet sheet, EnumSet<SheetTemplateInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link SheetResources#importCsvInWorkspace(long, String, String, Integer, Integer)}.
+     *
+     * @param workspaceId the workspace id
+     * @param file the file
+     * @param sheetName the sheet name
+     * @param headerRowIndex the header row index
+     * @param primaryRowIndex the primary row index
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> importCsvInWorkspace(long workspaceId, String file, String sheetName, Integer headerRowIndex, Integer primaryRowIndex);
+
+    /**
+     * Asynchronous version of {@link SheetResources#importXlsxInWorkspace(long, String, String, Integer, Integer)}.
+     *
+     * @param workspaceId the workspace id
+     * @param file the file
+     * @param sheetName the sheet name
+     * @param headerRowIndex the header row index
+     * @param primaryRowIndex the primary row index
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> importXlsxInWorkspace(long workspaceId, String file, String sheetName, Integer headerRowIndex, Integer primaryRowIndex);
+
+    /**
+     * Asynchronous version of {@link SheetResources#deleteSheet(long)}.
+     *
+     * @param id the id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteSheet(long id);
+
+    /**
+     * Asynchronous version of {@link SheetResources#updateSheet(Sheet)}.
+     *
+     * @param sheet the sheet
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> updateSheet(Sheet sheet);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getSheetVersion(long)}.
+     *
+     * @param id the id
+     * @return the future result
+     */
+    public SmartsheetFuture<Integer> getSheetVersion(long id);
+
+    /**
+     * Asynchronous version of {@link SheetResources#sendSheet(long, SheetEmail)}.
+     *
+     * @param id the id
+     * @param email the email
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> sendSheet(long id, SheetEmail email);
+
+    /**
+     * Asynchronous version of {@link SheetResources#getPublishStatus(long)}.
+     *
+     * @param id the id
+     * @return the future result
+     */
+    public SmartsheetFuture<SheetPublish> getPublishStatus(long id);
+
+    /**
+     * Asynchronous version of {@link SheetResources#updatePublishStatus(long, SheetPublish)}.
+     *
+     * @param id the id
+     * @param publish the publish
+     * @return the future result
+     */
+    public SmartsheetFuture<SheetPublish> updatePublishStatus(long id, SheetPublish publish);
+
+    /**
+     * Asynchronous version of {@link SheetResources#copySheet(long, ContainerDestination, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param containerDestination the container destination
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> copySheet(long sheetId, ContainerDestination containerDestination, EnumSet<SheetCopyInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link SheetResources#copySheet(long, ContainerDestination, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param containerDestination the container destination
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> copySheet(long sheetId, ContainerDestination containerDestination, EnumSet<SheetCopyInclusion> includes, EnumSet<CopyExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetResources#moveSheet(long, ContainerDestination)}.
+     *
+     * @param sheetId the sheet id
+     * @param containerDestination the container destination
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> moveSheet(long sheetId, ContainerDestination containerDestination);
+
+    /**
+     * Asynchronous version of {@link SheetResources#sortSheet(long, SortSpecifier)}.
+     *
+     * @param sheetId the sheet id
+     * @param sortSpecifier the sort specifier
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> sortSheet(long sheetId, SortSpecifier sortSpecifier);
+
+    /**
+     * Asynchronous version of {@link SheetResources#sortSheet(long, SortSpecifier, Integer)}.
+     *
+     * @param sheetId the sheet id
+     * @param sortSpecifier the sort specifier
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<Sheet> sortSheet(long sheetId, SortSpecifier sortSpecifier, Integer level);
+
+    /**
+     * Asynchronous version of {@link SheetResources#shareResources()}.
+     *
+     * @return the share resources
+     */
+    public AsyncShareResources shareResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#rowResources()}.
+     *
+     * @return the sheet row resources
+     */
+    public AsyncSheetRowResources rowResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#columnResources()}.
+     *
+     * @return the sheet column resources
+     */
+    public AsyncSheetColumnResources columnResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#attachmentResources()}.
+     *
+     * @return the sheet attachment resources
+     */
+    public AsyncSheetAttachmentResources attachmentResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#discussionResources()}.
+     *
+     * @return the sheet discussion resources
+     */
+    public AsyncSheetDiscussionResources discussionResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#commentResources()}.
+     *
+     * @return the sheet comment resources
+     */
+    public AsyncSheetCommentResources commentResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#updateRequestResources()}.
+     *
+     * @return the sheet update request resources
+     */
+    public AsyncSheetUpdateRequestResources updateRequestResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#filterResources()}.
+     *
+     * @return the sheet filter resources
+     */
+    public AsyncSheetFilterResources filterResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#automationRuleResources()}.
+     *
+     * @return the sheet automation rule resources
+     */
+    public AsyncSheetAutomationRuleResources automationRuleResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#crossSheetReferenceResources()}.
+     *
+     * @return the sheet cross sheet reference resources
+     */
+    public AsyncSheetCrossSheetReferenceResources crossSheetReferenceResources();
+
+    /**
+     * Asynchronous version of {@link SheetResources#summaryResources()}.
+     *
+     * @return the sheet summary resources
+     */
+    public AsyncSheetSummaryResources summaryResources();
+}
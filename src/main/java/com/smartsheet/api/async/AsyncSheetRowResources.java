@@ -0,0 +1,192 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.models.*;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.RowCopyInclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+import com.smartsheet.api.models.enums.RowMoveInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetRowResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetRowResources {
+    /**
+     * Asynchronous version of {@link SheetRowResources#addRows(long, List)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Row>> addRows(long sheetId, List<Row> rows);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#addRows(long, List, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Row>> addRows(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#addRowsAllowPartialSuccess(long, List)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @return the future result
+     */
+    public SmartsheetFuture<PartialRowUpdateResult> addRowsAllowPartialSuccess(long sheetId, List<Row> rows);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#addRowsAllowPartialSuccess(long, List, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<PartialRowUpdateResult> addRowsAllowPartialSuccess(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#getRow(long, long, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowId the row id
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<Row> getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#sendRows(long, MultiRowEmail)}.
+     *
+     * @param sheetId the sheet id
+     * @param email the email
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> sendRows(long sheetId, MultiRowEmail email);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#deleteRows(long, Set, boolean)}.
+     *
+     * @param sheetId the sheet id
+     * @param rowIds the row ids
+     * @param ignoreRowsNotFound the ignore rows not found
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Long>> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#updateRows(long, List)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Row>> updateRows(long sheetId, List<Row> rows);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#updateRows(long, List, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Row>> updateRows(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#updateRowsAllowPartialSuccess(long, List)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @return the future result
+     */
+    public SmartsheetFuture<PartialRowUpdateResult> updateRowsAllowPartialSuccess(long sheetId, List<Row> rows);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#updateRowsAllowPartialSuccess(long, List, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<PartialRowUpdateResult> updateRowsAllowPartialSuccess(long sheetId, List<Row> rows, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#moveRows(Long, EnumSet, Boolean, CopyOrMoveRowDirective)}.
+     *
+     * @param sheetId the sheet id
+     * @param includes the includes
+     * @param ignoreRowsNotFound the ignore rows not found
+     * @param moveParameters the move parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<CopyOrMoveRowResult> moveRows(Long sheetId, EnumSet<RowMoveInclusion> includes, Boolean ignoreRowsNotFound, CopyOrMoveRowDirective moveParameters);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#copyRows(Long, EnumSet, Boolean, CopyOrMoveRowDirective)}.
+     *
+     * @param sheetId the sheet id
+     * @param includes the includes
+     * @param ignoreRowsNotFound the ignore rows not found
+     * @param copyParameters the copy parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<CopyOrMoveRowResult> copyRows(Long sheetId, EnumSet<RowCopyInclusion> includes, Boolean ignoreRowsNotFound, CopyOrMoveRowDirective copyParameters);
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#attachmentResources()}.
+     *
+     * @return the row attachment resources
+     */
+    public AsyncRowAttachmentResources attachmentResources();
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#discussionResources()}.
+     *
+     * @return the row discussion resources
+     */
+    public AsyncRowDiscussionResources discussionResources();
+
+    /**
+     * Asynchronous version of {@link SheetRowResources#cellResources()}.
+     *
+     * @return the row column resources
+     */
+    public AsyncRowColumnResources cellResources();
+}
@@ -0,0 +1,147 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetSummaryResources;
+import com.smartsheet.api.models.*;
+import com.smartsheet.api.models.enums.SummaryFieldExclusion;
+import com.smartsheet.api.models.enums.SummaryFieldInclusion;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetSummaryResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetSummaryResources {
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#getSheetSummary(long, EnumSet, EnumSet)}.
+     *
+     * @param sheetId the sheet id
+     * @param includes the includes
+     * @param excludes the excludes
+     * @return the future result
+     */
+    public SmartsheetFuture<SheetSummary> getSheetSummary(long sheetId, EnumSet<SummaryFieldInclusion> includes, EnumSet<SummaryFieldExclusion> excludes);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#getSheetSummaryFields(long, EnumSet, EnumSet, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param includes the includes
+     * @param excludes the excludes
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<SummaryField>> getSheetSummaryFields(long sheetId, EnumSet<SummaryFieldInclusion> includes, EnumSet<SummaryFieldExclusion> excludes, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#addSheetSummaryFields(long, List, Boolean)}.
+     *
+     * @param sheetId the sheet id
+     * @param fields the fields
+     * @param renameIfConflict the rename if conflict
+     * @return the future result
+     */
+    public SmartsheetFuture<List<SummaryField>> addSheetSummaryFields(long sheetId, List<SummaryField> fields, Boolean renameIfConflict);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#addSheetSummaryFieldsWithPartialSuccess(long, List, Boolean)}.
+     *
+     * @param sheetId the sheet id
+     * @param fields the fields
+     * @param renameIfConflict the rename if conflict
+     * @return the future result
+     */
+    public SmartsheetFuture<BulkItemResult<SummaryField>> addSheetSummaryFieldsWithPartialSuccess(long sheetId, List<SummaryField> fields, Boolean renameIfConflict);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#updateSheetSummaryFields(long, List, Boolean)}.
+     *
+     * @param sheetId the sheet id
+     * @param fields the fields
+     * @param renameIfConflict the rename if conflict
+     * @return the future result
+     */
+    public SmartsheetFuture<List<SummaryField>> updateSheetSummaryFields(long sheetId, List<SummaryField> fields, Boolean renameIfConflict);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#updateSheetSummaryFieldsWithPartialSuccess(long, List, Boolean)}.
+     *
+     * @param sheetId the sheet id
+     * @param fields the fields
+     * @param renameIfConflict the rename if conflict
+     * @return the future result
+     */
+    public SmartsheetFuture<BulkItemResult<SummaryField>> updateSheetSummaryFieldsWithPartialSuccess(long sheetId, List<SummaryField> fields, Boolean renameIfConflict);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#deleteSheetSummaryFields(long, Set, Boolean)}.
+     *
+     * @param sheetId the sheet id
+     * @param fieldIds the field ids
+     * @param ignoreSummaryFieldsNotFound the ignore summary fields not found
+     * @return the future result
+     */
+    public SmartsheetFuture<List<Long>> deleteSheetSummaryFields(long sheetId, Set<Long> fieldIds, Boolean ignoreSummaryFieldsNotFound);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#addSheetSummaryFieldImage(long, long, String, String, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param fieldId the field id
+     * @param file the file
+     * @param contentType the content type
+     * @param altText the alt text
+     * @return the future result
+     */
+    public SmartsheetFuture<Result<SummaryField>> addSheetSummaryFieldImage(long sheetId, long fieldId, String file, String contentType, String altText);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#addSheetSummaryFieldImage(long, long, File, String, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param fieldId the field id
+     * @param file the file
+     * @param contentType the content type
+     * @param altText the alt text
+     * @return the future result
+     */
+    public SmartsheetFuture<Result<SummaryField>> addSheetSummaryFieldImage(long sheetId, long fieldId, File file, String contentType, String altText);
+
+    /**
+     * Asynchronous version of {@link SheetSummaryResources#addSheetSummaryFieldImage(long, long, InputStream, String, long, String)}.
+     *
+     * @param sheetId the sheet id
+     * @param fieldId the field id
+     * @param inputStream the input stream
+     * @param contentType the content type
+     * @param contentLength the content length
+     * @param altText the alt text
+     * @return the future result
+     */
+    public SmartsheetFuture<Result<SummaryField>> addSheetSummaryFieldImage(long sheetId, long fieldId, InputStream inputStream, String contentType, long contentLength, String altText);
+}
@@ -0,0 +1,106 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetUpdateRequestResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.SentUpdateRequest;
+import com.smartsheet.api.models.UpdateRequest;
+
+/**
+ * <p>Asynchronous counterpart of {@link SheetUpdateRequestResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetUpdateRequestResources {
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#listUpdateRequests(long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param paging the paging
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<UpdateRequest>> listUpdateRequests(long sheetId, PaginationParameters paging);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#getUpdateRequest(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param updateRequestId the update request id
+     * @return the future result
+     */
+    public SmartsheetFuture<UpdateRequest> getUpdateRequest(long sheetId, long updateRequestId);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#createUpdateRequest(long, UpdateRequest)}.
+     *
+     * @param sheetId the sheet id
+     * @param updateRequest the update request
+     * @return the future result
+     */
+    public SmartsheetFuture<UpdateRequest> createUpdateRequest(long sheetId, UpdateRequest updateRequest);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#deleteUpdateRequest(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param updateRequestId the update request id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteUpdateRequest(long sheetId, long updateRequestId);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#updateUpdateRequest(long, UpdateRequest)}.
+     *
+     * @param sheetId the sheet id
+     * @param updateRequest the update request
+     * @return the future result
+     */
+    public SmartsheetFuture<UpdateRequest> updateUpdateRequest(long sheetId, UpdateRequest updateRequest);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#listSentUpdateRequests(long, PaginationParameters)}.
+     *
+     * @param sheetId the sheet id
+     * @param paging the paging
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<SentUpdateRequest>> listSentUpdateRequests(long sheetId, PaginationParameters paging);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#getSentUpdateRequest(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param sentUpdateRequestId the sent update request id
+     * @return the future result
+     */
+    public SmartsheetFuture<SentUpdateRequest> getSentUpdateRequest(long sheetId, long sentUpdateRequestId);
+
+    /**
+     * Asynchronous version of {@link SheetUpdateRequestResources#deleteSentUpdateRequest(long, long)}.
+     *
+     * @param sheetId the sheet id
+     * @param sentUpdateRequestId the sent update request id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteSentUpdateRequest(long sheetId, long sentUpdateRequestId);
+}
@@ -0,0 +1,133 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SightResources;
+import com.smartsheet.api.models.ContainerDestination;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Sight;
+import com.smartsheet.api.models.SightPublish;
+import com.smartsheet.api.models.enums.SightInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link SightResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSightResources {
+    /**
+     * Asynchronous version of {@link SightResources#listSights(PaginationParameters, Date)}.
+     *
+     * @param paging the paging
+     * @param modifiedSince the modified since
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Sight>> listSights(PaginationParameters paging, Date modifiedSince);
+
+    /**
+     * Asynchronous version of {@link SightResources#getSight(long)}.
+     *
+     * @param sightId the sight id
+     * @return the future result
+     */
+    public SmartsheetFuture<Sight> getSight(long sightId);
+
+    /**
+     * Asynchronous version of {@link SightResources#getSight(long, Integer)}.
+     *
+     * @param sightId the sight id
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<Sight> getSight(long sightId, Integer level);
+
+    /**
+     * Asynchronous version of {@link SightResources#getSight(long, EnumSet, Integer)}.
+     *
+     * @param sightId the sight id
+     * @param includes the includes
+     * @param level the level
+     * @return the future result
+     */
+    public SmartsheetFuture<Sight> getSight(long sightId, EnumSet<SightInclusion> includes, Integer level);
+
+    /**
+     * Asynchronous version of {@link SightResources#updateSight(Sight)}.
+     *
+     * @param sight the sight
+     * @return the future result
+     */
+    public SmartsheetFuture<Sight> updateSight(Sight sight);
+
+    /**
+     * Asynchronous version of {@link SightResources#deleteSight(long)}.
+     *
+     * @param sightId the sight id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteSight(long sightId);
+
+    /**
+     * Asynchronous version of {@link SightResources#copySight(long, ContainerDestination)}.
+     *
+     * @param sightId the sight id
+     * @param destination the destination
+     * @return the future result
+     */
+    public SmartsheetFuture<Sight> copySight(long sightId, ContainerDestination destination);
+
+    /**
+     * Asynchronous version of {@link SightResources#moveSight(long, ContainerDestination)}.
+     *
+     * @param sightId the sight id
+     * @param destination the destination
+     * @return the future result
+     */
+    public SmartsheetFuture<Sight> moveSight(long sightId, ContainerDestination destination);
+
+    /**
+     * Asynchronous version of {@link SightResources#getPublishStatus(long)}.
+     *
+     * @param sightId the sight id
+     * @return the future result
+     */
+    public SmartsheetFuture<SightPublish> getPublishStatus(long sightId);
+
+    /**
+     * Asynchronous version of {@link SightResources#setPublishStatus(long, SightPublish)}.
+     *
+     * @param sightId the sight id
+     * @param sightPublish the sight publish
+     * @return the future result
+     */
+    public SmartsheetFuture<SightPublish> setPublishStatus(long sightId, SightPublish sightPublish);
+
+    /**
+     * Asynchronous version of {@link SightResources#shareResources()}.
+     *
+     * @return the share resources
+     */
+    public AsyncShareResources shareResources();
+}
@@ -0,0 +1,164 @@
+package com.smartsheet.api.async;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.Smartsheet;
+
+/**
+ * <p>Asynchronous counterpart of {@link Smartsheet}, obtained from {@link Smartsheet#async()}.</p>
+ *
+ * <p>Every resources method returns a {@link SmartsheetFuture} as soon as its request has been handed to the HTTP
+ * client; arguments are validated (and IllegalArgumentException thrown) on the calling thread, exactly as with the
+ * synchronous API. Requests are sent without blocking when the client supports it (see
+ * {@link com.smartsheet.api.internal.http.AsyncHttpClient}); otherwise they are made on the calling thread and the
+ * returned future is already complete. Multipart uploads (the *WithAttachment methods) are currently always made
+ * on the calling thread.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSmartsheet {
+    /**
+     * Returns the AsyncHomeResources instance that provides asynchronous access to Home resources.
+     *
+     * @return the home resources
+     */
+    public AsyncHomeResources homeResources();
+
+    /**
+     * Returns the AsyncWorkspaceResources instance that provides asynchronous access to Workspace resources.
+     *
+     * @return the workspace resources
+     */
+    public AsyncWorkspaceResources workspaceResources();
+
+    /**
+     * Returns the AsyncFolderResources instance that provides asynchronous access to Folder resources.
+     *
+     * @return the folder resources
+     */
+    public AsyncFolderResources folderResources();
+
+    /**
+     * Returns the AsyncTemplateResources instance that provides asynchronous access to Template resources.
+     *
+     * @return the template resources
+     */
+    public AsyncTemplateResources templateResources();
+
+    /**
+     * Returns the AsyncSheetResources instance that provides asynchronous access to Sheet resources.
+     *
+     * @return the sheet resources
+     */
+    public AsyncSheetResources sheetResources();
+
+    /**
+     * Returns the AsyncSightResources instance that provides asynchronous access to Sight resources.
+     *
+     * @return the sight resources
+     */
+    public AsyncSightResources sightResources();
+
+    /**
+     * Returns the AsyncFavoriteResources instance that provides asynchronous access to Favorite resources.
+     *
+     * @return the favorite resources
+     */
+    public AsyncFavoriteResources favoriteResources();
+
+    /**
+     * Returns the AsyncUserResources instance that provides asynchronous access to User resources.
+     *
+     * @return the user resources
+     */
+    public AsyncUserResources userResources();
+
+    /**
+     * Returns the AsyncGroupResources instance that provides asynchronous access to Group resources.
+     *
+     * @return the group resources
+     */
+    public AsyncGroupResources groupResources();
+
+    /**
+     * Returns the AsyncServerInfoResources instance that provides asynchronous access to ServerInfo resources.
+     *
+     * @return the server info resources
+     */
+    public AsyncServerInfoResources serverInfoResources();
+
+    /**
+     * Returns the AsyncSearchResources instance that provides asynchronous access to Search resources.
+     *
+     * @return the search resources
+     */
+    public AsyncSearchResources searchResources();
+
+    /**
+     * Returns the AsyncReportResources instance that provides asynchronous access to Report resources.
+     *
+     * @return the report resources
+     */
+    public AsyncReportResources reportResources();
+
+    /**
+     * Returns the AsyncTokenResources instance that provides asynchronous access to Token resources.
+     *
+     * @return the token resources
+     */
+    public AsyncTokenResources tokenResources();
+
+    /**
+     * Returns the AsyncContactResources instance that provides asynchronous access to Contact resources.
+     *
+     * @return the contact resources
+     */
+    public AsyncContactResources contactResources();
+
+    /**
+     * Returns the AsyncImageUrlResources instance that provides asynchronous access to ImageUrl resources.
+     *
+     * @return the image url resources
+     */
+    public AsyncImageUrlResources imageUrlResources();
+
+    /**
+     * Returns the AsyncWebhookResources instance that provides asynchronous access to Webhook resources.
+     *
+     * @return the webhook resources
+     */
+    public AsyncWebhookResources webhookResources();
+
+    /**
+     * Returns the AsyncPassthroughResources instance that provides asynchronous access to Passthrough resources.
+     *
+     * @return the passthrough resources
+     */
+    public AsyncPassthroughResources passthroughResources();
+
+    /**
+     * Returns the AsyncEventResources instance that provides asynchronous access to Event resources.
+     *
+     * @return the event resources
+     */
+    public AsyncEventResources eventResources();
+}
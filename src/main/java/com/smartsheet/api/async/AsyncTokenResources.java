@@ -0,0 +1,51 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.TokenResources;
+
+/**
+ * <p>Asynchronous counterpart of {@link TokenResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncTokenResources {
+    /**
+     * Asynchronous version of {@link TokenResources#getAccessToken()}.
+     *
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> getAccessToken();
+
+    /**
+     * Asynchronous version of {@link TokenResources#revokeAccessToken()}.
+     *
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> revokeAccessToken();
+
+    /**
+     * Asynchronous version of {@link TokenResources#refreshAccessToken()}.
+     *
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> refreshAccessToken();
+}
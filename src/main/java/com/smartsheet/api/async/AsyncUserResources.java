@@ -0,0 +1,185 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.UserResources;
+import com.smartsheet.api.models.*;
+import com.smartsheet.api.models.enums.ListUserInclusion;
+import com.smartsheet.api.models.enums.UserInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Asynchronous counterpart of {@link UserResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncUserResources {
+    /**
+     * Asynchronous version of {@link UserResources#listUsers()}.
+     *
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<User>> listUsers();
+
+    /**
+     * Asynchronous version of {@link UserResources#listUsers(Set, PaginationParameters)}.
+     *
+     * @param email the email
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<User>> listUsers(Set<String> email, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link UserResources#listUsers(Set, EnumSet, PaginationParameters)}.
+     *
+     * @param email the email
+     * @param includes the includes
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<User>> listUsers(Set<String> email, EnumSet<ListUserInclusion> includes, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link UserResources#addUser(User)}.
+     *
+     * @param user the user
+     * @return the future result
+     */
+    public SmartsheetFuture<User> addUser(User user);
+
+    /**
+     * Asynchronous version of {@link UserResources#addUser(User, boolean)}.
+     *
+     * @param user the user
+     * @param sendEmail the send email
+     * @return the future result
+     */
+    public SmartsheetFuture<User> addUser(User user, boolean sendEmail);
+
+    /**
+     * Asynchronous version of {@link UserResources#getUser(long)}.
+     *
+     * @param userId the user id
+     * @return the future result
+     */
+    public SmartsheetFuture<UserProfile> getUser(long userId);
+
+    /**
+     * Asynchronous version of {@link UserResources#getCurrentUser()}.
+     *
+     * @return the future result
+     */
+    public SmartsheetFuture<UserProfile> getCurrentUser();
+
+    /**
+     * Asynchronous version of {@link UserResources#getCurrentUser(EnumSet)}.
+     *
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<UserProfile> getCurrentUser(EnumSet<UserInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link UserResources#updateUser(User)}.
+     *
+     * @param user the user
+     * @return the future result
+     */
+    public SmartsheetFuture<User> updateUser(User user);
+
+    /**
+     * Asynchronous version of {@link UserResources#deleteUser(long, DeleteUserParameters)}.
+     *
+     * @param id the id
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteUser(long id, DeleteUserParameters parameters);
+
+    /**
+     * Asynchronous version of {@link UserResources#listOrgSheets(PaginationParameters, Date)}.
+     *
+     * @param pagination the pagination
+     * @param modifiedSince the modified since
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Sheet>> listOrgSheets(PaginationParameters pagination, Date modifiedSince);
+
+    /**
+     * Asynchronous version of {@link UserResources#listAlternateEmails(long, PaginationParameters)}.
+     *
+     * @param userId the user id
+     * @param pagination the pagination
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<AlternateEmail>> listAlternateEmails(long userId, PaginationParameters pagination);
+
+    /**
+     * Asynchronous version of {@link UserResources#getAlternateEmail(long, long)}.
+     *
+     * @param userId the user id
+     * @param altEmailId the alt email id
+     * @return the future result
+     */
+    public SmartsheetFuture<AlternateEmail> getAlternateEmail(long userId, long altEmailId);
+
+    /**
+     * Asynchronous version of {@link UserResources#addAlternateEmail(long, List)}.
+     *
+     * @param userId the user id
+     * @param altEmails the alt emails
+     * @return the future result
+     */
+    public SmartsheetFuture<List<AlternateEmail>> addAlternateEmail(long userId, List<AlternateEmail> altEmails);
+
+    /**
+     * Asynchronous version of {@link UserResources#deleteAlternateEmail(long, long)}.
+     *
+     * @param userId the user id
+     * @param altEmailId the alt email id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteAlternateEmail(long userId, long altEmailId);
+
+    /**
+     * Asynchronous version of {@link UserResources#promoteAlternateEmail(long, long)}.
+     *
+     * @param userId the user id
+     * @param altEmailId the alt email id
+     * @return the future result
+     */
+    public SmartsheetFuture<AlternateEmail> promoteAlternateEmail(long userId, long altEmailId);
+
+    /**
+     * Asynchronous version of {@link UserResources#addProfileImage(long, String, String)}.
+     *
+     * @param userId the user id
+     * @param file the file
+     * @param fileType the file type
+     * @return the future result
+     */
+    public SmartsheetFuture<User> addProfileImage(long userId, String file, String fileType);
+}
@@ -0,0 +1,82 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.WebhookResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Webhook;
+import com.smartsheet.api.models.WebhookSharedSecret;
+
+/**
+ * <p>Asynchronous counterpart of {@link WebhookResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncWebhookResources {
+    /**
+     * Asynchronous version of {@link WebhookResources#listWebhooks(PaginationParameters)}.
+     *
+     * @param paging the paging
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Webhook>> listWebhooks(PaginationParameters paging);
+
+    /**
+     * Asynchronous version of {@link WebhookResources#getWebhook(long)}.
+     *
+     * @param webhookId the webhook id
+     * @return the future result
+     */
+    public SmartsheetFuture<Webhook> getWebhook(long webhookId);
+
+    /**
+     * Asynchronous version of {@link WebhookResources#createWebhook(Webhook)}.
+     *
+     * @param webhook the webhook
+     * @return the future result
+     */
+    public SmartsheetFuture<Webhook> createWebhook(Webhook webhook);
+
+    /**
+     * Asynchronous version of {@link WebhookResources#updateWebhook(Webhook)}.
+     *
+     * @param webhook the webhook
+     * @return the future result
+     */
+    public SmartsheetFuture<Webhook> updateWebhook(Webhook webhook);
+
+    /**
+     * Asynchronous version of {@link WebhookResources#deleteWebhook(long)}.
+     *
+     * @param webhookId the webhook id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteWebhook(long webhookId);
+
+    /**
+     * Asynchronous version of {@link WebhookResources#resetSharedSecret(long)}.
+     *
+     * @param webhookId the webhook id
+     * @return the future result
+     */
+    public SmartsheetFuture<WebhookSharedSecret> resetSharedSecret(long webhookId);
+}
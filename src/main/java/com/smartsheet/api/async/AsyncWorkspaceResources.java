@@ -0,0 +1,106 @@
+package com.smartsheet.api.async;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.WorkspaceResources;
+import com.smartsheet.api.models.ContainerDestination;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Workspace;
+import com.smartsheet.api.models.enums.SourceInclusion;
+import com.smartsheet.api.models.enums.WorkspaceCopyInclusion;
+import com.smartsheet.api.models.enums.WorkspaceRemapExclusion;
+
+import java.util.EnumSet;
+
+/**
+ * <p>Asynchronous counterpart of {@link WorkspaceResources}; each method returns as soon as its request is sent.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncWorkspaceResources {
+    /**
+     * Asynchronous version of {@link WorkspaceResources#listWorkspaces(PaginationParameters)}.
+     *
+     * @param parameters the parameters
+     * @return the future result
+     */
+    public SmartsheetFuture<PagedResult<Workspace>> listWorkspaces(PaginationParameters parameters);
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#getWorkspace(long, Boolean, EnumSet)}.
+     *
+     * @param id the id
+     * @param loadAll the load all
+     * @param includes the includes
+     * @return the future result
+     */
+    public SmartsheetFuture<Workspace> getWorkspace(long id, Boolean loadAll, EnumSet<SourceInclusion> includes);
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#createWorkspace(Workspace)}.
+     *
+     * @param workspace the workspace
+     * @return the future result
+     */
+    public SmartsheetFuture<Workspace> createWorkspace(Workspace workspace);
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#updateWorkspace(Workspace)}.
+     *
+     * @param workspace the workspace
+     * @return the future result
+     */
+    public SmartsheetFuture<Workspace> updateWorkspace(Workspace workspace);
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#deleteWorkspace(long)}.
+     *
+     * @param id the id
+     * @return the future result
+     */
+    public SmartsheetFuture<Void> deleteWorkspace(long id);
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#copyWorkspace(long, ContainerDestination, EnumSet, EnumSet)}.
+     *
+     * @param workspaceId the workspace id
+     * @param containerDestination the container destination
+     * @param includes the includes
+     * @param skipRemap the skip remap
+     * @return the future result
+     */
+    public SmartsheetFuture<Workspace> copyWorkspace(long workspaceId, ContainerDestination containerDestination, EnumSet<WorkspaceCopyInclusion> includes, EnumSet<WorkspaceRemapExclusion> skipRemap);
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#folderResources()}.
+     *
+     * @return the workspace folder resources
+     */
+    public AsyncWorkspaceFolderResources folderResources();
+
+    /**
+     * Asynchronous version of {@link WorkspaceResources#shareResources()}.
+     *
+     * @return the share resources
+     */
+    public AsyncShareResources shareResources();
+}
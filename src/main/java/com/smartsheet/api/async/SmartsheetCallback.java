@@ -0,0 +1,49 @@
+package com.smartsheet.api.async;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+
+/**
+ * <p>This interface receives the outcome of an asynchronous Smartsheet REST API call.</p>
+ *
+ * <p>Callbacks are invoked from the HTTP client's I/O threads (or from the thread that registers them, if the call
+ * has already completed), so they should return quickly and must not block on other asynchronous calls.</p>
+ *
+ * @param <T> the type of the result
+ */
+public interface SmartsheetCallback<T> {
+    /**
+     * Called when the call completed successfully.
+     *
+     * @param result the result (null for calls that don't return anything)
+     */
+    public void completed(T result);
+
+    /**
+     * Called when the call failed.
+     *
+     * @param exception the exception the synchronous method would have thrown, or a SmartsheetException wrapping
+     * any other error
+     */
+    public void failed(SmartsheetException exception);
+}
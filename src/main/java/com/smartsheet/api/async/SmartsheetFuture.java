@@ -0,0 +1,45 @@
+package com.smartsheet.api.async;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.concurrent.Future;
+
+/**
+ * <p>The pending result of an asynchronous Smartsheet REST API call.</p>
+ *
+ * <p>{@link #get()} throws an ExecutionException whose cause is the exception the synchronous method would have
+ * thrown (a SmartsheetException or one of its subclasses).</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ *
+ * @param <T> the type of the result
+ */
+public interface SmartsheetFuture<T> extends Future<T> {
+    /**
+     * Register a callback to be notified when the call completes. If it has already completed the callback is
+     * invoked immediately on the calling thread.
+     *
+     * @param callback the callback
+     * @return this future
+     */
+    public SmartsheetFuture<T> addCallback(SmartsheetCallback<T> callback);
+}
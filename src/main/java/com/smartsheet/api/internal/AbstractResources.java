@@ -33,7 +33,12 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.JsonArrayInputStream;
+import com.smartsheet.api.internal.http.MultipartHttpEntity;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
 import com.smartsheet.api.internal.util.StreamUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
@@ -42,12 +47,7 @@ import com.smartsheet.api.models.CopyOrMoveRowResult;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.Result;
 import org.apache.http.HttpHeaders;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +63,8 @@ import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * This is the base class of the Smartsheet REST API resources.
@@ -75,6 +77,9 @@ public abstract class AbstractResources {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractResources.class);
 
+    /** The path of a sheet or of anything in it; the group is the sheet id. */
+    private static final Pattern SHEET_PATH = Pattern.compile(".*/sheets/(\\d+)(/.*)?");
+
     /** The Constant BUFFER_SIZE. */
     private final static int BUFFER_SIZE = 4098;
 
@@ -202,7 +207,7 @@ public abstract class AbstractResources {
      * @return the resource
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T> T getResource(String path, Class<T> objectClass) throws SmartsheetException  {
+    protected <T> T getResource(String path, final Class<T> objectClass) throws SmartsheetException  {
         Util.throwIfNull(path, objectClass);
 
         if(path.isEmpty()) {
@@ -213,41 +218,54 @@ public abstract class AbstractResources {
 
         HttpRequest  request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
-        T obj = null;
-        String content = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            InputStream inputStream = response.getEntity().getContent();
-            switch (response.getStatusCode()) {
-                case 200:
-                    try {
-                        if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
-                        }
-                        obj = this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
-                    } catch (JsonParseException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (JsonMappingException e) {
-                        log.info("failure mapping '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure loading '{}'", content, e);
-                        throw new SmartsheetException(e);
+        return executeGet(request, "resource " + objectClass.getName(), resourceHandler(objectClass));
+    }
+
+    /**
+     * Create the handler that converts the response of a {@link #getResource} request into the resource.
+     *
+     * @param <T> the generic type
+     * @param objectClass the object class
+     * @return the handler
+     */
+    protected <T> ResponseHandler<T> resourceHandler(final Class<T> objectClass) {
+        return new ResponseHandler<T>() {
+            @Override
+            public T handle(HttpResponse response) throws SmartsheetException {
+                T obj = null;
+                String content = null;
+                try {
+                    InputStream inputStream = response.getEntity().getContent();
+                    switch (response.getStatusCode()) {
+                        case 200:
+                            try {
+                                if (log.isInfoEnabled()) {
+                                    ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
+                                    inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
+                                    content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
+                                }
+                                obj = smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
+                            } catch (JsonParseException e) {
+                                log.info("failure parsing '{}'", content, e);
+                                throw new SmartsheetException(e);
+                            } catch (JsonMappingException e) {
+                                log.info("failure mapping '{}'", content, e);
+                                throw new SmartsheetException(e);
+                            } catch (IOException e) {
+                                log.info("failure loading '{}'", content, e);
+                                throw new SmartsheetException(e);
+                            }
+                            break;
+                        default:
+                            handleError(response);
                     }
-                    break;
-                default:
-                    handleError(response);
+                } catch (JSONSerializerException jsx) {
+                    log.info("failed to parse '{}'", content, jsx);
+                    throw jsx;
+                }
+                return obj;
             }
-        } catch (JSONSerializerException jsx) {
-            log.info("failed to parse '{}'", content, jsx);
-            throw jsx;
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return obj;
+        };
     }
 
     /**
@@ -269,51 +287,43 @@ public abstract class AbstractResources {
      * @return the created resource
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T, S> T createResource(String path, Class<T> objectClass, S object) throws SmartsheetException {
+    protected <T, S> T createResource(String path, final Class<T> objectClass, S object) throws SmartsheetException {
         Util.throwIfNull(path, object, objectClass);
         Util.throwIfEmpty(path);
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
-
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
-
-        T obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200: {
-                    InputStream inputStream = response.getEntity().getContent();
-                    String content = null;
-                    try {
-                        if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
+        request.setEntity(createJsonEntity(object));
+
+        return execute(request, new ResponseHandler<T>() {
+            @Override
+            public T handle(HttpResponse response) throws SmartsheetException {
+                T obj = null;
+                switch (response.getStatusCode()) {
+                    case 200: {
+                        InputStream inputStream = response.getEntity().getContent();
+                        String content = null;
+                        try {
+                            if (log.isInfoEnabled()) {
+                                ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
+                                inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
+                                content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
+                            }
+                            obj = smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
+                        } catch (JSONSerializerException e) {
+                            log.info("failure parsing '{}'", content, e);
+                            throw new SmartsheetException(e);
+                        } catch (IOException e) {
+                            log.info("failure cloning content from inputStream '{}'", inputStream, e);
+                            throw new SmartsheetException(e);
                         }
-                        obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
-                    } catch (JSONSerializerException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure cloning content from inputStream '{}'", inputStream, e);
-                        throw new SmartsheetException(e);
+                        break;
                     }
-                    break;
+                    default:
+                        handleError(response);
                 }
-                default:
-                    handleError(response);
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -334,41 +344,28 @@ public abstract class AbstractResources {
      * @return the created resource
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T> T createResourceWithAttachment(String path, Class<T> objectClass, T object, String partName,InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException {
+    protected <T> T createResourceWithAttachment(String path, final Class<T> objectClass, T object, String partName,InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException {
         Util.throwIfNull(path, object);
         Util.throwIfEmpty(path);
 
-        HttpRequest request;
-        final String boundary = "----" + System.currentTimeMillis() ;
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(path));
-
-        try {
-            uploadFile.setHeader("Content-Type", "multipart/form-data; boundary=" + boundary);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-        builder.setBoundary(boundary);
-        builder.addTextBody(partName, this.getSmartsheet().getJsonSerializer().serialize(object), ContentType.APPLICATION_JSON);
-        builder.addBinaryBody("file", inputStream, ContentType.create(contentType), attachmentName);
-        org.apache.http.HttpEntity multipart = builder.build();
-
-        uploadFile.setEntity(multipart);
-
-        T obj = null;
-        //implement switch case
-        try {
-            CloseableHttpResponse response = httpClient.execute(uploadFile);
-            org.apache.http.HttpEntity responseEntity = response.getEntity();
-            obj = this.getSmartsheet().getJsonSerializer().deserializeResult(objectClass,
-                    responseEntity.getContent()).getResult();
-        }
-        catch (Exception e) {
-            throw  new RuntimeException(e);
-        }
-        return obj;
+        HttpRequest request = createMultipartRequest(this.getSmartsheet().getBaseURI().resolve(path), partName, object,
+                inputStream, contentType, attachmentName);
+
+        return execute(request, new ResponseHandler<T>() {
+            @Override
+            public T handle(HttpResponse response) throws SmartsheetException {
+                T obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = getSmartsheet().getJsonSerializer().deserializeResult(objectClass,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
+            }
+        });
     }
 
     /**
@@ -390,38 +387,29 @@ public abstract class AbstractResources {
      * @return the updated resource
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T> T updateResource(String path, Class<T> objectClass, T object) throws SmartsheetException {
+    protected <T> T updateResource(String path, final Class<T> objectClass, T object) throws SmartsheetException {
         Util.throwIfNull(path, object);
         Util.throwIfEmpty(path);
 
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
-
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
-
-
-        T obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+        request.setEntity(createJsonEntity(object));
+
+        return execute(request, new ResponseHandler<T>() {
+            @Override
+            public T handle(HttpResponse response) throws SmartsheetException {
+                T obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeResult(objectClass,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -441,30 +429,28 @@ public abstract class AbstractResources {
      * @return the resources
      * @throws SmartsheetException if an error occurred during the operation
      */
-    protected <T> List<T> listResources(String path, Class<T> objectClass) throws SmartsheetException {
+    protected <T> List<T> listResources(String path, final Class<T> objectClass) throws SmartsheetException {
         Util.throwIfNull(path, objectClass);
         Util.throwIfEmpty(path);
 
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
-
-        List<T> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeList(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        return executeGet(request, "list " + objectClass.getName(), new ResponseHandler<List<T>>() {
+            @Override
+            public List<T> handle(HttpResponse response) throws SmartsheetException {
+                List<T> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeList(objectClass,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -483,30 +469,28 @@ public abstract class AbstractResources {
      * @return
      * @throws SmartsheetException
      */
-    protected <T> PagedResult<T> listResourcesWithWrapper(String path, Class<T> objectClass) throws SmartsheetException {
+    protected <T> PagedResult<T> listResourcesWithWrapper(String path, final Class<T> objectClass) throws SmartsheetException {
         Util.throwIfNull(path, objectClass);
         Util.throwIfEmpty(path);
 
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
-
-        PagedResult<T> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeDataWrapper(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        return executeGet(request, "page " + objectClass.getName(), new ResponseHandler<PagedResult<T>>() {
+            @Override
+            public PagedResult<T> handle(HttpResponse response) throws SmartsheetException {
+                PagedResult<T> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeDataWrapper(objectClass,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -526,26 +510,27 @@ public abstract class AbstractResources {
      * @param objectClass the resource object class
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T> void deleteResource(String path, Class<T> objectClass) throws SmartsheetException {
+    protected <T> void deleteResource(String path, final Class<T> objectClass) throws SmartsheetException {
         Util.throwIfNull(path, objectClass);
         Util.throwIfEmpty(path);
 
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
 
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        execute(request, new ResponseHandler<Void>() {
+            @Override
+            public Void handle(HttpResponse response) throws SmartsheetException {
+                switch (response.getStatusCode()) {
+                    case 200:
+                        smartsheet.getJsonSerializer().deserializeResult(objectClass,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return null;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
+        });
     }
 
     /**
@@ -566,27 +551,27 @@ public abstract class AbstractResources {
      * @return List of ids deleted
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T> List<T> deleteListResources(String path, Class<T> objectClass) throws SmartsheetException {
+    protected <T> List<T> deleteListResources(String path, final Class<T> objectClass) throws SmartsheetException {
         Util.throwIfNull(path, objectClass);
         Util.throwIfEmpty(path);
 
-        Result<List<T>> obj = null;
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeListResult(objectClass,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        return execute(request, new ResponseHandler<List<T>>() {
+            @Override
+            public List<T> handle(HttpResponse response) throws SmartsheetException {
+                Result<List<T>> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeListResult(objectClass,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj.getResult();
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return obj.getResult();
+        });
     }
 
     /**
@@ -613,37 +598,28 @@ public abstract class AbstractResources {
      * @return the list
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T, S> List<S> postAndReceiveList(String path, T objectToPost, Class<S> objectClassToReceive) throws SmartsheetException {
+    protected <T, S> List<S> postAndReceiveList(String path, T objectToPost, final Class<S> objectClassToReceive) throws SmartsheetException {
         Util.throwIfNull(path, objectToPost, objectClassToReceive);
         Util.throwIfEmpty(path);
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
-
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
-
-
-        List<S> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeListResult(objectClassToReceive,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+        request.setEntity(createJsonEntity(objectToPost));
+
+        return execute(request, new ResponseHandler<List<S>>() {
+            @Override
+            public List<S> handle(HttpResponse response) throws SmartsheetException {
+                List<S> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeListResult(objectClassToReceive,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -671,32 +647,23 @@ public abstract class AbstractResources {
         Util.throwIfEmpty(path);
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
-
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
-
-
-        CopyOrMoveRowResult obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeCopyOrMoveRow(
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        request.setEntity(createJsonEntity(objectToPost));
+
+        return execute(request, new ResponseHandler<CopyOrMoveRowResult>() {
+            @Override
+            public CopyOrMoveRowResult handle(HttpResponse response) throws SmartsheetException {
+                CopyOrMoveRowResult obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeCopyOrMoveRow(
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -718,38 +685,75 @@ public abstract class AbstractResources {
      * @return the object list
      * @throws SmartsheetException the smartsheet exception
      */
-    protected <T, S> List<S> putAndReceiveList(String path, T objectToPut, Class<S> objectClassToReceive)
+    protected <T, S> List<S> putAndReceiveList(String path, T objectToPut, final Class<S> objectClassToReceive)
             throws SmartsheetException {
         Util.throwIfNull(path, objectToPut, objectClassToReceive);
         Util.throwIfEmpty(path);
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        request.setEntity(createJsonEntity(objectToPut));
+
+        return execute(request, new ResponseHandler<List<S>>() {
+            @Override
+            public List<S> handle(HttpResponse response) throws SmartsheetException {
+                List<S> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeListResult(
+                                objectClassToReceive, response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
+            }
+        });
+    }
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPut, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
-
+    /**
+     * Send an array of objects to Smartsheet REST API, streaming the body (see {@link #createJsonArrayEntity}), and
+     * receive a list of objects from response. Unlike {@link #postAndReceiveList} and {@link #putAndReceiveList} the
+     * body is sent chunked without a Content-Length, and a serialization error surfaces while it is being sent.
+     *
+     * Exceptions:
+     *   IllegalArgumentException : if any argument is null, or path is empty string
+     *   InvalidRequestException : if there is any problem with the REST API request
+     *   AuthorizationException : if there is any problem with the REST API authorization(access token)
+     *   ServiceUnavailableException : if the REST API service is not available (possibly due to rate limiting)
+     *   SmartsheetRestException : if there is any other REST API related error occurred during the operation
+     *   SmartsheetException : if there is any other error occurred during the operation
+     *
+     * @param <S> the generic type
+     * @param path the relative path of the resource collections
+     * @param method the http method, POST or PUT
+     * @param objects the objects to send
+     * @param objectClassToReceive the resource object class to receive
+     * @return the object list
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <S> List<S> streamAndReceiveList(String path, HttpMethod method, Iterable<?> objects,
+                                               final Class<S> objectClassToReceive) throws SmartsheetException {
+        Util.throwIfNull(path, method, objects, objectClassToReceive);
+        Util.throwIfEmpty(path);
 
-        List<S> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeListResult(
-                            objectClassToReceive, response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
+        request.setEntity(createJsonArrayEntity(objects));
+
+        return execute(request, new ResponseHandler<List<S>>() {
+            @Override
+            public List<S> handle(HttpResponse response) throws SmartsheetException {
+                List<S> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeListResult(
+                                objectClassToReceive, response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
 
@@ -774,6 +778,141 @@ public abstract class AbstractResources {
         return request;
     }
 
+    /**
+     * Create a JSON HttpEntity holding the serialized form of an object.
+     *
+     * @param object the object to serialize
+     * @return the http entity
+     * @throws JSONSerializerException if the object can't be serialized
+     */
+    protected <T> HttpEntity createJsonEntity(T object) throws JSONSerializerException {
+        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
+        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
+        entity.setContentLength(objectBytesStream.size());
+        return entity;
+    }
+
+    /**
+     * Create a JSON HttpEntity for the array of the given objects. With the Jackson serializer the objects are
+     * serialized as the body is sent (see {@link JsonArrayInputStream}), so a large body is never held in memory and
+     * is regenerated from the Iterable if the request is retried; other serializers fall back to
+     * {@link #createJsonEntity}.
+     *
+     * @param objects the objects to serialize, iterated once per send
+     * @return the http entity
+     * @throws JSONSerializerException if the objects can't be serialized
+     */
+    protected HttpEntity createJsonArrayEntity(Iterable<?> objects) throws JSONSerializerException {
+        if (!(this.smartsheet.getJsonSerializer() instanceof JacksonJsonSerializer)) {
+            return createJsonEntity(objects);
+        }
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        entity.setContent(new JsonArrayInputStream(objects, (JacksonJsonSerializer) this.smartsheet.getJsonSerializer()));
+        entity.setContentLength(-1);
+        return entity;
+    }
+
+    /**
+     * Make a request through the HttpClient and convert the response using the given handler, releasing the
+     * connection afterwards.
+     *
+     * When the calling thread is capturing requests for the asynchronous facade (see {@link DeferredRequest}) the
+     * request is not made here; it is recorded along with the handler and null is returned.
+     *
+     * @param <T> the type of the result
+     * @param request the request
+     * @param handler the handler that converts the response into the result
+     * @return the result, or null if the request was deferred
+     * @throws SmartsheetException if the request fails or the handler rejects the response
+     */
+    protected <T> T execute(HttpRequest request, ResponseHandler<T> handler) throws SmartsheetException {
+        handler = invalidatingSheetCache(request, handler);
+        if (DeferredRequest.defer(request, handler)) {
+            return null;
+        }
+        try {
+            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+            return handler.handle(response);
+        } finally {
+            smartsheet.getHttpClient().releaseConnection();
+        }
+    }
+
+    /**
+     * Make a GET request like {@link #execute}, sharing the call with identical requests in flight on other threads
+     * when request coalescing is enabled.
+     *
+     * @param <T> the type of the result
+     * @param request the request
+     * @param resultType identifies the type the handler converts the response to
+     * @param handler the handler that converts the response into the result
+     * @return the result, or null if the request was deferred
+     * @throws SmartsheetException if the request fails or the handler rejects the response
+     */
+    protected <T> T executeGet(final HttpRequest request, String resultType, final ResponseHandler<T> handler)
+            throws SmartsheetException {
+        RequestCoalescer coalescer = smartsheet.getRequestCoalescer();
+        if (coalescer == null || DeferredRequest.isCapturing()) {
+            return execute(request, handler);
+        }
+        return coalescer.execute(RequestCoalescer.key(request, resultType), new RequestCoalescer.Request<T>() {
+            @Override
+            public T execute() throws SmartsheetException {
+                return AbstractResources.this.execute(request, handler);
+            }
+        });
+    }
+
+    /**
+     * Wrap the handler of a request that may change a sheet (any request to sheets/{id} but a GET) so that the
+     * sheet's entries in the sheet cache are dropped once the response arrives, whatever it is.
+     *
+     * @param request the request
+     * @param handler the handler
+     * @return the handler to use
+     */
+    private <T> ResponseHandler<T> invalidatingSheetCache(HttpRequest request, final ResponseHandler<T> handler) {
+        final SheetCache sheetCache = smartsheet.getSheetCache();
+        if (sheetCache == null || request.getMethod() == HttpMethod.GET || request.getUri() == null) {
+            return handler;
+        }
+        Matcher matcher = SHEET_PATH.matcher(request.getUri().getPath());
+        if (!matcher.matches()) {
+            return handler;
+        }
+        final long sheetId = Long.parseLong(matcher.group(1));
+        return new ResponseHandler<T>() {
+            @Override
+            public T handle(HttpResponse response) throws SmartsheetException {
+                try {
+                    return handler.handle(response);
+                } finally {
+                    sheetCache.invalidate(sheetId);
+                }
+            }
+        };
+    }
+
+    /**
+     * Converts the response of a Smartsheet REST API request into the result of a resources method.
+     *
+     * @param <T> the type of the result
+     */
+    protected interface ResponseHandler<T> {
+        /**
+         * Convert the response.
+         *
+         * @param response the response (any status code)
+         * @return the result
+         * @throws SmartsheetException if the response is an error or can't be converted
+         */
+        T handle(HttpResponse response) throws SmartsheetException;
+    }
+
     protected HttpPost createHttpPost(URI uri) {
         HttpPost httpPost = new HttpPost(uri);
         Map<String, String> headers = createHeaders();
@@ -793,26 +932,27 @@ public abstract class AbstractResources {
         }
         HttpEntity entity = new HttpEntity();
         entity.setContentType(contentType);
-        entity.setContent(new LengthEnforcingInputStream(inputStream, contentLength));
+        // a file is sent straight from its channel, so it can't be wrapped; its length is known
+        entity.setContent(inputStream instanceof RepeatableFileInputStream ? inputStream :
+                new LengthEnforcingInputStream(inputStream, contentLength));
         entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        Attachment attachment = null;
-        try {
-            HttpResponse response = this.getSmartsheet().getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    attachment = this.getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+        return execute(request, new ResponseHandler<Attachment>() {
+            @Override
+            public Attachment handle(HttpResponse response) throws SmartsheetException {
+                Attachment attachment = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        attachment = getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return attachment;
             }
-        } finally {
-            this.getSmartsheet().getHttpClient().releaseConnection();
-        }
-
-        return attachment;
+        });
     }
 
     /**
@@ -829,39 +969,62 @@ public abstract class AbstractResources {
     public <T> Attachment attachFile(String url, T t, String partName, InputStream inputstream, String contentType, String attachmentName)
             throws SmartsheetException {
         Util.throwIfNull(inputstream, contentType);
-        Attachment attachment = null;
-        final String boundary = "----" + System.currentTimeMillis() ;
-
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(url));
+        HttpRequest request = createMultipartRequest(this.getSmartsheet().getBaseURI().resolve(url), partName, t,
+                inputstream, contentType, attachmentName);
+
+        return execute(request, new ResponseHandler<Attachment>() {
+            @Override
+            public Attachment handle(HttpResponse response) throws SmartsheetException {
+                Attachment attachment = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        attachment = getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return attachment;
+            }
+        });
+    }
 
+    /**
+     * Create a multipart/form-data POST request holding an object as JSON and a file, to be sent through the
+     * configured HttpClient. The file is streamed (and sent straight from disk when it is a
+     * {@link RepeatableFileInputStream}); any other stream is read as it is sent, so unless it is small enough for
+     * the client to buffer, the request is sent only once and not retried.
+     *
+     * @param uri the URI
+     * @param partName the name of the part holding the object
+     * @param object the object
+     * @param inputStream the content of the file
+     * @param contentType the content type of the file
+     * @param attachmentName the file name
+     * @return the request
+     * @throws JSONSerializerException if the object can't be serialized
+     */
+    protected <T> HttpRequest createMultipartRequest(URI uri, String partName, T object, InputStream inputStream,
+                                                     String contentType, String attachmentName)
+            throws JSONSerializerException {
+        long contentLength = inputStream instanceof RepeatableFileInputStream ?
+                ((RepeatableFileInputStream) inputStream).getFile().length() -
+                        ((RepeatableFileInputStream) inputStream).getPosition() : -1;
+        MultipartHttpEntity entity = new MultipartHttpEntity();
         try {
-            uploadFile.setHeader("Content-Type", "multipart/form-data; boundary=" + boundary);
-        } catch (Exception e) {
+            entity.addPart(partName, "application/json; charset=UTF-8",
+                    this.getSmartsheet().getJsonSerializer().serialize(object).getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException e) {
             throw new RuntimeException(e);
         }
+        entity.addFilePart("file", attachmentName, contentType, inputStream, contentLength);
 
-        MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-        builder.setBoundary(boundary);
-        builder.addTextBody(partName, this.getSmartsheet().getJsonSerializer().serialize(t), ContentType.APPLICATION_JSON);
-        builder.addBinaryBody("file", inputstream, ContentType.create(contentType), attachmentName);
-        org.apache.http.HttpEntity multipart = builder.build();
-
-        uploadFile.setEntity(multipart);
-
-        try {
-            CloseableHttpResponse response = httpClient.execute(uploadFile);
-            org.apache.http.HttpEntity responseEntity = response.getEntity();
-            attachment = this.getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
-                    responseEntity.getContent()).getResult();
-        }
-        catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-        return attachment;
+        HttpRequest request = createHttpRequest(uri, HttpMethod.POST);
+        request.getHeaders().put("Content-Type", entity.getContentType());
+        request.setEntity(entity);
+        return request;
     }
 
-
     /**
      * Handles an error HttpResponse (non-200) returned by Smartsheet REST API.
      *
@@ -909,6 +1072,15 @@ public abstract class AbstractResources {
         return smartsheet;
     }
 
+    /**
+     * Gets the serializer request bodies are written with.
+     *
+     * @return the JSON serializer of the smartsheet
+     */
+    public JsonSerializer getJsonSerializer() {
+        return smartsheet.getJsonSerializer();
+    }
+
     /**
      * Get a sheet as a file.
      *
@@ -926,7 +1098,7 @@ public abstract class AbstractResources {
      * @return the report as file
      * @throws SmartsheetException the smartsheet exception
      */
-    public void getResourceAsFile(String path, String fileType, OutputStream outputStream)
+    public void getResourceAsFile(String path, String fileType, final OutputStream outputStream)
             throws SmartsheetException {
         Util.throwIfNull(outputStream, fileType);
 
@@ -934,23 +1106,23 @@ public abstract class AbstractResources {
         request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
         request.getHeaders().put("Accept", fileType);
 
-        try {
-            HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
-            switch (response.getStatusCode()) {
-                case 200:
-                    try {
-                        copyStream(response.getEntity().getContent(), outputStream);
-                    } catch (IOException e) {
-                        throw new SmartsheetException(e);
-                    }
-                    break;
-                default:
-                    handleError(response);
+        execute(request, new ResponseHandler<Void>() {
+            @Override
+            public Void handle(HttpResponse response) throws SmartsheetException {
+                switch (response.getStatusCode()) {
+                    case 200:
+                        try {
+                            copyStream(response.getEntity().getContent(), outputStream);
+                        } catch (IOException e) {
+                            throw new SmartsheetException(e);
+                        }
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return null;
             }
-        } finally {
-            getSmartsheet().getHttpClient().releaseConnection();
-        }
+        });
     }
 
     /*
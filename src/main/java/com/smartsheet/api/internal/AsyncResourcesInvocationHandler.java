@@ -0,0 +1,211 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.async.SmartsheetFuture;
+import com.smartsheet.api.internal.http.AsyncHttpClient;
+import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+
+/**
+ * This class implements the Async*Resources interfaces on top of their synchronous counterparts.
+ *
+ * Each asynchronous method is mapped onto the synchronous method with the same name and parameter types. That method
+ * is invoked on the calling thread while a {@link DeferredRequest} capture is active, so it validates its arguments
+ * and builds its request as usual but, instead of sending it, hands the request and its response handler back here.
+ * The request is then sent through {@link AsyncHttpClient#requestAsync} and the handler is run on the I/O thread that
+ * receives the response. Every request goes through {@link AbstractResources#execute}, the multipart uploads included;
+ * a method that makes no request (or one that isn't an Async*Resources method) runs to completion on the calling
+ * thread, and when the HttpClient isn't an AsyncHttpClient the captured request is sent synchronously there too.
+ *
+ * Thread Safety: This class is thread safe because it is immutable and the underlying resources are thread safe.
+ */
+class AsyncResourcesInvocationHandler implements InvocationHandler {
+    private static final Logger log = LoggerFactory.getLogger(AsyncResourcesInvocationHandler.class);
+
+    /** Synchronous method for each asynchronous method, shared by all proxies. */
+    private static final ConcurrentMap<Method, Method> SYNC_METHODS = new ConcurrentHashMap<Method, Method>();
+
+    /** The synchronous object (SmartsheetImpl or a *ResourcesImpl) the calls are mapped onto. */
+    private final Object target;
+
+    /** The client whose HttpClient sends the requests. */
+    private final SmartsheetImpl smartsheet;
+
+    private AsyncResourcesInvocationHandler(Object target, SmartsheetImpl smartsheet) {
+        this.target = target;
+        this.smartsheet = smartsheet;
+    }
+
+    /**
+     * Create the asynchronous view of a Smartsheet client.
+     *
+     * @param asyncInterface the asynchronous interface
+     * @param smartsheet the client
+     * @return the proxy
+     */
+    static <T> T newProxy(Class<T> asyncInterface, SmartsheetImpl smartsheet) {
+        return newProxy(asyncInterface, smartsheet, smartsheet);
+    }
+
+    private static <T> T newProxy(Class<T> asyncInterface, Object target, SmartsheetImpl smartsheet) {
+        return asyncInterface.cast(Proxy.newProxyInstance(asyncInterface.getClassLoader(),
+                new Class<?>[]{asyncInterface}, new AsyncResourcesInvocationHandler(target, smartsheet)));
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            if ("equals".equals(method.getName())) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            }
+            return method.getReturnType() == String.class ? "Async(" + target + ")" : method.invoke(this, args);
+        }
+
+        Method syncMethod = getSyncMethod(method);
+        if (method.getReturnType() != SmartsheetFuture.class) {
+            // a sub-resources getter
+            return newProxy(method.getReturnType(), invokeSync(syncMethod, args), smartsheet);
+        }
+
+        SmartsheetFutureImpl<Object> future = new SmartsheetFutureImpl<Object>();
+        DeferredRequest capture = DeferredRequest.begin();
+        Object result;
+        try {
+            result = invokeSync(syncMethod, args);
+        } catch (SmartsheetException e) {
+            future.fail(e);
+            return future;
+        } finally {
+            DeferredRequest.end();
+        }
+
+        if (capture.getRequest() == null) {
+            future.complete(result);
+        } else {
+            send(capture, future);
+        }
+        return future;
+    }
+
+    /**
+     * Send a captured request, completing the future with the result of its handler.
+     *
+     * @param capture the captured request
+     * @param future the future to complete
+     */
+    private void send(DeferredRequest capture, final SmartsheetFutureImpl<Object> future) {
+        final AbstractResources.ResponseHandler<?> handler = capture.getHandler();
+        HttpClient httpClient = smartsheet.getHttpClient();
+        if (!(httpClient instanceof AsyncHttpClient)) {
+            try {
+                future.complete(handler.handle(httpClient.request(capture.getRequest())));
+            } catch (SmartsheetException e) {
+                future.fail(e);
+            } finally {
+                httpClient.releaseConnection();
+            }
+            return;
+        }
+
+        Future<HttpResponse> requestFuture = ((AsyncHttpClient) httpClient).requestAsync(capture.getRequest(),
+                new FutureCallback<HttpResponse>() {
+                    public void completed(HttpResponse response) {
+                        try {
+                            future.complete(handler.handle(response));
+                        } catch (SmartsheetException e) {
+                            future.fail(e);
+                        } catch (RuntimeException e) {
+                            future.fail(new SmartsheetException(e));
+                        } finally {
+                            try {
+                                response.close();
+                            } catch (IOException e) {
+                                log.warn("failed to close response", e);
+                            }
+                        }
+                    }
+
+                    public void failed(Exception ex) {
+                        future.fail(ex instanceof SmartsheetException ? (SmartsheetException) ex :
+                                new SmartsheetException(ex));
+                    }
+
+                    public void cancelled() {
+                        future.cancel(false);
+                    }
+                });
+        future.setRequestFuture(requestFuture);
+    }
+
+    /**
+     * Invoke the synchronous method, unwrapping whatever it throws. Checked exceptions other than
+     * SmartsheetException (e.g. FileNotFoundException) are wrapped in a SmartsheetException.
+     */
+    private Object invokeSync(Method syncMethod, Object[] args) throws SmartsheetException {
+        try {
+            return syncMethod.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SmartsheetException) {
+                throw (SmartsheetException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SmartsheetException((Exception) cause);
+        }
+    }
+
+    private Method getSyncMethod(Method asyncMethod) {
+        Method syncMethod = SYNC_METHODS.get(asyncMethod);
+        if (syncMethod == null) {
+            try {
+                syncMethod = target.getClass().getMethod(asyncMethod.getName(), asyncMethod.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                throw new UnsupportedOperationException("No synchronous counterpart for " + asyncMethod, e);
+            }
+            SYNC_METHODS.putIfAbsent(asyncMethod, syncMethod);
+        }
+        return syncMethod;
+    }
+}
@@ -20,13 +20,13 @@ package com.smartsheet.api.internal;
  */
 
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 /**
@@ -114,7 +114,7 @@ public class AttachmentVersioningResourcesImpl extends AbstractResources impleme
         Util.throwIfNull(attachmentId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachNewVersion(sheetId ,attachmentId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return attachNewVersion(sheetId ,attachmentId, new RepeatableFileInputStream(file), contentType, file.length(), file.getName());
     }
 
     /**
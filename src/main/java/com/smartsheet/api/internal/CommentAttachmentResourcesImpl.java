@@ -20,6 +20,7 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 
@@ -83,7 +84,7 @@ public class CommentAttachmentResourcesImpl extends AbstractResources implements
         Util.throwIfNull(sheetId, commentId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFile(sheetId, commentId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return attachFile(sheetId, commentId, new RepeatableFileInputStream(file), contentType, file.length(), file.getName());
     }
 
     /**
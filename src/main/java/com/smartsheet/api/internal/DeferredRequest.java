@@ -0,0 +1,107 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.http.HttpRequest;
+
+/**
+ * A request captured, instead of made, by {@link AbstractResources#execute}.
+ *
+ * The asynchronous facade calls a synchronous resources method between {@link #begin()} and {@link #end()}; the
+ * method validates its arguments and builds its request exactly as it normally would, and the request and its
+ * response handler are recorded here so that they can be sent through the non-blocking client.
+ *
+ * Thread Safety: Captures are confined to the thread that began them.
+ */
+final class DeferredRequest {
+    /** The capture in progress on the current thread, if any. */
+    private static final ThreadLocal<DeferredRequest> CAPTURE = new ThreadLocal<DeferredRequest>();
+
+    /** The captured request, null until one has been captured. */
+    private HttpRequest request;
+
+    /** The handler for the captured request. */
+    private AbstractResources.ResponseHandler<?> handler;
+
+    private DeferredRequest() {
+    }
+
+    /**
+     * Start capturing requests made on the current thread.
+     *
+     * @return the capture, which holds the request once the resources method returns
+     */
+    static DeferredRequest begin() {
+        DeferredRequest capture = new DeferredRequest();
+        CAPTURE.set(capture);
+        return capture;
+    }
+
+    /**
+     * Stop capturing requests made on the current thread.
+     */
+    static void end() {
+        CAPTURE.remove();
+    }
+
+    /**
+     * @return true if the current thread is capturing requests
+     */
+    static boolean isCapturing() {
+        return CAPTURE.get() != null;
+    }
+
+    /**
+     * Record a request if the current thread is capturing.
+     *
+     * @param request the request
+     * @param handler the handler for its response
+     * @return true if the request was recorded and must not be made, false if it should be made as usual
+     * @throws IllegalStateException if the capture already holds a request (the method makes several calls and
+     * can't be deferred)
+     */
+    static boolean defer(HttpRequest request, AbstractResources.ResponseHandler<?> handler) {
+        DeferredRequest capture = CAPTURE.get();
+        if (capture == null) {
+            return false;
+        }
+        if (capture.request != null) {
+            throw new IllegalStateException("Only a single request can be deferred per call");
+        }
+        capture.request = request;
+        capture.handler = handler;
+        return true;
+    }
+
+    /**
+     * @return the captured request, or null if none was made
+     */
+    HttpRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return the handler for the captured request
+     */
+    AbstractResources.ResponseHandler<?> getHandler() {
+        return handler;
+    }
+}
@@ -19,11 +19,11 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Comment;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 /**
@@ -87,7 +87,7 @@ public class DiscussionCommentResourcesImpl extends AbstractResources implements
         String path = "sheets/" + sheetId + "/discussions/" + discussionId + "/comments";
         Util.throwIfNull(sheetId, comment, file, contentType);
 
-        return this.addCommentWithAttachment(path, comment, new FileInputStream(file), contentType, file.getName());
+        return this.addCommentWithAttachment(path, comment, new RepeatableFileInputStream(file), contentType, file.getName());
     }
 
     private Comment addCommentWithAttachment(String path, Comment comment, InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException{
@@ -93,20 +93,19 @@ public class EventResourcesImpl extends AbstractResources implements EventResour
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
-        EventResult obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeEventResult(response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        return execute(request, new ResponseHandler<EventResult>() {
+            @Override
+            public EventResult handle(HttpResponse response) throws SmartsheetException {
+                EventResult obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeEventResult(response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 }
@@ -20,8 +20,6 @@
 
 package com.smartsheet.api.internal;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
@@ -34,7 +32,6 @@ import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
-import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
@@ -82,35 +79,31 @@ public class ImageUrlResourcesImpl extends AbstractResources implements ImageUrl
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve("imageurls"), HttpMethod.POST);
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(requestUrls, baos);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(requestUrls));
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        return execute(request, new ResponseHandler<ImageUrlMap>() {
+            @Override
+            public ImageUrlMap handle(HttpResponse response) throws SmartsheetException {
+                ImageUrlMap obj = null;
 
-        ImageUrlMap obj = null;
-
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    obj = this.smartsheet.getJsonSerializer().deserialize(ImageUrlMap.class,
-                            response.getEntity().getContent());
-                } catch (JsonParseException e) {
-                    throw new SmartsheetException(e);
-                } catch (JsonMappingException e) {
-                    throw new SmartsheetException(e);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
+                switch (response.getStatusCode()) {
+                    case 200:
+                        try {
+                            obj = smartsheet.getJsonSerializer().deserialize(ImageUrlMap.class,
+                                    response.getEntity().getContent());
+                        } catch (JsonParseException e) {
+                            throw new SmartsheetException(e);
+                        } catch (JsonMappingException e) {
+                            throw new SmartsheetException(e);
+                        } catch (IOException e) {
+                            throw new SmartsheetException(e);
+                        }
+                        break;
+                    default:
+                        handleError(response);
                 }
-                break;
-            default:
-                handleError(response);
-        }
-        smartsheet.getHttpClient().releaseConnection();
-        return obj;
+                return obj;
+            }
+        });
     }
 }
@@ -143,32 +143,32 @@ public class PassthroughResourcesImpl extends AbstractResources implements Passt
             request.setEntity(entity);
         }
 
-        String res = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    String readLine;
-                    try {
-                        BufferedReader br;
-                        StringBuilder sb = new StringBuilder();
-                        br = new BufferedReader(new InputStreamReader(response.getEntity().getContent()));
-                        while ((readLine = br.readLine()) != null) {
-                            sb.append(readLine);
+        return execute(request, new ResponseHandler<String>() {
+            @Override
+            public String handle(HttpResponse response) throws SmartsheetException {
+                String res = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        String readLine;
+                        try {
+                            BufferedReader br;
+                            StringBuilder sb = new StringBuilder();
+                            br = new BufferedReader(new InputStreamReader(response.getEntity().getContent()));
+                            while ((readLine = br.readLine()) != null) {
+                                sb.append(readLine);
+                            }
+                            br.close();
+                            res = sb.toString();
                         }
-                        br.close();
-                        res = sb.toString();
-                    }
-                    catch (IOException e) {
-                        res = null;
-                    }
-                    break;
-                default:
-                    handleError(response);
+                        catch (IOException e) {
+                            res = null;
+                        }
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return res;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return res;
+        });
     }
 }
@@ -0,0 +1,148 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces identical GET requests made at the same time: the first caller makes the request and the others wait for
+ * it and get the same result (or exception), so a burst of identical reads costs a single API call.
+ *
+ * Requests are identical if they have the same URI, access token, assumed user and Accept header and are converted
+ * to the same type. Only requests in flight are shared; nothing is kept once the call completes. Coalesced callers
+ * share the result object and must not modify it.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+final class RequestCoalescer {
+
+    /** The calls in flight, by key. */
+    private final ConcurrentMap<String, Call> inFlight = new ConcurrentHashMap<String, Call>();
+
+    /** The number of callers that waited for another caller's request. */
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Makes the request being coalesced.
+     *
+     * @param <T> the type of the result
+     */
+    interface Request<T> {
+        /**
+         * @return the result
+         * @throws SmartsheetException if the request fails
+         */
+        T execute() throws SmartsheetException;
+    }
+
+    /**
+     * Make a request, or wait for an identical one in flight.
+     *
+     * @param <T> the type of the result
+     * @param key the key from {@link #key(HttpRequest, String)}
+     * @param request makes the request
+     * @return the result
+     * @throws SmartsheetException if the request fails
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Request<T> request) throws SmartsheetException {
+        Call call = new Call();
+        Call leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            coalesced.incrementAndGet();
+            return (T) leader.await();
+        }
+        try {
+            call.result = request.execute();
+        } catch (SmartsheetException e) {
+            call.error = e;
+            throw e;
+        } catch (RuntimeException e) {
+            call.error = e;
+            throw e;
+        } catch (Error e) {
+            call.error = e;
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+            call.done.countDown();
+        }
+        return (T) call.result;
+    }
+
+    /**
+     * @return the number of callers that got the result of another caller's request
+     */
+    long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Build the key of a request.
+     *
+     * @param request the request
+     * @param resultType identifies the type the response is converted to
+     * @return the key
+     */
+    static String key(HttpRequest request, String resultType) {
+        Map<String, String> headers = request.getHeaders();
+        StringBuilder key = new StringBuilder().append(request.getMethod()).append(' ').append(request.getUri());
+        if (headers != null) {
+            key.append('\n').append(headers.get("Authorization"))
+                    .append('\n').append(headers.get("Assume-User"))
+                    .append('\n').append(headers.get("Accept"));
+        }
+        return key.append('\n').append(resultType).toString();
+    }
+
+    private static final class Call {
+        final CountDownLatch done = new CountDownLatch(1);
+        Object result;
+        Throwable error;
+
+        Object await() throws SmartsheetException {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SmartsheetException("Interrupted while waiting for an identical request.", e);
+            }
+            if (error instanceof SmartsheetException) {
+                throw (SmartsheetException) error;
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            if (error instanceof Error) {
+                throw (Error) error;
+            }
+            return result;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package com.smartsheet.api.internal;
  */
 
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.PagedResult;
@@ -116,7 +117,7 @@ public class RowAttachmentResourcesImpl extends AbstractResources implements Row
         Util.throwIfNull(sheetId, rowId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFile(sheetId, rowId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return attachFile(sheetId, rowId, new RepeatableFileInputStream(file), contentType, file.length(), file.getName());
     }
 
     /**
@@ -20,7 +20,6 @@ package com.smartsheet.api.internal;
  */
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -34,6 +33,7 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.CellHistory;
@@ -151,7 +151,7 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
     public void addImageToCell(long sheetId, long rowId, long columnId, String file, String contentType) throws FileNotFoundException, SmartsheetException {
         Util.throwIfNull(file);
         File f = new File(file);
-        addImage("sheets/" + sheetId + "/rows/" + rowId + "/columns/" + columnId + "/cellimages", new FileInputStream(f),
+        addImage("sheets/" + sheetId + "/rows/" + rowId + "/columns/" + columnId + "/cellimages", new RepeatableFileInputStream(f),
                 contentType, f.length(), false, null, file);
     }
 
@@ -182,7 +182,7 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
                                boolean overrideValidation, String altText) throws FileNotFoundException, SmartsheetException {
         Util.throwIfNull(file);
         File f = new File(file);
-        addImage("sheets/" + sheetId + "/rows/" + rowId + "/columns/" + columnId + "/cellimages", new FileInputStream(f),
+        addImage("sheets/" + sheetId + "/rows/" + rowId + "/columns/" + columnId + "/cellimages", new RepeatableFileInputStream(f),
                 contentType, f.length(), overrideValidation, altText, file);
     }
 
@@ -212,7 +212,7 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
     public void addImageToCell(long sheetId, long rowId, long columnId, File file, String contentType,
                                boolean overrideValidation, String altText) throws FileNotFoundException, SmartsheetException {
         Util.throwIfNull(file);
-        addImage("sheets/" + sheetId + "/rows/" + rowId + "/columns/" + columnId + "/cellimages", new FileInputStream(file),
+        addImage("sheets/" + sheetId + "/rows/" + rowId + "/columns/" + columnId + "/cellimages", new RepeatableFileInputStream(file),
                 contentType, file.length(), overrideValidation, altText, file.getName());
     }
 
@@ -278,13 +278,17 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-        switch (response.getStatusCode()) {
-            case 200:
-                break;
-            default:
-                handleError(response);
-        }
-        smartsheet.getHttpClient().releaseConnection();
+        execute(request, new ResponseHandler<Void>() {
+            @Override
+            public Void handle(HttpResponse response) throws SmartsheetException {
+                switch (response.getStatusCode()) {
+                    case 200:
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return null;
+            }
+        });
     }
 }
@@ -2,6 +2,7 @@ package com.smartsheet.api.internal;
 
 import com.smartsheet.api.RowDiscussionResources;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Discussion;
@@ -10,7 +11,6 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.DiscussionInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -90,7 +90,7 @@ public class RowDiscussionResourcesImpl extends AbstractResources implements Row
         String path = "sheets/" + sheetId + "/rows/" + rowId + "/discussions";
         Util.throwIfNull(sheetId, discussion, file, contentType);
 
-        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", new FileInputStream(file), contentType, file.getName());
+        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", new RepeatableFileInputStream(file), contentType, file.getName());
     }
     /**
      * Gets a list of all Discussions associated with the specified Row.
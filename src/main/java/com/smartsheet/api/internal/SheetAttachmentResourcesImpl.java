@@ -19,6 +19,7 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.PagedResult;
@@ -156,7 +157,7 @@ public class SheetAttachmentResourcesImpl extends AbstractResources implements S
         Util.throwIfNull(sheetId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFile(sheetId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return attachFile(sheetId, new RepeatableFileInputStream(file), contentType, file.length(), file.getName());
     }
 
     /**
@@ -0,0 +1,304 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class keeps recently fetched sheets in memory so that repeated getSheet calls with the same parameters don't
+ * download the sheet again while it hasn't changed.
+ *
+ * A cached sheet is returned as is until it is older than the staleness limit. After that the next getSheet call
+ * revalidates it with a single request using ifVersionAfter: if the sheet's version hasn't moved the server answers
+ * with just the version and the cached sheet is kept (and considered fresh again), otherwise the answer is the new
+ * sheet, which replaces it.
+ *
+ * The cache is bounded by a total weight, where a sheet weighs one per cell, row and column; least recently used
+ * sheets are evicted first. Sheets are cached per access token, assumed user and request parameters. Calls passing
+ * ifVersionAfter themselves, and asynchronous calls, bypass the cache.
+ *
+ * Cached sheets are shared between callers and must not be modified. Every request other than a GET that the client
+ * makes to a sheet (adding, updating or deleting rows, columns or cells, sorting it, ...) drops the sheet's entries
+ * once its response arrives; changes made some other way aren't seen until the entry is revalidated, or
+ * {@link #invalidate(long)} is called. A sheet being fetched while it is invalidated is returned to its caller but not
+ * cached, since it may predate the change.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class SheetCache {
+
+    /** The default total weight: about a million cells. */
+    public static final long DEFAULT_MAX_WEIGHT = 1000000;
+
+    /** The default staleness limit. */
+    public static final long DEFAULT_STALE_AFTER_MILLIS = 60000;
+
+    private final long maxWeight;
+    private final long staleAfterNanos;
+
+    /** The entries in least recently used order. Guarded by this. */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    /** The sum of the entries' weights. Guarded by this. */
+    private long weight;
+
+    /** The generations of the sheets being fetched, by sheet id, bumped when they are invalidated. Guarded by this. */
+    private final Map<Long, Generation> loading = new HashMap<Long, Generation>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+
+    /**
+     * Constructor, with the default weight and staleness limits.
+     */
+    public SheetCache() {
+        this(DEFAULT_MAX_WEIGHT, DEFAULT_STALE_AFTER_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the most cells, rows and columns kept in total
+     * @param staleAfterMillis how long a sheet is served without checking its version; 0 checks on every call
+     */
+    public SheetCache(long maxWeight, long staleAfterMillis) {
+        if (maxWeight <= 0 || staleAfterMillis < 0) {
+            throw new IllegalArgumentException("maxWeight must be positive and staleAfterMillis not negative");
+        }
+        this.maxWeight = maxWeight;
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(staleAfterMillis);
+    }
+
+    /**
+     * Fetches a sheet for the cache.
+     */
+    interface Loader {
+        /**
+         * @param ifVersionAfter the cached version to revalidate, or null to fetch the sheet unconditionally
+         * @return the sheet, or just its version if it isn't newer than ifVersionAfter
+         * @throws SmartsheetException if the request fails
+         */
+        Sheet load(Integer ifVersionAfter) throws SmartsheetException;
+    }
+
+    /**
+     * Get a sheet from the cache, fetching or revalidating it as needed.
+     *
+     * @param key what identifies the request (token, user and path)
+     * @param sheetId the id of the sheet
+     * @param loader fetches the sheet
+     * @return the sheet
+     * @throws SmartsheetException if fetching the sheet fails
+     */
+    Sheet get(String key, long sheetId, Loader loader) throws SmartsheetException {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null && System.nanoTime() - entry.validatedAt < staleAfterNanos) {
+            hits.incrementAndGet();
+            return entry.sheet;
+        }
+
+        Integer cachedVersion = entry == null ? null : entry.sheet.getVersion();
+        Generation generation;
+        long startedAt;
+        synchronized (this) {
+            generation = startLoading(sheetId);
+            startedAt = generation.value;
+        }
+        try {
+            Sheet sheet = loader.load(cachedVersion);
+            if (cachedVersion != null && sheet != null && sheet.getColumns() == null && sheet.getRows() == null) {
+                // only the version came back: the cached sheet is current, unless it was invalidated meanwhile
+                synchronized (this) {
+                    if (generation.value == startedAt) {
+                        entry.validatedAt = System.nanoTime();
+                    }
+                }
+                revalidations.incrementAndGet();
+                return entry.sheet;
+            }
+            fetches.incrementAndGet();
+            if (sheet != null) {
+                synchronized (this) {
+                    if (generation.value == startedAt) {
+                        put(key, new Entry(sheetId, sheet));
+                    }
+                }
+            }
+            return sheet;
+        } finally {
+            stopLoading(sheetId, generation);
+        }
+    }
+
+    /**
+     * Drop every cached copy of a sheet, so the next getSheet fetches it.
+     *
+     * @param sheetId the id of the sheet
+     */
+    public synchronized void invalidate(long sheetId) {
+        Generation generation = loading.get(sheetId);
+        if (generation != null) {
+            generation.value++;
+        }
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.sheetId == sheetId) {
+                weight -= entry.weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop every cached sheet.
+     */
+    public synchronized void invalidateAll() {
+        for (Generation generation : loading.values()) {
+            generation.value++;
+        }
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * @return the number of cached sheets
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the total weight of the cached sheets
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the number of getSheet calls served from memory without a request
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of getSheet calls served from memory after the server confirmed the version
+     */
+    public long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    /**
+     * @return the number of getSheet calls that downloaded the sheet
+     */
+    public long getFetchCount() {
+        return fetches.get();
+    }
+
+    /**
+     * Register a fetch of a sheet, so that invalidating the sheet meanwhile keeps its result out of the cache.
+     *
+     * @param sheetId the id of the sheet
+     * @return the sheet's generation, to compare with its value now once the sheet is fetched
+     */
+    private synchronized Generation startLoading(long sheetId) {
+        Generation generation = loading.get(sheetId);
+        if (generation == null) {
+            generation = new Generation();
+            loading.put(sheetId, generation);
+        }
+        generation.loads++;
+        return generation;
+    }
+
+    private synchronized void stopLoading(long sheetId, Generation generation) {
+        if (--generation.loads == 0) {
+            loading.remove(sheetId);
+        }
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        if (entry.weight > maxWeight) {
+            return;
+        }
+        entries.put(key, entry);
+        weight += entry.weight;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+        }
+    }
+
+    /** The invalidations of a sheet while it is being fetched. Guarded by the cache. */
+    private static final class Generation {
+        /** Bumped by each invalidation. */
+        long value;
+        /** The number of fetches in progress. */
+        int loads;
+    }
+
+    private static final class Entry {
+        final long sheetId;
+        final Sheet sheet;
+        final long weight;
+        /** When the sheet was fetched or its version last confirmed (System.nanoTime()). */
+        volatile long validatedAt = System.nanoTime();
+
+        Entry(long sheetId, Sheet sheet) {
+            this.sheetId = sheetId;
+            this.sheet = sheet;
+            this.weight = weigh(sheet);
+        }
+
+        private static long weigh(Sheet sheet) {
+            long weight = 1;
+            if (sheet.getColumns() != null) {
+                weight += sheet.getColumns().size();
+            }
+            if (sheet.getRows() != null) {
+                for (Row row : sheet.getRows()) {
+                    weight += 1 + (row.getCells() == null ? 0 : row.getCells().size());
+                }
+            }
+            return weight;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.smartsheet.api.internal;
 
 import com.smartsheet.api.*;
 import com.smartsheet.api.DiscussionAttachmentResources;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Discussion;
@@ -10,7 +11,6 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.DiscussionInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.EnumSet;
@@ -96,7 +96,7 @@ public class SheetDiscussionResourcesImpl extends  AbstractResources implements
         Util.throwIfNull(discussion, file, contentType);
         String path = "sheets/" + sheetId + "/discussions";
 
-        return this.createDiscussionWithAttachment(path, discussion, new FileInputStream(file), contentType, file.getName());
+        return this.createDiscussionWithAttachment(path, discussion, new RepeatableFileInputStream(file), contentType, file.getName());
     }
 
     private Discussion createDiscussionWithAttachment(String path, Discussion discussion, InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException{
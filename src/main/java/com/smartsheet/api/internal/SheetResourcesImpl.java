@@ -25,6 +25,8 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
@@ -32,10 +34,14 @@ import com.smartsheet.api.models.enums.*;
 
 import java.io.*;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This is the implementation of the SheetResources.
@@ -178,6 +184,26 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         return this.listResourcesWithWrapper(path, Sheet.class);
     }
 
+    /**
+     * Iterate over all sheets, a page at a time.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheets
+     *
+     * @param includes the source inclusion
+     * @param modifiedSince restrict results to sheets modified on or after this date
+     * @param pageSize the number of sheets per request
+     * @return the sheets
+     */
+    public PagedIterable<Sheet> iterateSheets(final EnumSet<SourceInclusion> includes, final Date modifiedSince,
+                                              int pageSize) {
+        return new PagedIterable<Sheet>(new PagedIterable.PageFetcher<Sheet>() {
+            @Override
+            public PagedResult<Sheet> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+                return listSheets(includes, pagination, modifiedSince);
+            }
+        }, pageSize);
+    }
+
     /**
      * List all sheets in the organization.
      *
@@ -313,15 +339,235 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         parameters.put("columnIds", QueryUtil.generateCommaSeparatedList(columnIds));
         parameters.put("pageSize", pageSize);
         parameters.put("page", page);
-        parameters.put("ifVersionAfter", ifVersionAfter);
         parameters.put("level", level);
 
+        SheetCache sheetCache = smartsheet.getSheetCache();
+        if (sheetCache != null && ifVersionAfter == null && !DeferredRequest.isCapturing()) {
+            final String cachedPath = path + QueryUtil.generateUrl(null, parameters);
+            String key = smartsheet.getAccessToken() + "\n" + smartsheet.getAssumedUser() + "\n" + cachedPath;
+            return sheetCache.get(key, id, new SheetCache.Loader() {
+                public Sheet load(Integer cachedVersion) throws SmartsheetException {
+                    String loadPath = cachedPath;
+                    if (cachedVersion != null) {
+                        loadPath += (cachedPath.contains("?") ? "&" : "?") + "ifVersionAfter=" + cachedVersion;
+                    }
+                    return getResource(loadPath, Sheet.class);
+                }
+            });
+        }
+        parameters.put("ifVersionAfter", ifVersionAfter);
+
         // Iterate through the map of parameters and generate the query string
         path += QueryUtil.generateUrl(null, parameters);
 
         return this.getResource(path, Sheet.class);
     }
 
+    /**
+     * <p>Get a sheet, reading its rows one at a time as they are iterated instead of holding them all in memory.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @return the streaming sheet (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public StreamingSheet streamSheet(long id) throws SmartsheetException {
+        return this.streamSheet(id, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * <p>Get a sheet, reading its rows one at a time as they are iterated instead of holding them all in memory.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * <p>The request doesn't go through execute(): the response must stay open after this method returns, so it is
+     * owned (and closed) by the returned sheet rather than released by the client.</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param level compatibility level
+     * @return the streaming sheet (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws UnsupportedOperationException if the configured JsonSerializer isn't a JacksonJsonSerializer
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public StreamingSheet streamSheet(long id,
+                                      EnumSet<SheetInclusion> includes,
+                                      EnumSet<ObjectExclusion> excludes,
+                                      Set<Long> rowIds,
+                                      Set<Integer> rowNumbers,
+                                      Set<Long> columnIds,
+                                      Integer pageSize,
+                                      Integer page,
+                                      Integer level) throws SmartsheetException {
+        if (!(getSmartsheet().getJsonSerializer() instanceof JacksonJsonSerializer)) {
+            throw new UnsupportedOperationException("Streaming a sheet requires a JacksonJsonSerializer.");
+        }
+        JacksonJsonSerializer serializer = (JacksonJsonSerializer) getSmartsheet().getJsonSerializer();
+
+        String path = "sheets/" + id;
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
+        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
+        parameters.put("rowIds", QueryUtil.generateCommaSeparatedList(rowIds));
+        parameters.put("rowNumbers", QueryUtil.generateCommaSeparatedList(rowNumbers));
+        parameters.put("columnIds", QueryUtil.generateCommaSeparatedList(columnIds));
+        parameters.put("pageSize", pageSize);
+        parameters.put("page", page);
+        parameters.put("level", level);
+        path += QueryUtil.generateUrl(null, parameters);
+
+        HttpRequest request = createHttpRequest(getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
+        HttpResponse response = getSmartsheet().getHttpClient().request(request);
+        if (response.getStatusCode() != 200) {
+            try {
+                handleError(response);
+            } finally {
+                getSmartsheet().getHttpClient().releaseConnection();
+            }
+        }
+        try {
+            return new StreamingSheetImpl(response, serializer.createParser(response.getEntity().getContent()));
+        } catch (IOException e) {
+            getSmartsheet().getHttpClient().releaseConnection();
+            throw new SmartsheetException(e);
+        }
+    }
+
+    /**
+     * Get a large sheet a page of rows at a time, fetching the pages concurrently and merging them.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param pageSize the number of rows per request
+     * @param executor runs the requests, or null for a shared pool of daemon threads
+     * @param parallelism the most pages fetched at once
+     * @return the sheet with all of its rows
+     * @throws SmartsheetException if the sheet changed while its pages were fetched, or any other error occurred
+     */
+    public Sheet loadSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, int pageSize,
+                           ExecutorService executor, int parallelism) throws SmartsheetException {
+        final List<Row> rows = new ArrayList<Row>();
+        Sheet sheet = loadSheet(id, includes, excludes, pageSize, executor, parallelism,
+                new PagedIterable.PageHandler<Row>() {
+                    @Override
+                    public void handle(PagedResult<Row> page) {
+                        rows.addAll(page.getData());
+                    }
+                });
+        sheet.setRows(rows);
+        return sheet;
+    }
+
+    /**
+     * Get a large sheet a page of rows at a time, fetching the pages concurrently and handing them over in row order.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param pageSize the number of rows per request
+     * @param executor runs the requests, or null for a shared pool of daemon threads
+     * @param parallelism the most pages fetched at once
+     * @param rowPages handles each page of rows, on the calling thread
+     * @return the sheet's attributes, without rows
+     * @throws SmartsheetException if the sheet changed while its pages were fetched, or any other error occurred
+     */
+    public Sheet loadSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                           final int pageSize, ExecutorService executor, int parallelism,
+                           PagedIterable.PageHandler<Row> rowPages) throws SmartsheetException {
+        Util.throwIfNull(rowPages);
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
+        parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
+        parameters.put("pageSize", pageSize);
+        final String path = "sheets/" + id + QueryUtil.generateUrl(null, parameters);
+
+        // the first page is fetched on the calling thread, before the others
+        final AtomicReference<Sheet> first = new AtomicReference<Sheet>();
+        PagedIterable<Row> pages = new PagedIterable<Row>(new PagedIterable.PageFetcher<Row>() {
+            @Override
+            public PagedResult<Row> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+                // the fetched sheet may be shared with coalesced requests, so it is read but never changed
+                Sheet page = getResource(path + "&page=" + pagination.getPage(), Sheet.class);
+                if (first.get() == null) {
+                    first.set(copyWithoutRows(page));
+                } else if (first.get().getVersion() != null && !first.get().getVersion().equals(page.getVersion())) {
+                    throw new SmartsheetException("Sheet " + first.get().getId() + " changed from version "
+                            + first.get().getVersion() + " to " + page.getVersion() + " while it was loaded");
+                }
+                int totalRowCount = page.getTotalRowCount() == null ? 0 : page.getTotalRowCount();
+                PagedResult<Row> rows = new PagedResult<Row>();
+                rows.setData(page.getRows() == null ? new ArrayList<Row>() : new ArrayList<Row>(page.getRows()));
+                rows.setPageNumber(pagination.getPage());
+                rows.setPageSize(pageSize);
+                rows.setTotalCount(totalRowCount);
+                rows.setTotalPages(Math.max(1, (totalRowCount + pageSize - 1) / pageSize));
+                return rows;
+            }
+        }, pageSize, null);
+        pages.forEachPage(executor, parallelism, true, rowPages);
+        return first.get();
+    }
+
+    /**
+     * @return a shallow copy of a sheet's attributes, without its rows
+     */
+    private static Sheet copyWithoutRows(Sheet sheet) {
+        Sheet copy = new Sheet();
+        copy.setId(sheet.getId());
+        copy.setName(sheet.getName());
+        copy.setFromId(sheet.getFromId());
+        if (sheet.getOwnerId() != null) {
+            copy.setOwnerId(sheet.getOwnerId());
+        }
+        copy.setAccessLevel(sheet.getAccessLevel());
+        copy.setAttachments(sheet.getAttachments());
+        copy.setColumns(sheet.getColumns());
+        copy.setContactReferences(sheet.getContactReferences());
+        copy.setCreatedAt(sheet.getCreatedAt());
+        copy.setCrossSheetReferences(sheet.getCrossSheetReferences());
+        copy.setDependenciesEnabled(sheet.getDependenciesEnabled());
+        copy.setDiscussions(sheet.getDiscussions());
+        copy.setEffectiveAttachmentOptions(sheet.getEffectiveAttachmentOptions());
+        copy.setFavorite(sheet.isFavorite());
+        copy.setFilters(sheet.getFilters());
+        copy.setGanttEnabled(sheet.getGanttEnabled());
+        copy.setHasSummaryFields(sheet.getHasSummaryFields());
+        copy.setModifiedAt(sheet.getModifiedAt());
+        copy.setOwner(sheet.getOwner());
+        copy.setPermalink(sheet.getPermalink());
+        copy.setProjectSettings(sheet.getProjectSettings());
+        copy.setReadOnly(sheet.getReadOnly());
+        copy.setResourceManagementEnabled(sheet.getResourceManagementEnabled());
+        copy.setResourceManagementType(sheet.getResourceManagementType());
+        copy.setShowParentRowsForFilters(sheet.getShowParentRowsForFilters());
+        copy.setSource(sheet.getSource());
+        copy.setSummary(sheet.getSummary());
+        copy.setTotalRowCount(sheet.getTotalRowCount());
+        copy.setUserPermissions(sheet.getUserPermissions());
+        copy.setUserSettings(sheet.getUserSettings());
+        copy.setVersion(sheet.getVersion());
+        copy.setWorkspace(sheet.getWorkspace());
+        return copy;
+    }
+
     /**
      * Get a sheet as an Excel file.
      *
@@ -724,7 +970,20 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
      * @throws SmartsheetException the smartsheet exception
      */
     public int getSheetVersion(long id) throws SmartsheetException {
-        return this.getResource("sheets/" + id + "/version", Sheet.class).getVersion();
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve("sheets/" + id + "/version"),
+                HttpMethod.GET);
+        final ResponseHandler<Sheet> sheetHandler = resourceHandler(Sheet.class);
+
+        // the version is read inside the handler so that the asynchronous facade, which captures the handler and
+        // runs it when the response arrives, completes its future with the version rather than the Sheet
+        Integer version = executeGet(request, "version", new ResponseHandler<Integer>() {
+            @Override
+            public Integer handle(HttpResponse response) throws SmartsheetException {
+                return sheetHandler.handle(response).getVersion();
+            }
+        });
+        // null only when the request was deferred
+        return version == null ? 0 : version;
     }
 
     /**
@@ -969,35 +1228,28 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(sortSpecifier, objectBytesStream);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
-
-        Sheet obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200: {
-                    InputStream inputStream = response.getEntity().getContent();
-                    try {
-                        obj = this.smartsheet.getJsonSerializer().deserialize(Sheet.class, inputStream);
-                    } catch (IOException e) {
-                        throw new SmartsheetException(e);
+        request.setEntity(createJsonEntity(sortSpecifier));
+
+        return execute(request, new ResponseHandler<Sheet>() {
+            @Override
+            public Sheet handle(HttpResponse response) throws SmartsheetException {
+                Sheet obj = null;
+                switch (response.getStatusCode()) {
+                    case 200: {
+                        InputStream inputStream = response.getEntity().getContent();
+                        try {
+                            obj = smartsheet.getJsonSerializer().deserialize(Sheet.class, inputStream);
+                        } catch (IOException e) {
+                            throw new SmartsheetException(e);
+                        }
+                        break;
                     }
-                    break;
+                    default:
+                        handleError(response);
                 }
-                default:
-                    handleError(response);
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-        return obj;
+        });
     }
 
     /**
@@ -1139,7 +1391,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
 
         InputStream is = null;
         try {
-            is = new FileInputStream(f);
+            is = new RepeatableFileInputStream(f);
         } catch (FileNotFoundException e) {
             throw new SmartsheetException(e);
         }
@@ -1150,22 +1402,21 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         entity.setContentLength(f.length());
         request.setEntity(entity);
 
-        Sheet obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(Sheet.class,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+        return execute(request, new ResponseHandler<Sheet>() {
+            @Override
+            public Sheet handle(HttpResponse response) throws SmartsheetException {
+                Sheet obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeResult(Sheet.class,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     /**
@@ -1186,7 +1437,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
      * @return the sheet as file
      * @throws SmartsheetException the smartsheet exception
      */
-    private void getSheetAsFile(long id, PaperSize paperSize, OutputStream outputStream, String contentType)
+    private void getSheetAsFile(long id, PaperSize paperSize, final OutputStream outputStream, String contentType)
             throws SmartsheetException {
         Util.throwIfNull(outputStream, contentType);
 
@@ -1199,21 +1450,23 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
         request.getHeaders().put("Accept", contentType);
 
-        com.smartsheet.api.internal.http.HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
-        switch (response.getStatusCode()) {
-        case 200:
-            try {
-                copyStream(response.getEntity().getContent(), outputStream);
-            } catch (IOException e) {
-                throw new SmartsheetException(e);
+        execute(request, new ResponseHandler<Void>() {
+            @Override
+            public Void handle(HttpResponse response) throws SmartsheetException {
+                switch (response.getStatusCode()) {
+                case 200:
+                    try {
+                        copyStream(response.getEntity().getContent(), outputStream);
+                    } catch (IOException e) {
+                        throw new SmartsheetException(e);
+                    }
+                    break;
+                default:
+                    handleError(response);
+                }
+                return null;
             }
-            break;
-        default:
-            handleError(response);
-        }
-
-        getSmartsheet().getHttpClient().releaseConnection();
+        });
     }
 
     /**
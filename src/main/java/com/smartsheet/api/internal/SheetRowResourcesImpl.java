@@ -32,9 +32,11 @@ import com.smartsheet.api.models.enums.RowInclusion;
 import com.smartsheet.api.models.enums.RowMoveInclusion;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
  * This is the implementation of the SheetRowResources.
@@ -42,9 +44,18 @@ import java.util.*;
  * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
  */
 public class SheetRowResourcesImpl extends AbstractResources implements SheetRowResources {
+    /** Runs the writes of an upsert on the calling thread, which waits for them anyway. */
+    private static final Executor CALLING_THREAD = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
     RowAttachmentResources attachments;
     RowDiscussionResources discussions;
     RowColumnResources columns;
+
     /**
      * Constructor.
      *
@@ -117,6 +128,20 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         return this.postAndReceiveList(path, rows, Row.class);
     }
 
+    /**
+     * Insert rows to a sheet, serializing them as the request is sent.
+     *
+     * It mirrors to the following Smartsheet REST API method: POST /sheets/{id}/rows
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows to create, iterated again if the request is retried
+     * @return the created rows
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public List<Row> addRowsFrom(long sheetId, Iterable<Row> rows) throws SmartsheetException {
+        return this.streamAndReceiveList("sheets/" + sheetId + "/rows", HttpMethod.POST, rows, Row.class);
+    }
+
     /**
      * Insert rows to a sheet, allowing partial success. If a row cannot be inserted, it will fail, while the others may succeed.
      *
@@ -253,6 +278,192 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         return this.deleteListResources(path, Long.class);
     }
 
+    /**
+     * Make the rows of a sheet match the given rows, matching them on the value of a key column.
+     *
+     * It mirrors to the following Smartsheet REST API methods: GET /sheets/{sheetId}, POST, PUT and DELETE
+     * /sheets/{sheetId}/rows
+     *
+     * @param sheetId the sheet id
+     * @param keyColumnId the id of the column identifying rows
+     * @param rows the rows the sheet should contain, each with a value in the key column
+     * @param deleteMissing whether to delete the rows whose key isn't among the given rows
+     * @return the changes made
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public RowUpsertResult upsertRows(long sheetId, long keyColumnId, List<Row> rows, boolean deleteMissing)
+            throws SmartsheetException {
+        Util.throwIfNull(rows);
+
+        // index the given rows by key, collecting the columns to compare
+        Map<String, Row> wanted = new LinkedHashMap<String, Row>();
+        Set<Long> columnIds = new LinkedHashSet<Long>();
+        columnIds.add(keyColumnId);
+        for (Row row : rows) {
+            Cell keyCell = getCell(row, keyColumnId);
+            String key = keyCell == null ? "" : comparableValue(keyCell.getValue());
+            if (key.length() == 0) {
+                throw new IllegalArgumentException("Every row needs a value in the key column");
+            }
+            if (wanted.put(key, row) != null) {
+                throw new IllegalArgumentException("More than one row has the key " + key);
+            }
+            for (Cell cell : row.getCells()) {
+                if (cell.getColumnId() == null) {
+                    throw new IllegalArgumentException("Every cell needs a column id");
+                }
+                columnIds.add(cell.getColumnId());
+            }
+        }
+
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("columnIds", QueryUtil.generateCommaSeparatedList(columnIds));
+        Sheet sheet = this.getResource("sheets/" + sheetId + QueryUtil.generateUrl(null, parameters), Sheet.class);
+
+        List<Row> updates = new ArrayList<Row>();
+        List<Long> deletes = new ArrayList<Long>();
+        Set<String> found = new HashSet<String>();
+        int unchanged = 0;
+        if (sheet.getRows() != null) {
+            for (Row existing : sheet.getRows()) {
+                Cell keyCell = getCell(existing, keyColumnId);
+                String key = keyCell == null ? "" : comparableValue(keyCell.getValue());
+                if (key.length() == 0) {
+                    continue;
+                }
+                Row row = found.add(key) ? wanted.get(key) : null;
+                if (row == null) {
+                    if (deleteMissing) {
+                        deletes.add(existing.getId());
+                    }
+                    continue;
+                }
+                List<Cell> changed = getChangedCells(existing, row, keyColumnId);
+                if (changed.isEmpty()) {
+                    unchanged++;
+                } else {
+                    Row update = new Row(existing.getId());
+                    update.setCells(changed);
+                    updates.add(update);
+                }
+            }
+        }
+        List<Row> adds = new ArrayList<Row>();
+        for (Map.Entry<String, Row> entry : wanted.entrySet()) {
+            if (!found.contains(entry.getKey())) {
+                adds.add(entry.getValue());
+            }
+        }
+
+        RowUpsertResult result = new RowUpsertResult().setUnchangedRowCount(unchanged);
+        if (adds.isEmpty() && updates.isEmpty() && deletes.isEmpty()) {
+            return result.setAddedRows(new ArrayList<Row>()).setUpdatedRows(new ArrayList<Row>())
+                    .setDeletedRowIds(new ArrayList<Long>());
+        }
+        // the phases run on the calling thread, each one finished before the next starts, so a failure stops the
+        // upsert there
+        List<Object> applied = new ArrayList<Object>();
+        BulkRowWriter writer = new BulkRowWriter(this, CALLING_THREAD);
+        result.setAddedRows(getResult(writer.addRows(sheetId, adds), applied));
+        result.setUpdatedRows(getResult(writer.updateRows(sheetId, updates), applied));
+        return result.setDeletedRowIds(getResult(writer.deleteRows(sheetId, deletes, true), applied));
+    }
+
+    /**
+     * @return the cell of a row in the given column, or null if it has none
+     */
+    private static Cell getCell(Row row, long columnId) {
+        if (row.getCells() != null) {
+            for (Cell cell : row.getCells()) {
+                if (cell.getColumnId() != null && cell.getColumnId() == columnId) {
+                    return cell;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the cells of a wanted row that would change the existing row, other than its key
+     */
+    private static List<Cell> getChangedCells(Row existing, Row wanted, long keyColumnId) {
+        List<Cell> changed = new ArrayList<Cell>();
+        for (Cell cell : wanted.getCells()) {
+            if (cell.getColumnId() == keyColumnId) {
+                continue;
+            }
+            Cell current = getCell(existing, cell.getColumnId());
+            if (cell.getHyperlink() != null || cell.getLinkInFromCell() != null || cell.getObjectValue() != null
+                    || cell.getImage() != null) {
+                changed.add(cell);
+            } else if (cell.getFormula() != null) {
+                if (current == null || !cell.getFormula().equals(current.getFormula())) {
+                    changed.add(cell);
+                }
+            } else if (current != null && current.getFormula() != null) {
+                // a value replaces the formula, even one evaluating to the same value
+                changed.add(cell);
+            } else if (!comparableValue(cell.getValue()).equals(
+                    current == null ? "" : comparableValue(current.getValue()))) {
+                changed.add(cell);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return a cell value as a string that is equal for values the API stores the same way: numbers by value,
+     * null as empty. Strings are kept as they are, since a string such as "007" or "1.50" is stored as text.
+     */
+    static String comparableValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof Number) {
+            try {
+                BigDecimal number = new BigDecimal(text);
+                return number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+            } catch (NumberFormatException e) {
+                // NaN and infinities
+                return text;
+            }
+        }
+        return text;
+    }
+
+    /**
+     * @return the result of a phase of an upsert, once it is done, after adding it to the results applied so far
+     */
+    private static <T extends List<?>> T getResult(Future<T> future, List<Object> applied)
+            throws SmartsheetException {
+        try {
+            T written = future.get();
+            applied.addAll(written);
+            return written;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BulkRowWriteException) {
+                // report the earlier phases along with the part of this one that was applied
+                applied.addAll(((BulkRowWriteException) cause).getCompleted());
+                throw new BulkRowWriteException(applied, (SmartsheetException) cause.getCause());
+            }
+            if (cause instanceof SmartsheetException) {
+                throw (SmartsheetException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof java.lang.Error) {
+                throw (java.lang.Error) cause;
+            }
+            throw new SmartsheetException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException("Interrupted while writing rows", e);
+        }
+    }
+
     /**
      * @deprecated as of API V2.0.2, replaced by {@link #sendRows(long, MultiRowEmail)}
      * Send a row via email to the designated recipients.
@@ -352,6 +563,20 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         return this.putAndReceiveList(path, rows, Row.class);
     }
 
+    /**
+     * Update rows, serializing them as the request is sent.
+     *
+     * It mirrors to the following Smartsheet REST API method: PUT /sheets/{id}/rows
+     *
+     * @param sheetId the sheet id
+     * @param rows the rows to update, iterated again if the request is retried
+     * @return the updated rows
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public List<Row> updateRowsFrom(long sheetId, Iterable<Row> rows) throws SmartsheetException {
+        return this.streamAndReceiveList("sheets/" + sheetId + "/rows", HttpMethod.PUT, rows, Row.class);
+    }
+
     /**
      * Update rows, but allow partial success. The PartialRowUpdateResult will contain the successful
      * rows and those that failed, with specific messages for each.
@@ -421,48 +646,41 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        this.smartsheet.getJsonSerializer().serialize(rows, baos);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
-
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-
-        PartialRowUpdateResult result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                BulkItemResult<Row> bulkItemResult;
-                bulkItemResult = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(Row.class,
-                        response.getEntity().getContent());
-                result = new PartialRowUpdateResult();
-                result.setResult(bulkItemResult.getResult());
-                result.setResultCode(bulkItemResult.getResultCode());
-                result.setMessage(bulkItemResult.getMessage());
-                result.setVersion(bulkItemResult.getVersion());
-                if(bulkItemResult.getFailedItems() != null) {
-                    List<BulkRowFailedItem> failedItems = new ArrayList<BulkRowFailedItem>();
-                    for (BulkItemFailure bulkItemFailure : bulkItemResult.getFailedItems()) {
-                        BulkRowFailedItem bulkRowFailedItem = new BulkRowFailedItem();
-                        bulkRowFailedItem.setError(bulkItemFailure.getError());
-                        bulkRowFailedItem.setIndex(bulkItemFailure.getIndex());
-                        bulkRowFailedItem.setRowId(bulkItemFailure.getRowId());
-                        failedItems.add(bulkRowFailedItem);
-                    }
-                    result.setFailedItems(failedItems);
+        request.setEntity(createJsonEntity(rows));
+
+        return execute(request, new ResponseHandler<PartialRowUpdateResult>() {
+            @Override
+            public PartialRowUpdateResult handle(HttpResponse response) throws SmartsheetException {
+                PartialRowUpdateResult result = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        BulkItemResult<Row> bulkItemResult;
+                        bulkItemResult = smartsheet.getJsonSerializer().deserializeBulkItemResult(Row.class,
+                                response.getEntity().getContent());
+                        result = new PartialRowUpdateResult();
+                        result.setResult(bulkItemResult.getResult());
+                        result.setResultCode(bulkItemResult.getResultCode());
+                        result.setMessage(bulkItemResult.getMessage());
+                        result.setVersion(bulkItemResult.getVersion());
+                        if(bulkItemResult.getFailedItems() != null) {
+                            List<BulkRowFailedItem> failedItems = new ArrayList<BulkRowFailedItem>();
+                            for (BulkItemFailure bulkItemFailure : bulkItemResult.getFailedItems()) {
+                                BulkRowFailedItem bulkRowFailedItem = new BulkRowFailedItem();
+                                bulkRowFailedItem.setError(bulkItemFailure.getError());
+                                bulkRowFailedItem.setIndex(bulkItemFailure.getIndex());
+                                bulkRowFailedItem.setRowId(bulkItemFailure.getRowId());
+                                failedItems.add(bulkRowFailedItem);
+                            }
+                            result.setFailedItems(failedItems);
+                        }
+                        break;
+                    default:
+                        handleError(response);
                 }
-                break;
-            default:
-                handleError(response);
-        }
-
-        smartsheet.getHttpClient().releaseConnection();
 
-        return result;
+                return result;
+            }
+        });
     }
 
     /**
@@ -26,6 +26,7 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
@@ -259,7 +260,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
     public Result<SummaryField> addSheetSummaryFieldImage(long sheetId, long fieldId, String file, String contentType, String altText) throws SmartsheetException, FileNotFoundException {
         Util.throwIfNull(file);
         File f = new File(file);
-        return addSheetSummaryFieldImage("sheets/" + sheetId + "/summary/fields/" + fieldId + "/images", new FileInputStream(f),
+        return addSheetSummaryFieldImage("sheets/" + sheetId + "/summary/fields/" + fieldId + "/images", new RepeatableFileInputStream(f),
             contentType, f.length(), altText, file);
     }
 
@@ -283,7 +284,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
      */
     public Result<SummaryField> addSheetSummaryFieldImage(long sheetId, long fieldId, File file, String contentType, String altText) throws SmartsheetException, FileNotFoundException {
         Util.throwIfNull(file);
-        return addSheetSummaryFieldImage("sheets/" + sheetId + "/summary/fields/" + fieldId + "/images", new FileInputStream(file),
+        return addSheetSummaryFieldImage("sheets/" + sheetId + "/summary/fields/" + fieldId + "/images", new RepeatableFileInputStream(file),
                 contentType, file.length(), altText, file.getName());
     }
 
@@ -341,18 +342,21 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        Result<SummaryField> obj = null;
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-        switch (response.getStatusCode()) {
-            case 200:
-                obj = this.smartsheet.getJsonSerializer().deserializeResult(SummaryField.class,
-                        response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
-        }
-        smartsheet.getHttpClient().releaseConnection();
-        return obj;
+        return execute(request, new ResponseHandler<Result<SummaryField>>() {
+            @Override
+            public Result<SummaryField> handle(HttpResponse response) throws SmartsheetException {
+                Result<SummaryField> obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeResult(SummaryField.class,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return obj;
+            }
+        });
     }
 
     private BulkItemResult<SummaryField> doBulkOperation (long sheetId, List<SummaryField> fields,
@@ -367,30 +371,22 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        this.smartsheet.getJsonSerializer().serialize(fields, baos);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
-
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-
-        BulkItemResult<SummaryField> result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                result = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(SummaryField.class,
-                        response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
-        }
-
-        smartsheet.getHttpClient().releaseConnection();
-
-        return result;
+        request.setEntity(createJsonEntity(fields));
+
+        return execute(request, new ResponseHandler<BulkItemResult<SummaryField>>() {
+            @Override
+            public BulkItemResult<SummaryField> handle(HttpResponse response) throws SmartsheetException {
+                BulkItemResult<SummaryField> result = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        result = smartsheet.getJsonSerializer().deserializeBulkItemResult(SummaryField.class,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+                return result;
+            }
+        });
     }
 }
\ No newline at end of file
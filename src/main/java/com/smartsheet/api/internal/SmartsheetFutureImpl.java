@@ -0,0 +1,214 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.async.SmartsheetCallback;
+import com.smartsheet.api.async.SmartsheetFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is the implementation of the SmartsheetFuture interface, completed by AsyncResourcesInvocationHandler.
+ *
+ * Thread Safety: This class is thread safe; state changes are guarded by the instance lock and callbacks are invoked
+ * outside of it.
+ *
+ * @param <T> the type of the result
+ */
+class SmartsheetFutureImpl<T> implements SmartsheetFuture<T> {
+    private static final Logger log = LoggerFactory.getLogger(SmartsheetFutureImpl.class);
+
+    /** Released once the future is done (completed, failed or cancelled). */
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    /** Callbacks waiting for the outcome, null once it is known. */
+    private List<SmartsheetCallback<T>> callbacks = new ArrayList<SmartsheetCallback<T>>();
+
+    /** The in-flight HTTP request, cancelled along with this future. */
+    private Future<?> requestFuture;
+
+    private boolean cancelled;
+    private T result;
+    private SmartsheetException exception;
+
+    /**
+     * Set the future of the HTTP request this call is waiting for.
+     *
+     * @param requestFuture the request future
+     */
+    void setRequestFuture(Future<?> requestFuture) {
+        boolean cancelRequest;
+        synchronized (this) {
+            this.requestFuture = requestFuture;
+            cancelRequest = cancelled;
+        }
+        if (cancelRequest) {
+            requestFuture.cancel(true);
+        }
+    }
+
+    /**
+     * Complete the call successfully.
+     *
+     * @param result the result
+     * @return true if this completed the future, false if it was already done
+     */
+    boolean complete(T result) {
+        List<SmartsheetCallback<T>> toNotify;
+        synchronized (this) {
+            if (callbacks == null) {
+                return false;
+            }
+            this.result = result;
+            toNotify = finish();
+        }
+        for (SmartsheetCallback<T> callback : toNotify) {
+            notifyCompleted(callback);
+        }
+        return true;
+    }
+
+    /**
+     * Complete the call with an error.
+     *
+     * @param exception the error
+     * @return true if this completed the future, false if it was already done
+     */
+    boolean fail(SmartsheetException exception) {
+        List<SmartsheetCallback<T>> toNotify;
+        synchronized (this) {
+            if (callbacks == null) {
+                return false;
+            }
+            this.exception = exception;
+            toNotify = finish();
+        }
+        for (SmartsheetCallback<T> callback : toNotify) {
+            notifyFailed(callback);
+        }
+        return true;
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        Future<?> request;
+        List<SmartsheetCallback<T>> toNotify;
+        synchronized (this) {
+            if (callbacks == null) {
+                return false;
+            }
+            cancelled = true;
+            exception = new SmartsheetException("The request was cancelled");
+            request = requestFuture;
+            toNotify = finish();
+        }
+        if (request != null) {
+            request.cancel(mayInterruptIfRunning);
+        }
+        for (SmartsheetCallback<T> callback : toNotify) {
+            notifyFailed(callback);
+        }
+        return true;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    public synchronized boolean isDone() {
+        return callbacks == null;
+    }
+
+    public T get() throws InterruptedException, ExecutionException {
+        done.await();
+        return report();
+    }
+
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!done.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return report();
+    }
+
+    public SmartsheetFuture<T> addCallback(SmartsheetCallback<T> callback) {
+        synchronized (this) {
+            if (callbacks != null) {
+                callbacks.add(callback);
+                return this;
+            }
+        }
+        if (exception == null) {
+            notifyCompleted(callback);
+        } else {
+            notifyFailed(callback);
+        }
+        return this;
+    }
+
+    /**
+     * Mark the future done; must be called while holding the lock.
+     *
+     * @return the callbacks to notify
+     */
+    private List<SmartsheetCallback<T>> finish() {
+        List<SmartsheetCallback<T>> toNotify = callbacks;
+        callbacks = null;
+        done.countDown();
+        return toNotify;
+    }
+
+    private synchronized T report() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
+        return result;
+    }
+
+    private void notifyCompleted(SmartsheetCallback<T> callback) {
+        try {
+            callback.completed(result);
+        } catch (RuntimeException e) {
+            log.warn("callback threw an exception", e);
+        }
+    }
+
+    private void notifyFailed(SmartsheetCallback<T> callback) {
+        try {
+            callback.failed(exception);
+        } catch (RuntimeException e) {
+            log.warn("callback threw an exception", e);
+        }
+    }
+}
@@ -22,9 +22,13 @@ package com.smartsheet.api.internal;
 
 
 import com.smartsheet.api.*;
+import com.smartsheet.api.async.AsyncSmartsheet;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
 import com.smartsheet.api.internal.http.AndroidHttpClient;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.RateLimiter;
+import com.smartsheet.api.internal.http.ResponseCache;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
 import com.smartsheet.api.internal.util.Util;
@@ -96,6 +100,16 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private final AtomicReference<String> userAgent;
 
+    /**
+     * Represents the AtomicReference for the sheet cache used by getSheet, null for none.
+     */
+    private final AtomicReference<SheetCache> sheetCache;
+
+    /**
+     * Represents the AtomicReference for the coalescer of identical GET requests, null when they aren't coalesced.
+     */
+    private final AtomicReference<RequestCoalescer> requestCoalescer;
+
     /**
      * Represents the AtomicReference to HomeResources.
      *
@@ -258,6 +272,15 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private final AtomicReference<EventResources> events;
 
+    /**
+     * Represents the AtomicReference for the asynchronous view of this client.
+     *
+     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
+     * effectively the underlying value is lazily created in a thread safe manner.
+     */
+    private final AtomicReference<AsyncSmartsheet> async;
+
     /**
      * Create an instance with given server URI, HttpClient (optional) and JsonSerializer (optional)
      *
@@ -290,6 +313,8 @@ public class SmartsheetImpl implements Smartsheet {
         this.httpClient = ((httpClient == null) ?
                 new DefaultHttpClient(HttpClients.createDefault(), this.jsonSerializer) :  httpClient);
         this.assumedUser = new AtomicReference<String>(null);
+        this.sheetCache = new AtomicReference<SheetCache>(null);
+        this.requestCoalescer = new AtomicReference<RequestCoalescer>(null);
         this.changeAgent = new AtomicReference<String>(null);
         this.userAgent = new AtomicReference<String>(generateUserAgent(null));
 
@@ -312,6 +337,7 @@ public class SmartsheetImpl implements Smartsheet {
         this.webhooks = new AtomicReference<WebhookResources>();
         this.passthrough = new AtomicReference<PassthroughResources>();
         this.events = new AtomicReference<EventResources>();
+        this.async = new AtomicReference<AsyncSmartsheet>();
     }
 
     /**
@@ -393,6 +419,47 @@ public class SmartsheetImpl implements Smartsheet {
         this.assumedUser.set(assumedUser);
     }
 
+    /**
+     * Return the sheet cache.
+     *
+     * @return the sheet cache, null for none
+     */
+    SheetCache getSheetCache() {
+        return sheetCache.get();
+    }
+
+    /**
+     * Set the cache that getSheet serves sheets from. Null disables caching.
+     *
+     * @param sheetCache the sheet cache
+     */
+    public void setSheetCache(SheetCache sheetCache) {
+        this.sheetCache.set(sheetCache);
+    }
+
+    /**
+     * Return the coalescer of identical GET requests.
+     *
+     * @return the request coalescer, null if requests aren't coalesced
+     */
+    RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer.get();
+    }
+
+    /**
+     * Set whether identical GET requests made concurrently share a single call and its result. Callers getting a
+     * shared result must not modify it.
+     *
+     * @param coalesceRequests true to coalesce identical requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        if (!coalesceRequests) {
+            requestCoalescer.set(null);
+        } else {
+            requestCoalescer.compareAndSet(null, new RequestCoalescer());
+        }
+    }
+
     /**
      * Return the change agent identifier.
      *
@@ -445,6 +512,57 @@ public class SmartsheetImpl implements Smartsheet {
             throw new UnsupportedOperationException("Invalid operation for class " + this.httpClient.getClass());
     }
 
+    /**
+     * Sets the rate limiter that paces requests, if the HttpClient is an instance of DefaultHttpClient or
+     * AndroidHttpClient.
+     *
+     * @param rateLimiter the rate limiter, null for none
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setRateLimiter(rateLimiter);
+        }
+        else if (this.httpClient instanceof AndroidHttpClient) {
+            ((AndroidHttpClient) this.httpClient).setRateLimiter(rateLimiter);
+        }
+        else
+            throw new UnsupportedOperationException("Invalid operation for class " + this.httpClient.getClass());
+    }
+
+    /**
+     * Sets the adaptive limiter on the number of requests in flight, if the HttpClient is an instance of
+     * DefaultHttpClient or AndroidHttpClient.
+     *
+     * @param concurrencyLimiter the concurrency limiter, null for none
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setConcurrencyLimiter(concurrencyLimiter);
+        }
+        else if (this.httpClient instanceof AndroidHttpClient) {
+            ((AndroidHttpClient) this.httpClient).setConcurrencyLimiter(concurrencyLimiter);
+        }
+        else
+            throw new UnsupportedOperationException("Invalid operation for class " + this.httpClient.getClass());
+    }
+
+    /**
+     * Sets the disk cache that metadata GET requests are served from, if the HttpClient is an instance of
+     * DefaultHttpClient or AndroidHttpClient.
+     *
+     * @param responseCache the response cache, null for none
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setResponseCache(responseCache);
+        }
+        else if (this.httpClient instanceof AndroidHttpClient) {
+            ((AndroidHttpClient) this.httpClient).setResponseCache(responseCache);
+        }
+        else
+            throw new UnsupportedOperationException("Invalid operation for class " + this.httpClient.getClass());
+    }
+
     /** set what request/response fields to log in trace-logging */
     public void setTraces(Trace... traces) {
         if (this.httpClient instanceof DefaultHttpClient) {
@@ -678,6 +796,18 @@ public class SmartsheetImpl implements Smartsheet {
         return events.get();
     }
 
+    /**
+     * Returns the asynchronous view of this client.
+     *
+     * @return the asynchronous client
+     */
+    public AsyncSmartsheet async() {
+        if (async.get() == null) {
+            async.compareAndSet(null, AsyncResourcesInvocationHandler.newProxy(AsyncSmartsheet.class, this));
+        }
+        return async.get();
+    }
+
     /**
      * Compose a User-Agent string that represents this version of the SDK (along with platform info)
      *
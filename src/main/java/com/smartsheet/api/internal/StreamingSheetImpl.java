@@ -0,0 +1,189 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRuntimeException;
+import com.smartsheet.api.StreamingSheet;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * This is the implementation of the StreamingSheet interface.
+ *
+ * The sheet's attributes are read up to the "rows" field when the sheet is created; after that the parser is left on
+ * the rows array and advanced one row per call to next(). Attributes following the rows are read into the same Sheet
+ * once the array ends.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class StreamingSheetImpl implements StreamingSheet {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingSheetImpl.class);
+
+    private static final String ROWS = "rows";
+
+    /** The response whose content is being parsed, closed along with the parser. */
+    private final HttpResponse response;
+
+    /** The parser, whose codec is the serializer's ObjectMapper. */
+    private final JsonParser parser;
+
+    private final ObjectMapper mapper;
+
+    private final Sheet sheet;
+
+    /** The row read ahead by hasNext(), if not yet returned by next(). */
+    private Row nextRow;
+
+    private boolean closed;
+
+    /**
+     * Constructor. Reads the sheet's attributes preceding its rows.
+     *
+     * @param response the successful response of GET /sheets/{id}
+     * @param parser a parser over the response content, created by
+     *               {@link com.smartsheet.api.internal.json.JacksonJsonSerializer#createParser}
+     * @throws IOException if the sheet's attributes can't be read; the response is not closed in that case
+     */
+    public StreamingSheetImpl(HttpResponse response, JsonParser parser) throws IOException {
+        this.response = response;
+        this.parser = parser;
+        this.mapper = (ObjectMapper) parser.getCodec();
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a sheet object, found " + parser.getCurrentToken());
+        }
+        ObjectNode attributes = mapper.createObjectNode();
+        boolean hasRows = readAttributes(attributes);
+        sheet = mapper.treeToValue(attributes, Sheet.class);
+        if (!hasRows) {
+            closed = true;
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                nextRow = parser.readValueAs(Row.class);
+                return true;
+            }
+            // end of the rows array; pick up whatever follows it
+            ObjectNode attributes = mapper.createObjectNode();
+            readAttributes(attributes);
+            if (attributes.size() > 0) {
+                mapper.readerForUpdating(sheet).readValue(attributes);
+            }
+        } catch (IOException e) {
+            close();
+            throw new SmartsheetRuntimeException(new SmartsheetException(e));
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Rows of a streaming sheet can't be removed.");
+    }
+
+    /**
+     * Release the connection. Rows not yet read are discarded.
+     */
+    @Override
+    public void close() {
+        nextRow = null;
+        if (!closed) {
+            closed = true;
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Read the fields of the sheet object into a tree, stopping at the start of the rows array.
+     *
+     * @param attributes the tree to add the fields to
+     * @return true if the parser is on the start of the rows array, false if the end of the object was reached
+     * @throws IOException if the content can't be read
+     */
+    private boolean readAttributes(ObjectNode attributes) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (ROWS.equals(name) && token == JsonToken.START_ARRAY) {
+                return true;
+            }
+            JsonNode value = parser.readValueAsTree();
+            attributes.set(name, value == null ? NullNode.getInstance() : value);
+        }
+        return false;
+    }
+
+    private void closeQuietly() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            log.debug("failed to close the sheet parser", e);
+        }
+        try {
+            response.close();
+        } catch (IOException e) {
+            log.debug("failed to release the sheet response", e);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.RepeatableFileInputStream;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
@@ -125,6 +126,26 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         return this.listResourcesWithWrapper(path, User.class);
     }
 
+    /**
+     * Iterate over all users, a page at a time.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /users
+     *
+     * @param email the list of email addresses
+     * @param includes elements to include in the response
+     * @param pageSize the number of users per request
+     * @return the users
+     */
+    public PagedIterable<User> iterateUsers(final Set<String> email, final EnumSet<ListUserInclusion> includes,
+                                            int pageSize) {
+        return new PagedIterable<User>(new PagedIterable.PageFetcher<User>() {
+            @Override
+            public PagedResult<User> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+                return listUsers(email, includes, pagination);
+            }
+        }, pageSize);
+    }
+
     /**
      * Add a user to the organization, without sending email.
      *
@@ -372,22 +393,22 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(
                 "users/" + userId + "/alternateemails/" + altEmailId + "/makeprimary"), HttpMethod.POST);
 
-        Object obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(AlternateEmail.class,
-                            response.getEntity().getContent());
-                    break;
-                default:
-                    handleError(response);
+        return execute(request, new ResponseHandler<AlternateEmail>() {
+            @Override
+            public AlternateEmail handle(HttpResponse response) throws SmartsheetException {
+                Object obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeResult(AlternateEmail.class,
+                                response.getEntity().getContent());
+                        break;
+                    default:
+                        handleError(response);
+                }
+
+                return (AlternateEmail)obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return (AlternateEmail)obj;
+        });
     }
 
     /**
@@ -426,7 +447,7 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         }
 
         File f = new File(file);
-        InputStream is = new FileInputStream(f);
+        InputStream is = new RepeatableFileInputStream(f);
 
         HttpEntity entity = new HttpEntity();
         entity.setContentType(contentType);
@@ -434,22 +455,22 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         entity.setContentLength(f.length());
         request.setEntity(entity);
 
-        User obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            switch (response.getStatusCode()) {
-                case 200:
-                    obj = this.smartsheet.getJsonSerializer().deserializeResult(User.class,
-                            response.getEntity().getContent()).getResult();
-                    break;
-                default:
-                    handleError(response);
+        return execute(request, new ResponseHandler<User>() {
+            @Override
+            public User handle(HttpResponse response) throws SmartsheetException {
+                User obj = null;
+                switch (response.getStatusCode()) {
+                    case 200:
+                        obj = smartsheet.getJsonSerializer().deserializeResult(User.class,
+                                response.getEntity().getContent()).getResult();
+                        break;
+                    default:
+                        handleError(response);
+                }
+
+                return obj;
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
-        }
-
-        return obj;
+        });
     }
 
     @Override
@@ -163,27 +163,29 @@ public class WebhookResourcesImpl extends AbstractResources implements WebhookRe
         HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve("webhooks/" +
                 webhookId + "/resetsharedsecret"), HttpMethod.POST);
 
-        HttpResponse response = getSmartsheet().getHttpClient().request(request);
+        return execute(request, new ResponseHandler<WebhookSharedSecret>() {
+            @Override
+            public WebhookSharedSecret handle(HttpResponse response) throws SmartsheetException {
+                WebhookSharedSecret secret = null;
+                switch (response.getStatusCode()) {
+                case 200:
+                    try {
+                        secret = smartsheet.getJsonSerializer().deserialize(WebhookSharedSecret.class,
+                            response.getEntity().getContent());
+                    } catch (JsonParseException e) {
+                        throw new SmartsheetException(e);
+                    } catch (JsonMappingException e) {
+                        throw new SmartsheetException(e);
+                    } catch (IOException e) {
+                        throw new SmartsheetException(e);
+                    }
+                    break;
+                default:
+                    handleError(response);
+                }
 
-        WebhookSharedSecret secret = null;
-        switch (response.getStatusCode()) {
-        case 200:
-            try {
-                secret = this.smartsheet.getJsonSerializer().deserialize(WebhookSharedSecret.class,
-                    response.getEntity().getContent());
-            } catch (JsonParseException e) {
-                throw new SmartsheetException(e);
-            } catch (JsonMappingException e) {
-                throw new SmartsheetException(e);
-            } catch (IOException e) {
-                throw new SmartsheetException(e);
+                return secret;
             }
-            break;
-        default:
-            handleError(response);
-        }
-
-        getSmartsheet().getHttpClient().releaseConnection();
-        return secret;
+        });
     }
 }
@@ -0,0 +1,256 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * This class limits the number of requests in flight through an HttpClient, adapting the limit to how the server
+ * copes (additive increase, multiplicative decrease).
+ *
+ * While responses arrive with a stable latency and the limit is being used, the limit grows by about one per round
+ * trip. When the server reports it is overloaded (HTTP 429 or 503, or error 4002/4003) or latency jumps well above
+ * its running baseline, the limit is cut by {@link #DECREASE_FACTOR}, at most once per round trip so that one burst of
+ * failures doesn't collapse it to the minimum. Responses known to be larger than {@link #LARGE_RESPONSE_BYTES} don't
+ * feed the latency baseline and spike detection, since a large sheet or attachment is slow because of its size
+ * rather than the server's load; responses of unknown size (chunked or decompressed ones, the usual case) do. The
+ * current limit is available from {@link #getLimit()} to watch it converge.
+ *
+ * Blocking clients wait in {@link #acquire()}; the asynchronous client uses {@link #tryAcquire(Runnable)}, which
+ * queues the request until a permit is released instead of holding a thread. Queued requests are served first: a
+ * blocking caller only takes a permit when no asynchronous request is waiting.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /** The factor the limit is multiplied by when the server is overloaded. */
+    public static final double DECREASE_FACTOR = 0.5;
+
+    /** A response slower than this multiple of the baseline latency counts as a latency spike. */
+    public static final double LATENCY_TOLERANCE = 2.0;
+
+    /** Responses known to be larger than this don't count towards the latency signal. */
+    public static final long LARGE_RESPONSE_BYTES = 256 * 1024;
+
+    /** The weight of each new sample in the baseline latency average. */
+    private static final double LATENCY_SMOOTHING = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    /** The current limit; fractional so that it can grow by 1/limit per response. */
+    private double limit;
+
+    private int inFlight;
+
+    /** The running average of the latency of normal responses, 0 until the first one. */
+    private double baselineLatencyMillis;
+
+    /** When (System.nanoTime) the limit was last decreased, null if it hasn't been. */
+    private Long lastDecreaseNanos;
+
+    /** Asynchronous requests waiting for a permit, in arrival order. */
+    private final Queue<Runnable> waiting = new LinkedList<Runnable>();
+
+    /**
+     * Create a limiter starting at 10 requests in flight, adapting between 1 and 100.
+     */
+    public AdaptiveConcurrencyLimiter() {
+        this(10, 1, 100);
+    }
+
+    /**
+     * Create a limiter.
+     *
+     * Exceptions: - IllegalArgumentException : if the limits are not 1 &lt;= minLimit &lt;= initialLimit &lt;= maxLimit
+     *
+     * @param initialLimit the initial number of requests allowed in flight
+     * @param minLimit the lowest the limit may go
+     * @param maxLimit the highest the limit may go
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Take a permit, waiting until the number of requests in flight is below the limit and no asynchronous request is
+     * queued ahead.
+     *
+     * @return true if a permit was taken, false if the thread was interrupted (its interrupt status is restored)
+     */
+    public synchronized boolean acquire() {
+        while (!waiting.isEmpty() || inFlight >= (int) limit) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Take a permit if one is available; otherwise queue the given task, which will be run holding a permit once one
+     * is released (on the releasing thread, so it must not block).
+     *
+     * @param whenAvailable the task to run once a permit is taken on its behalf
+     * @return true if a permit was taken now and the task was not queued
+     */
+    public synchronized boolean tryAcquire(Runnable whenAvailable) {
+        if (waiting.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            return true;
+        }
+        waiting.add(whenAvailable);
+        return false;
+    }
+
+    /**
+     * Release a permit after a small response, adjusting the limit.
+     *
+     * @param latencyMillis how long the request took
+     * @param overloaded whether the server reported that it is overloaded
+     */
+    public void release(long latencyMillis, boolean overloaded) {
+        release(latencyMillis, 0, overloaded);
+    }
+
+    /**
+     * Release a permit after a response, adjusting the limit.
+     *
+     * @param latencyMillis how long the request took
+     * @param responseBytes the length of the response body, -1 if unknown
+     * @param overloaded whether the server reported that it is overloaded
+     */
+    public void release(long latencyMillis, long responseBytes, boolean overloaded) {
+        List<Runnable> next;
+        synchronized (this) {
+            int previousLimit = (int) limit;
+            boolean saturated = inFlight >= previousLimit;
+            inFlight--;
+            boolean measured = responseBytes <= LARGE_RESPONSE_BYTES;
+            boolean spike = measured && baselineLatencyMillis > 0 &&
+                    latencyMillis > baselineLatencyMillis * LATENCY_TOLERANCE;
+            if (overloaded || spike) {
+                // responses to requests sent before the last cut don't count again
+                long now = System.nanoTime();
+                long windowNanos = (long) (Math.max(baselineLatencyMillis, latencyMillis) * 1000000);
+                if (lastDecreaseNanos == null || now - lastDecreaseNanos > windowNanos) {
+                    limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+                    lastDecreaseNanos = now;
+                }
+            } else {
+                if (measured) {
+                    baselineLatencyMillis = baselineLatencyMillis == 0 ? latencyMillis :
+                            baselineLatencyMillis + (latencyMillis - baselineLatencyMillis) * LATENCY_SMOOTHING;
+                }
+                if (saturated) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            if ((int) limit != previousLimit) {
+                logger.debug("concurrency limit {} -> {} (latency {} ms, baseline {} ms, overloaded {})",
+                        previousLimit, (int) limit, latencyMillis, (long) baselineLatencyMillis, overloaded);
+            }
+            next = pollWaiting();
+        }
+        runWaiting(next);
+    }
+
+    /**
+     * Release a permit without adjusting the limit (e.g. when the request failed without a response).
+     */
+    public void release() {
+        List<Runnable> next;
+        synchronized (this) {
+            inFlight--;
+            next = pollWaiting();
+        }
+        runWaiting(next);
+    }
+
+    /**
+     * Gets the current limit on the number of requests in flight.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Gets the number of requests in flight.
+     *
+     * @return the number of requests holding a permit
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Whether a response means that the server is overloaded.
+     *
+     * @param statusCode the HTTP status code
+     * @param errorCode the Smartsheet error code, null if unknown
+     * @return true for HTTP 429 and 503 and errors 4002 (server timeout) and 4003 (rate limit exceeded)
+     */
+    public static boolean isOverload(int statusCode, Integer errorCode) {
+        return statusCode == 429 || statusCode == 503 ||
+                (errorCode != null && (errorCode == 4002 || errorCode == 4003));
+    }
+
+    /**
+     * Hand the free permits to the waiting requests, oldest first; must be called while holding the lock. Afterwards
+     * requests are only left waiting if every permit is taken.
+     *
+     * @return the tasks to run
+     */
+    private List<Runnable> pollWaiting() {
+        notifyAll();
+        List<Runnable> next = new ArrayList<Runnable>();
+        while (!waiting.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            next.add(waiting.poll());
+        }
+        return next;
+    }
+
+    private void runWaiting(List<Runnable> next) {
+        for (Runnable task : next) {
+            task.run();
+        }
+    }
+}
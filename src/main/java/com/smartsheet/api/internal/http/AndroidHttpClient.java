@@ -36,6 +36,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,8 +56,20 @@ public class AndroidHttpClient implements HttpClient {
      */
     private final OkHttpClient client;
 
-    /** The okhttp http response. */
-    private Response currentResponse;
+    /** The pause shared by all requests made through this client after the rate limit is exceeded. */
+    private final SharedBackoff sharedBackoff = new SharedBackoff();
+
+    /** Paces the requests made through this client (optional). */
+    private volatile RateLimiter rateLimiter;
+
+    /** Limits the number of requests in flight, adapting to the server's responses (optional). */
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /** Serves cacheable GET requests from disk (optional). */
+    private volatile ResponseCache responseCache;
+
+    /** The response most recently returned to each thread, released by {@link #releaseConnection()}. */
+    private final ThreadLocal<HttpResponse> currentResponse = new ThreadLocal<HttpResponse>();
 
     protected JsonSerializer jsonSerializer;
 
@@ -89,7 +102,7 @@ public class AndroidHttpClient implements HttpClient {
         if (response.code() != 200) {
             // log the request and response on error
             try {
-                logger.warn(this.currentResponse.peekBody(4096).string());
+                logger.warn(response.peekBody(4096).string());
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -110,30 +123,56 @@ public class AndroidHttpClient implements HttpClient {
             throw new IllegalArgumentException("A Request URI is required.");
         }
 
+        // an earlier response still open on this thread (e.g. a streamed sheet) must not be released by this request
+        currentResponse.remove();
+
+        ResponseCache cache = responseCache;
+        if (cache != null && cache.isCacheable(smartsheetRequest)) {
+            HttpResponse response = cache.request(smartsheetRequest, new ResponseCache.Origin() {
+                @Override
+                public HttpResponse send(HttpRequest request) throws HttpClientException {
+                    HttpResponse response = AndroidHttpClient.this.send(request);
+                    // the cache owns the response
+                    currentResponse.remove();
+                    return response;
+                }
+            });
+            currentResponse.set(response);
+            return response;
+        }
+        return send(smartsheetRequest);
+    }
+
+    /**
+     * Make an HTTP request, with retries, and return the response.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @return the HTTP response
+     * @throws HttpClientException the HTTP client exception
+     */
+    private HttpResponse send(HttpRequest smartsheetRequest) throws HttpClientException {
+
         int attempt = 0;
         long start = System.currentTimeMillis();
 
+        // the retry logic will consume the body stream so we make sure it supports mark/reset and mark it; a body
+        // too large to buffer is streamed once and the request isn't retried
+        boolean canRetryRequest = DefaultHttpClient.makeRequestBodyRepeatable(smartsheetRequest);
         InputStream bodyStream = null;
         if(smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContent() != null) {
             bodyStream = smartsheetRequest.getEntity().getContent();
         }
-        // the retry logic will consume the body stream so we make sure it supports mark/reset and mark it
-        boolean canRetryRequest = bodyStream == null || bodyStream.markSupported();
-        if (!canRetryRequest) {
-            try {
-                // attempt to wrap the body stream in a input-stream that does support mark/reset
-                bodyStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(bodyStream));
-                // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                smartsheetRequest.getEntity().getContent().close();
-                smartsheetRequest.getEntity().setContent(bodyStream);
-                canRetryRequest = true;
-            }
-            catch(IOException ignore) {
-            }
+
+        // don't send anything while another request's rate limit backoff is in effect
+        if (!sharedBackoff.await(0)) {
+            throw new HttpClientException("Interrupted while waiting for the rate limit backoff.");
         }
 
         HttpResponse smartsheetResponse;
         while(true) {
+            if (rateLimiter != null && !rateLimiter.acquire(smartsheetRequest)) {
+                throw new HttpClientException("Interrupted while waiting for the rate limiter.");
+            }
 
             // Create our new request
             Request.Builder builder = new Request.Builder();
@@ -172,28 +211,38 @@ public class AndroidHttpClient implements HttpClient {
                 bodyStream.mark((int)smartsheetRequest.getEntity().getContentLength());
             }
 
+            AdaptiveConcurrencyLimiter limiter = concurrencyLimiter;
+            if (limiter != null && !limiter.acquire()) {
+                throw new HttpClientException("Interrupted while waiting for the concurrency limiter.");
+            }
+            boolean permitHeld = limiter != null;
             try {
                 // Create API request
                 Request request = builder.build();
                 long startTime = System.currentTimeMillis();
-                this.currentResponse = client.newCall(request).execute();
+                Response response = client.newCall(request).execute();
                 long endTime = System.currentTimeMillis();
 
                 smartsheetResponse = new HttpResponse();
-                smartsheetResponse.setStatusCode(this.currentResponse.code());
-                if (this.currentResponse.body().contentLength() != 0) {
+                smartsheetResponse.setCloseHandle(response.body());
+                smartsheetResponse.setStatusCode(response.code());
+                if (response.body().contentLength() != 0) {
                     // Package response details
                     HttpEntity entity = new HttpEntity();
-                    entity.setContentType(this.currentResponse.body().contentType().toString());
-                    entity.setContentLength(this.currentResponse.body().contentLength());
-                    entity.setContent(this.currentResponse.body().byteStream());
+                    entity.setContentType(response.body().contentType().toString());
+                    entity.setContentLength(response.body().contentLength());
+                    entity.setContent(response.body().byteStream());
                     smartsheetResponse.setEntity(entity);
                 }
 
                 long responseTime = endTime - startTime;
-                logRequest(request, this.currentResponse, responseTime);
+                logRequest(request, response, responseTime);
 
                 if (smartsheetResponse.getStatusCode() == 200) {
+                    if (permitHeld) {
+                        permitHeld = false;
+                        limiter.release(responseTime, DefaultHttpClient.getResponseLength(smartsheetResponse), false);
+                    }
                     // call successful, exit the retry loop
                     break;
                 }
@@ -209,27 +258,124 @@ public class AndroidHttpClient implements HttpClient {
                 }
                 try {
                     contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
+                    // give the permit back before any backoff so the limiter sees the overload right away
+                    if (permitHeld) {
+                        permitHeld = false;
+                        limiter.release(responseTime, isOverloaded(smartsheetResponse));
+                        contentStream.reset();
+                    }
                     long timeSpent = System.currentTimeMillis() - start;
-                    if (!shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
-                        // should not retry, or retry time exceeded, exit the retry loop
+                    if (!canRetryRequest || !shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
+                        // can't or should not retry, or retry time exceeded, exit the retry loop
                         break;
                     }
                 } finally {
-                    if(bodyStream != null) {
+                    if(canRetryRequest && bodyStream != null) {
                         bodyStream.reset();
                     }
                     contentStream.reset();
                 }
-                this.releaseConnection();
+                smartsheetResponse.close();
 
             } catch (IOException ex) {
                 throw new HttpClientException("Error occurred.", ex);
+            } finally {
+                if (permitHeld) {
+                    limiter.release();
+                }
             }
         }
+        currentResponse.set(smartsheetResponse);
         return smartsheetResponse;
     }
 
     private RequestBody getRequestBody(HttpRequest apiRequest) throws IOException {
+        if (apiRequest.getEntity().getContent() instanceof RepeatableFileInputStream) {
+            // stream the file from its channel rather than reading it into memory
+            RepeatableFileInputStream fileContent = (RepeatableFileInputStream) apiRequest.getEntity().getContent();
+            final FileChannelEntity fileEntity = new FileChannelEntity(fileContent.getFile(),
+                    fileContent.getPosition(), apiRequest.getEntity().getContentLength());
+            final MediaType mediaType = apiRequest.getEntity().getContentType() == null ? MEDIA_TYPE_JSON :
+                    MediaType.parse(apiRequest.getEntity().getContentType());
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return mediaType;
+                }
+
+                @Override
+                public long contentLength() {
+                    return fileEntity.getContentLength();
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    fileEntity.writeTo(sink.outputStream());
+                }
+            };
+        }
+        if (apiRequest.getEntity().getContent() instanceof JsonArrayInputStream) {
+            // serialize the objects straight to the connection rather than into memory
+            final JsonArrayInputStream jsonContent = (JsonArrayInputStream) apiRequest.getEntity().getContent();
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return MEDIA_TYPE_JSON;
+                }
+
+                @Override
+                public long contentLength() {
+                    return -1;
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    jsonContent.writeTo(sink.outputStream());
+                }
+            };
+        }
+        if (apiRequest.getEntity() instanceof MultipartHttpEntity) {
+            // stream the parts rather than reading them into memory; the retry loop resets the content
+            final HttpEntity multipart = apiRequest.getEntity();
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return MediaType.parse(multipart.getContentType());
+                }
+
+                @Override
+                public long contentLength() {
+                    return multipart.getContentLength();
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    StreamUtil.copyContentIntoOutputStream(multipart.getContent(), sink.outputStream(),
+                            StreamUtil.ONE_MB, true);
+                }
+            };
+        }
+        if (!apiRequest.getEntity().getContent().markSupported()) {
+            // too large to have been buffered: stream it once rather than reading it into memory
+            final HttpEntity entity = apiRequest.getEntity();
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return entity.getContentType() == null ? MEDIA_TYPE_JSON : MediaType.parse(entity.getContentType());
+                }
+
+                @Override
+                public long contentLength() {
+                    return entity.getContentLength();
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    StreamUtil.copyContentIntoOutputStream(entity.getContent(), sink.outputStream(),
+                            StreamUtil.ONE_MB, true);
+                }
+            };
+        }
         int sizRead;
         byte[] buffer = new byte[16384];
         ByteArrayOutputStream bao = new ByteArrayOutputStream();
@@ -271,7 +417,8 @@ public class AndroidHttpClient implements HttpClient {
 
     /**
      * Called when an API request fails to determine if it can retry the request.
-     * Calls calcBackoff to determine the time to wait in between retries.
+     * Calls calcBackoff to determine the time to wait in between retries, then waits until both that time and any
+     * shared rate limit backoff are over.
      *
      * @param previousAttempts number of attempts (including this one) to execute request
      * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
@@ -305,18 +452,75 @@ public class AndroidHttpClient implements HttpClient {
         long backoffMillis = calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
         if(backoffMillis < 0)
             return false;
+        if (error.getErrorCode() == 4003) {
+            sharedBackoff.pause(backoffMillis);
+        }
 
         logger.info("HttpError StatusCode=" + response.getStatusCode() + ": Retrying in " + backoffMillis + " milliseconds");
-        try {
-            Thread.sleep(backoffMillis);
-        }
-        catch (InterruptedException e) {
-            logger.warn("sleep interrupted", e);
+        if (!sharedBackoff.await(backoffMillis)) {
+            logger.warn("retry backoff interrupted");
             return false;
         }
         return true;
     }
 
+    /**
+     * Set the rate limiter that paces the requests made through this client, each attempt (including retries) waiting
+     * for its tokens before it is sent.
+     *
+     * @param rateLimiter the rate limiter, null to send requests as soon as they are made
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Set the limiter that caps the number of requests in flight through this client, adapting the cap to latency
+     * and to the server's overload responses.
+     *
+     * @param concurrencyLimiter the concurrency limiter, null to not limit requests in flight
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * Set the cache that GET requests matching its rules are served from.
+     *
+     * @param responseCache the response cache, null to send every request
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Gets the response cache.
+     *
+     * @return the response cache, null if none is set
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Whether a failed response means that the server is overloaded, for the concurrency limiter. The caller must
+     * reset the content afterwards.
+     *
+     * @param response the failed HttpResponse
+     * @return true if the server is overloaded
+     */
+    private boolean isOverloaded(HttpResponse response) {
+        Integer errorCode = null;
+        String contentType = response.getEntity().getContentType();
+        if (contentType == null || contentType.startsWith("application/json")) {
+            try {
+                errorCode = jsonSerializer.deserialize(Error.class, response.getEntity().getContent()).getErrorCode();
+            } catch (IOException ignore) {
+            }
+        }
+        return AdaptiveConcurrencyLimiter.isOverload(response.getStatusCode(), errorCode);
+    }
+
     /**
      * Close the HttpClient.
      */
@@ -330,16 +534,14 @@ public class AndroidHttpClient implements HttpClient {
      */
     @Override
     public void releaseConnection() {
-        this.closeCurrentResponse();
-    }
-
-    private void closeCurrentResponse() {
-        Response response = this.currentResponse;
+        HttpResponse response = currentResponse.get();
         if (response != null) {
-            if (response.body() != null) {
-                response.body().close();
+            currentResponse.remove();
+            try {
+                response.close();
+            } catch (IOException e) {
+                logger.error("error closing OkHttp response - {}", e);
             }
-            this.currentResponse = null;
         }
     }
 }
@@ -0,0 +1,49 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.apache.http.concurrent.FutureCallback;
+
+import java.util.concurrent.Future;
+
+/**
+ * This interface extends HttpClient with a non-blocking variant of {@link #request(HttpRequest)}. The calling thread
+ * is not held for the round trip (or for any retry backoff); instead the returned future is completed, and the
+ * optional callback invoked, from the client's I/O threads.
+ *
+ * Thread Safety: Implementation of this interface must be thread safe.
+ */
+public interface AsyncHttpClient extends HttpClient {
+    /**
+     * Make an HTTP request without blocking the calling thread.
+     *
+     * The response is fully buffered before the future completes and is not tracked by {@link #releaseConnection()};
+     * callers may close it (see {@link HttpResponse#close()}) but don't need to.
+     *
+     * Exceptions: - IllegalArgumentException : if the request is null or has no URI. Any other error is reported
+     * through the future (and callback) as an HttpClientException.
+     *
+     * @param request the request
+     * @param callback the callback to notify on completion (optional)
+     * @return the future http response
+     */
+    public Future<HttpResponse> requestAsync(HttpRequest request, FutureCallback<HttpResponse> callback);
+}
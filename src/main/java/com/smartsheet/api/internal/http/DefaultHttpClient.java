@@ -28,6 +28,8 @@ import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Error;
 import org.apache.http.Header;
 import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.NonRepeatableRequestException;
 import org.apache.http.client.config.RequestConfig;
@@ -39,30 +41,53 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
 import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.SequenceInputStream;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This is the Apache HttpClient (http://hc.apache.org/httpcomponents-client-ga/index.html) based HttpClient
  * implementation.
  *
  * Thread Safety: This class is thread safe because it is immutable and the underlying Apache CloseableHttpClient is
- * thread safe.
+ * thread safe. Each response owns its own connection (see {@link HttpResponse#close()}), and
+ * {@link #releaseConnection()} only releases the response most recently returned to the calling thread, so a single
+ * instance can be shared by any number of threads when it is backed by a pooled connection manager (see
+ * {@link #createPooledHttpClient(HttpClientConnectionManager, boolean, Long, Long)}). Asynchronous requests are
+ * executed by an Apache CloseableHttpAsyncClient, which is also thread safe.
  */
-public class DefaultHttpClient implements HttpClient {
+public class DefaultHttpClient implements AsyncHttpClient {
 
     /** logger for general errors, warnings, etc */
     protected static final Logger logger = LoggerFactory.getLogger(DefaultHttpClient.class);
@@ -81,8 +106,57 @@ public class DefaultHttpClient implements HttpClient {
      */
     private final CloseableHttpClient httpClient;
 
-    /** The apache http response. */
-    private CloseableHttpResponse apacheHttpResponse;
+    /**
+     * Represents the underlying Apache CloseableHttpAsyncClient used for asynchronous requests.
+     * <p>
+     * It is set in constructor if given, otherwise it is created (and started) the first time it is needed.
+     */
+    private final AtomicReference<CloseableHttpAsyncClient> httpAsyncClient;
+
+    /**
+     * Schedules the retries of asynchronous requests, so that no thread waits out the backoff.
+     * <p>
+     * It is created the first time it is needed.
+     */
+    private final AtomicReference<ScheduledExecutorService> retryScheduler = new AtomicReference<ScheduledExecutorService>();
+
+    /**
+     * Runs a subclass's {@link #shouldRetry} for asynchronous requests, one thread per decision in progress, since
+     * overrides may sleep through the backoff and must not hold up the retry scheduler or each other.
+     * <p>
+     * It is created the first time it is needed.
+     */
+    private final AtomicReference<ExecutorService> retryDecisionExecutor = new AtomicReference<ExecutorService>();
+
+    /** The pause shared by all requests made through this client after the rate limit is exceeded. */
+    private final SharedBackoff sharedBackoff = new SharedBackoff();
+
+    /** Whether a subclass overrides {@link #shouldRetry}, which asynchronous requests must then call too. */
+    private final boolean shouldRetryOverridden = isShouldRetryOverridden();
+
+    /** Paces the requests made through this client (optional). */
+    private volatile RateLimiter rateLimiter;
+
+    /** Limits the number of requests in flight, adapting to the server's responses; null for no limit. */
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /** Serves cacheable GET requests from disk (optional). */
+    private volatile ResponseCache responseCache;
+
+    /** The response most recently returned to each thread, released by {@link #releaseConnection()}. */
+    private final ThreadLocal<HttpResponse> currentResponse = new ThreadLocal<HttpResponse>();
+
+    /**
+     * The maximum number of connections of the asynchronous client's pool when none is given. All requests go to the
+     * same host, and a handful of I/O threads multiplex them, so the pool is sized for hundreds of requests in flight.
+     */
+    public static final int DEFAULT_ASYNC_MAX_CONNECTIONS = 200;
+
+    /** The maximum number of connections per route of the asynchronous client's pool when none is given. */
+    public static final int DEFAULT_ASYNC_MAX_CONNECTIONS_PER_ROUTE = 200;
+
+    /** The largest request body that isn't already repeatable to be buffered in memory so it can be retried. */
+    private static final int MAX_BUFFERED_REQUEST_BODY = StreamUtil.ONE_MB;
 
     /** to avoid creating new sets for each call (we use Sets for practical and perf reasons) */
     private static final Set<Trace> REQUEST_RESPONSE_SUMMARY = Collections.unmodifiableSet(new HashSet<Trace>(
@@ -128,10 +202,115 @@ public class DefaultHttpClient implements HttpClient {
      * @param httpClient the http client
      */
     public DefaultHttpClient(CloseableHttpClient httpClient, JsonSerializer jsonSerializer) {
+        this(httpClient, null, jsonSerializer);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * Parameters: - httpClient : the Apache CloseableHttpClient to use - httpAsyncClient : the Apache
+     * CloseableHttpAsyncClient to use for asynchronous requests (optional, a pooled one is created on first use, see
+     * {@link #getHttpAsyncClient()})
+     * <p>
+     * Exceptions: - IllegalArgumentException : if httpClient is null
+     *
+     * @param httpClient the http client
+     * @param httpAsyncClient the async http client (optional)
+     * @param jsonSerializer the json serializer
+     */
+    public DefaultHttpClient(CloseableHttpClient httpClient, CloseableHttpAsyncClient httpAsyncClient,
+                             JsonSerializer jsonSerializer) {
         this.httpClient = Util.throwIfNull(httpClient);
+        this.httpAsyncClient = new AtomicReference<CloseableHttpAsyncClient>(httpAsyncClient);
         this.jsonSerializer = jsonSerializer;
     }
 
+    /**
+     * Create a PoolingHttpClientConnectionManager with the given limits.
+     *
+     * @param maxTotal the maximum number of connections in the pool (null for the Apache default)
+     * @param maxPerRoute the maximum number of connections per route (null for the Apache default)
+     * @return the connection manager
+     */
+    public static PoolingHttpClientConnectionManager createConnectionManager(Integer maxTotal, Integer maxPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        if (maxTotal != null) {
+            connectionManager.setMaxTotal(maxTotal);
+        }
+        if (maxPerRoute != null) {
+            connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        }
+        return connectionManager;
+    }
+
+    /**
+     * Create an Apache CloseableHttpClient backed by the given connection manager.
+     * <p>
+     * Connections are kept alive for as long as the server's Keep-Alive header allows, falling back to keepAliveMillis
+     * when the server doesn't send one. When the connection manager is not shared, expired connections and connections
+     * idle for longer than idleConnectionTimeoutMillis are evicted by a background thread, and closing the client shuts
+     * the connection manager down. A shared connection manager is left open (and left to its owner to evict).
+     *
+     * @param connectionManager the connection manager
+     * @param shared whether the connection manager is shared with other clients
+     * @param keepAliveMillis how long to keep idle connections alive when the server doesn't say (null for no limit)
+     * @param idleConnectionTimeoutMillis how long a connection may stay idle in the pool (null for no limit)
+     * @return the http client
+     */
+    public static CloseableHttpClient createPooledHttpClient(HttpClientConnectionManager connectionManager, boolean shared,
+                                                             final Long keepAliveMillis, Long idleConnectionTimeoutMillis) {
+        Util.throwIfNull(connectionManager);
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(shared);
+        if (keepAliveMillis != null) {
+            builder.setKeepAliveStrategy(createKeepAliveStrategy(keepAliveMillis));
+        }
+        if (!shared) {
+            builder.evictExpiredConnections();
+            if (idleConnectionTimeoutMillis != null) {
+                builder.evictIdleConnections(idleConnectionTimeoutMillis.longValue(), TimeUnit.MILLISECONDS);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create an Apache CloseableHttpAsyncClient with its own pool of non-blocking connections. A handful of I/O
+     * threads multiplex all of its requests.
+     *
+     * @param maxTotal the maximum number of connections in the pool (null for
+     *                 {@link #DEFAULT_ASYNC_MAX_CONNECTIONS})
+     * @param maxPerRoute the maximum number of connections per route (null for
+     *                    {@link #DEFAULT_ASYNC_MAX_CONNECTIONS_PER_ROUTE})
+     * @param keepAliveMillis how long to keep idle connections alive when the server doesn't say (null for no limit)
+     * @return the async http client (not yet started)
+     */
+    public static CloseableHttpAsyncClient createPooledHttpAsyncClient(Integer maxTotal, Integer maxPerRoute,
+                                                                       Long keepAliveMillis) {
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setMaxConnTotal(maxTotal != null ? maxTotal : DEFAULT_ASYNC_MAX_CONNECTIONS)
+                .setMaxConnPerRoute(maxPerRoute != null ? maxPerRoute : DEFAULT_ASYNC_MAX_CONNECTIONS_PER_ROUTE);
+        if (keepAliveMillis != null) {
+            builder.setKeepAliveStrategy(createKeepAliveStrategy(keepAliveMillis));
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return a keep-alive strategy that honors the server's Keep-Alive header and falls back to keepAliveMillis
+     */
+    private static ConnectionKeepAliveStrategy createKeepAliveStrategy(final long keepAliveMillis) {
+        return new ConnectionKeepAliveStrategy() {
+            @Override
+            public long getKeepAliveDuration(org.apache.http.HttpResponse response, HttpContext context) {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? duration : keepAliveMillis;
+            }
+        };
+    }
+
     /**
      * Log to the SLF4J logger (level based upon response status code). Override this function to add logging
      * or capture performance metrics.
@@ -173,59 +352,63 @@ public class DefaultHttpClient implements HttpClient {
             throw new IllegalArgumentException("A Request URI is required.");
         }
 
+        // an earlier response still open on this thread (e.g. a streamed sheet) must not be released by this request
+        currentResponse.remove();
+
+        ResponseCache cache = responseCache;
+        if (cache != null && cache.isCacheable(smartsheetRequest)) {
+            HttpResponse response = cache.request(smartsheetRequest, new ResponseCache.Origin() {
+                @Override
+                public HttpResponse send(HttpRequest request) throws HttpClientException {
+                    HttpResponse response = DefaultHttpClient.this.send(request);
+                    // the cache owns the response
+                    currentResponse.remove();
+                    return response;
+                }
+            });
+            currentResponse.set(response);
+            return response;
+        }
+        return send(smartsheetRequest);
+    }
+
+    /**
+     * Make an HTTP request, with retries, and return the response.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @return the HTTP response
+     * @throws HttpClientException the HTTP client exception
+     */
+    private HttpResponse send(HttpRequest smartsheetRequest) throws HttpClientException {
+
         int attempt = 0;
         long start = System.currentTimeMillis();
 
         HttpRequestBase apacheHttpRequest;
         HttpResponse smartsheetResponse;
 
-        InputStream bodyStream = null;
-        if(smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContent() != null) {
-            bodyStream = smartsheetRequest.getEntity().getContent();
-        }
-        // the retry logic will consume the body stream so we make sure it supports mark/reset and mark it
-        boolean canRetryRequest = bodyStream == null || bodyStream.markSupported();
-        if (!canRetryRequest) {
-            try {
-                // attempt to wrap the body stream in a input-stream that does support mark/reset
-                bodyStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(bodyStream));
-                // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                smartsheetRequest.getEntity().getContent().close();
-                smartsheetRequest.getEntity().setContent(bodyStream);
-                canRetryRequest = true;
-            }
-            catch(IOException ignore) {
-            }
+        boolean canRetryRequest = makeRequestBodyRepeatable(smartsheetRequest);
+        InputStream bodyStream = getRequestBody(smartsheetRequest);
+
+        // don't send anything while another request's rate limit backoff is in effect
+        if (!sharedBackoff.await(0)) {
+            throw new HttpClientException("Interrupted while waiting for the rate limit backoff.");
         }
 
         // the retry loop
         while(true) {
-
-            apacheHttpRequest = createApacheRequest(smartsheetRequest);
-
-            // Set HTTP headers
-            if (smartsheetRequest.getHeaders() != null) {
-                for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
-                    apacheHttpRequest.addHeader(header.getKey(), header.getValue());
-                }
+            if (rateLimiter != null && !rateLimiter.acquire(smartsheetRequest)) {
+                throw new HttpClientException("Interrupted while waiting for the rate limiter.");
+            }
+            AdaptiveConcurrencyLimiter limiter = concurrencyLimiter;
+            if (limiter != null && !limiter.acquire()) {
+                throw new HttpClientException("Interrupted while waiting for the concurrency limiter.");
             }
+            boolean permitHeld = limiter != null;
 
-            HttpEntitySnapshot requestEntityCopy = null;
+            apacheHttpRequest = createApacheRequest(smartsheetRequest);
+            HttpEntitySnapshot requestEntityCopy = setRequestHeadersAndEntity(apacheHttpRequest, smartsheetRequest);
             HttpEntitySnapshot responseEntityCopy = null;
-            // Set HTTP entity
-            final HttpEntity entity = smartsheetRequest.getEntity();
-            if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && entity != null && entity.getContent() != null) {
-                try {
-                    // we need access to the original request stream so we can log it (in the event of errors and/or tracing)
-                    requestEntityCopy = new HttpEntitySnapshot(entity);
-                } catch (IOException iox) {
-                    logger.error("failed to make copy of original request entity - {}", iox);
-                }
-
-                InputStreamEntity streamEntity = new InputStreamEntity(entity.getContent(), entity.getContentLength());
-                streamEntity.setChunked(false);    // why?  not supported by library?
-                ((HttpEntityEnclosingRequestBase) apacheHttpRequest).setEntity(streamEntity);
-            }
 
             // mark the body so we can reset on retry
             if(canRetryRequest && bodyStream != null) {
@@ -237,81 +420,49 @@ public class DefaultHttpClient implements HttpClient {
             HttpContext context = new BasicHttpContext();
             try {
                 long startTime = System.currentTimeMillis();
-                apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
+                CloseableHttpResponse apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
                 long endTime = System.currentTimeMillis();
+                smartsheetResponse.setCloseHandle(apacheHttpResponse);
 
-                // Set request headers to values ACTUALLY SENT (not just created by us), this would include:
-                // 'Connection', 'Accept-Encoding', etc. However, if a proxy is used, this may be the proxy's CONNECT
-                // request, hence the test for HTTP method first
-                Object httpRequest = context.getAttribute("http.request");
-                if(httpRequest != null && HttpRequestWrapper.class.isAssignableFrom(httpRequest.getClass())) {
-                    HttpRequestWrapper actualRequest = (HttpRequestWrapper)httpRequest;
-                    switch(HttpMethod.valueOf(actualRequest.getMethod())) {
-                        case GET:
-                        case POST:
-                        case PUT:
-                        case DELETE:
-                            apacheHttpRequest.setHeaders(((HttpRequestWrapper)httpRequest).getAllHeaders());
-                            break;
-                    }
-                }
-
-                // Set returned headers
-                smartsheetResponse.setHeaders(new HashMap<String, String>());
-                for (Header header : apacheHttpResponse.getAllHeaders()) {
-                    smartsheetResponse.getHeaders().put(header.getName(), header.getValue());
-                }
-                smartsheetResponse.setStatus(apacheHttpResponse.getStatusLine().getStatusCode(),
-                        apacheHttpResponse.getStatusLine().toString());
-
-                // Set returned entities
-                if (apacheHttpResponse.getEntity() != null) {
-                    HttpEntity httpEntity = new HttpEntity();
-                    httpEntity.setContentType(apacheHttpResponse.getEntity().getContentType().getValue());
-                    httpEntity.setContentLength(apacheHttpResponse.getEntity().getContentLength());
-                    httpEntity.setContent(apacheHttpResponse.getEntity().getContent());
-                    smartsheetResponse.setEntity(httpEntity);
-                    responseEntityCopy = new HttpEntitySnapshot(httpEntity);
-                }
+                setActualRequestHeaders(apacheHttpRequest, context);
+                responseEntityCopy = copyResponse(apacheHttpResponse, smartsheetResponse);
 
                 long responseTime = endTime - startTime;
                 logRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy, responseTime);
-
-                if (traces.size() > 0) { // trace-logging of request and response (if so configured)
-                    RequestAndResponseData requestAndResponseData = RequestAndResponseData.of(apacheHttpRequest,
-                            requestEntityCopy, smartsheetResponse, responseEntityCopy, traces);
-                    TRACE_WRITER.println(requestAndResponseData.toString(tracePrettyPrint));
-                }
+                traceRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy);
 
                 if (smartsheetResponse.getStatusCode() == 200) {
+                    if (permitHeld) {
+                        permitHeld = false;
+                        limiter.release(responseTime, getResponseLength(smartsheetResponse), false);
+                    }
                     // call successful, exit the retry loop
                     break;
                 }
 
                 // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
-                InputStream contentStream = smartsheetResponse.getEntity().getContent();
-                if (!contentStream.markSupported()) {
-                    // wrap the response stream in a input-stream that does support mark/reset
-                    contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
-                    // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                    smartsheetResponse.getEntity().getContent().close();
-                    smartsheetResponse.getEntity().setContent(contentStream);
-                }
+                InputStream contentStream = makeResponseContentRepeatable(smartsheetResponse);
                 try {
                     contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
+                    // give the permit back before any backoff so the limiter sees the overload right away
+                    if (permitHeld) {
+                        permitHeld = false;
+                        limiter.release(responseTime, isOverloaded(smartsheetResponse));
+                        contentStream.reset();
+                    }
                     long timeSpent = System.currentTimeMillis() - start;
-                    if (!shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
-                        // should not retry, or retry time exceeded, exit the retry loop
+                    if (!canRetryRequest || !shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
+                        // the body can't be sent again, should not retry, or retry time exceeded, exit the retry loop
                         break;
                     }
                 } finally {
-                    if(bodyStream != null) {
+                    if(canRetryRequest && bodyStream != null) {
                         bodyStream.reset();
                     }
                     contentStream.reset();
                 }
                 // moving this to finally causes issues because socket is closed (which means response stream is closed)
-                this.releaseConnection();
+                closeResponse(smartsheetResponse);
 
             } catch (ClientProtocolException e) {
                 try {
@@ -353,12 +504,462 @@ public class DefaultHttpClient implements HttpClient {
                             responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
                 } catch (IOException ignore) {
                 }
+                closeResponse(smartsheetResponse);
                 throw new HttpClientException("Error occurred.", e);
+            } finally {
+                if (permitHeld) {
+                    limiter.release();
+                }
             }
         }
+        currentResponse.set(smartsheetResponse);
         return smartsheetResponse;
     }
 
+    /**
+     * Make an HTTP request without blocking the calling thread. The request goes through the same logging, tracing
+     * and retry logic as {@link #request(HttpRequest)}, but it is executed by the non-blocking Apache
+     * CloseableHttpAsyncClient and retries are scheduled after their backoff rather than waited for, so no thread is
+     * held while the request is in flight. The callback is invoked from an I/O thread and must not block.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @param callback the callback to notify on completion (optional)
+     * @return the future HTTP response
+     */
+    @Override
+    public Future<HttpResponse> requestAsync(HttpRequest smartsheetRequest, FutureCallback<HttpResponse> callback) {
+        Util.throwIfNull(smartsheetRequest);
+        if (smartsheetRequest.getUri() == null) {
+            throw new IllegalArgumentException("A Request URI is required.");
+        }
+
+        AsyncRequestExecution execution = new AsyncRequestExecution(smartsheetRequest, callback);
+        execution.execute();
+        return execution.future;
+    }
+
+    /**
+     * The state of one asynchronous request across its attempts. Each attempt is started by {@link #execute()} and
+     * completes on an I/O thread in one of the FutureCallback methods, which either complete the future or schedule
+     * the next attempt.
+     */
+    private class AsyncRequestExecution implements FutureCallback<org.apache.http.HttpResponse> {
+        private final HttpRequest smartsheetRequest;
+        private final BasicFuture<HttpResponse> future;
+        private final boolean canRetryRequest;
+        private final InputStream bodyStream;
+        private final long start = System.currentTimeMillis();
+        private int attempt = 0;
+        private boolean permitReserved;
+        /** The concurrency limiter this request holds a permit from, null if none. */
+        private AdaptiveConcurrencyLimiter permitHolder;
+
+        private HttpRequestBase apacheHttpRequest;
+        private HttpEntitySnapshot requestEntityCopy;
+        private HttpContext context;
+        private long startTime;
+
+        AsyncRequestExecution(HttpRequest smartsheetRequest, FutureCallback<HttpResponse> callback) {
+            this.smartsheetRequest = smartsheetRequest;
+            this.future = new BasicFuture<HttpResponse>(callback);
+            this.canRetryRequest = makeRequestBodyRepeatable(smartsheetRequest);
+            this.bodyStream = getRequestBody(smartsheetRequest);
+        }
+
+        void execute() {
+            if (future.isDone()) {
+                releasePermit();
+                return;
+            }
+            // don't send anything while another request's rate limit backoff is in effect
+            long pauseMillis = sharedBackoff.getRemainingMillis();
+            if (pauseMillis > 0) {
+                releasePermit();
+                scheduleRetry(pauseMillis);
+                return;
+            }
+            RateLimiter limiter = rateLimiter;
+            if (limiter != null && !permitReserved) {
+                permitReserved = true;
+                long waitMillis = limiter.reserve(smartsheetRequest);
+                if (waitMillis > 0) {
+                    scheduleRetry(waitMillis);
+                    return;
+                }
+            }
+            final AdaptiveConcurrencyLimiter concurrency = concurrencyLimiter;
+            if (concurrency != null && permitHolder == null) {
+                // wait in the limiter's queue rather than on a thread; it calls back once a permit is ours
+                if (!concurrency.tryAcquire(new Runnable() {
+                    @Override
+                    public void run() {
+                        permitHolder = concurrency;
+                        execute();
+                    }
+                })) {
+                    return;
+                }
+                permitHolder = concurrency;
+            }
+            permitReserved = false;
+            try {
+                apacheHttpRequest = createApacheRequest(smartsheetRequest);
+                requestEntityCopy = setRequestHeadersAndEntity(apacheHttpRequest, smartsheetRequest);
+
+                // mark the body so we can reset on retry
+                if (canRetryRequest && bodyStream != null) {
+                    bodyStream.mark((int) smartsheetRequest.getEntity().getContentLength());
+                }
+
+                context = new BasicHttpContext();
+                startTime = System.currentTimeMillis();
+                getHttpAsyncClient().execute(apacheHttpRequest, context, this);
+            } catch (RuntimeException e) {
+                releasePermit();
+                future.failed(new HttpClientException("Error occurred.", e));
+            }
+        }
+
+        @Override
+        public void completed(org.apache.http.HttpResponse apacheHttpResponse) {
+            long endTime = System.currentTimeMillis();
+            HttpResponse smartsheetResponse = new HttpResponse();
+            HttpEntitySnapshot responseEntityCopy = null;
+            try {
+                setActualRequestHeaders(apacheHttpRequest, context);
+                responseEntityCopy = copyResponse(apacheHttpResponse, smartsheetResponse);
+
+                logRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy,
+                        endTime - startTime);
+                traceRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy);
+
+                if (smartsheetResponse.getStatusCode() == 200) {
+                    releasePermit(endTime - startTime, getResponseLength(smartsheetResponse), false);
+                    future.completed(smartsheetResponse);
+                    return;
+                }
+
+                // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
+                InputStream contentStream = makeResponseContentRepeatable(smartsheetResponse);
+                long backoffMillis;
+                try {
+                    contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
+                    if (permitHolder != null) {
+                        releasePermit(endTime - startTime, isOverloaded(smartsheetResponse));
+                        contentStream.reset();
+                    }
+                    long timeSpent = System.currentTimeMillis() - start;
+                    backoffMillis = canRetryRequest && !shouldRetryOverridden ?
+                            getRetryBackoffMillis(++attempt, timeSpent, smartsheetResponse) : -1;
+                } finally {
+                    if (canRetryRequest && bodyStream != null) {
+                        bodyStream.reset();
+                    }
+                    contentStream.reset();
+                }
+                if (canRetryRequest && shouldRetryOverridden) {
+                    retryIfShould(smartsheetResponse);
+                    return;
+                }
+                if (backoffMillis < 0) {
+                    // should not retry, or retry time exceeded
+                    future.completed(smartsheetResponse);
+                    return;
+                }
+                logger.info("HttpError StatusCode=" + smartsheetResponse.getStatusCode() + ": Retrying in " +
+                        backoffMillis + " milliseconds");
+                scheduleRetry(backoffMillis);
+            } catch (IOException e) {
+                try {
+                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
+                            responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+                } catch (IOException ignore) {
+                }
+                releasePermit();
+                future.failed(new HttpClientException("Error occurred.", e));
+            } catch (RuntimeException e) {
+                releasePermit();
+                future.failed(new HttpClientException("Error occurred.", e));
+            }
+        }
+
+        @Override
+        public void failed(Exception e) {
+            releasePermit();
+            logger.warn(e.getClass().getSimpleName() + " " + e.getMessage());
+            // the async client doesn't retry requests on its own, so retry any request that got no response at all
+            // (as the blocking client does) for as long as the retry time allows
+            if (e instanceof NoHttpResponseException && canRetryRequest &&
+                    System.currentTimeMillis() - start < maxRetryTimeMillis) {
+                try {
+                    if (bodyStream != null) {
+                        bodyStream.reset();
+                    }
+                    execute();
+                    return;
+                } catch (IOException ignore) {
+                }
+            }
+            future.failed(new HttpClientException("Error occurred.", e));
+        }
+
+        @Override
+        public void cancelled() {
+            releasePermit();
+            future.cancel(true);
+        }
+
+        private void releasePermit(long latencyMillis, boolean overloaded) {
+            releasePermit(latencyMillis, 0, overloaded);
+        }
+
+        private void releasePermit(long latencyMillis, long responseBytes, boolean overloaded) {
+            AdaptiveConcurrencyLimiter holder = permitHolder;
+            if (holder != null) {
+                permitHolder = null;
+                holder.release(latencyMillis, responseBytes, overloaded);
+            }
+        }
+
+        private void releasePermit() {
+            AdaptiveConcurrencyLimiter holder = permitHolder;
+            if (holder != null) {
+                permitHolder = null;
+                holder.release();
+            }
+        }
+
+        /**
+         * Ask a subclass's {@link #shouldRetry} whether to retry, on a thread of its own rather than the I/O thread or
+         * the retry scheduler since it may wait out the backoff, then retry or complete the future with the response.
+         */
+        private void retryIfShould(final HttpResponse smartsheetResponse) {
+            final int previousAttempts = ++attempt;
+            try {
+                getRetryDecisionExecutor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            InputStream contentStream = smartsheetResponse.getEntity().getContent();
+                            boolean retry;
+                            try {
+                                contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
+                                retry = shouldRetry(previousAttempts, System.currentTimeMillis() - start,
+                                        smartsheetResponse);
+                            } finally {
+                                contentStream.reset();
+                            }
+                            if (retry) {
+                                execute();
+                            } else {
+                                future.completed(smartsheetResponse);
+                            }
+                        } catch (IOException e) {
+                            future.failed(new HttpClientException("Error occurred.", e));
+                        } catch (RuntimeException e) {
+                            future.failed(new HttpClientException("Error occurred.", e));
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the client was closed
+                future.failed(new HttpClientException("Error occurred.", e));
+            }
+        }
+
+        private void scheduleRetry(long backoffMillis) {
+            try {
+                getRetryScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        execute();
+                    }
+                }, backoffMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the client was closed while waiting to retry
+                future.failed(new HttpClientException("Error occurred.", e));
+            }
+        }
+    }
+
+    /**
+     * The retry logic will consume the request body, so make sure it supports mark/reset, buffering it in memory if
+     * it is no larger than {@link #MAX_BUFFERED_REQUEST_BODY}. A larger body (such as an attachment uploaded from a
+     * plain InputStream) is streamed once, as it is read, and the request isn't retried.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @return true if the request body (if any) can be replayed
+     */
+    static boolean makeRequestBodyRepeatable(HttpRequest smartsheetRequest) {
+        InputStream bodyStream = getRequestBody(smartsheetRequest);
+        if (bodyStream == null || bodyStream.markSupported()) {
+            return true;
+        }
+        HttpEntity entity = smartsheetRequest.getEntity();
+        if (entity.getContentLength() > MAX_BUFFERED_REQUEST_BODY) {
+            return false;
+        }
+        // read up to one byte past the limit, to tell whether the whole body fits
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[StreamUtil.TEN_KB];
+        try {
+            int bytesRead = 0;
+            while (bytesRead != -1 && buffer.size() <= MAX_BUFFERED_REQUEST_BODY) {
+                bytesRead = bodyStream.read(chunk, 0,
+                        Math.min(chunk.length, MAX_BUFFERED_REQUEST_BODY + 1 - buffer.size()));
+                if (bytesRead > 0) {
+                    buffer.write(chunk, 0, bytesRead);
+                }
+            }
+            if (bytesRead == -1) {
+                // close the old stream (just to be tidy) and then replace it with a reset-able stream
+                bodyStream.close();
+                entity.setContent(new ByteArrayInputStream(buffer.toByteArray()));
+                entity.setContentLength(buffer.size());
+                return true;
+            }
+        } catch (IOException e) {
+            logger.warn("failed to buffer the request body", e);
+        }
+        // too large (or unreadable); send what was read followed by the rest of the stream
+        entity.setContent(new SequenceInputStream(new ByteArrayInputStream(buffer.toByteArray()), bodyStream));
+        return false;
+    }
+
+    /**
+     * @return the content of the request entity, or null if there is none
+     */
+    private static InputStream getRequestBody(HttpRequest smartsheetRequest) {
+        if (smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContent() != null) {
+            return smartsheetRequest.getEntity().getContent();
+        }
+        return null;
+    }
+
+    /**
+     * Set the headers and entity of the Apache request from the smartsheet request.
+     *
+     * @return a snapshot of the request entity for logging (null if there is no entity)
+     */
+    private HttpEntitySnapshot setRequestHeadersAndEntity(HttpRequestBase apacheHttpRequest, HttpRequest smartsheetRequest) {
+        // Set HTTP headers
+        if (smartsheetRequest.getHeaders() != null) {
+            for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
+                apacheHttpRequest.addHeader(header.getKey(), header.getValue());
+            }
+        }
+
+        HttpEntitySnapshot requestEntityCopy = null;
+        // Set HTTP entity
+        final HttpEntity entity = smartsheetRequest.getEntity();
+        if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && entity != null && entity.getContent() != null) {
+            try {
+                // we need access to the original request stream so we can log it (in the event of errors and/or tracing)
+                requestEntityCopy = new HttpEntitySnapshot(entity);
+            } catch (IOException iox) {
+                logger.error("failed to make copy of original request entity - {}", iox);
+            }
+
+            if (entity.getContent() instanceof RepeatableFileInputStream) {
+                // send the file from its channel rather than through the stream
+                RepeatableFileInputStream fileContent = (RepeatableFileInputStream) entity.getContent();
+                ((HttpEntityEnclosingRequestBase) apacheHttpRequest).setEntity(new FileChannelEntity(
+                        fileContent.getFile(), fileContent.getPosition(), entity.getContentLength()));
+            } else if (entity.getContent() instanceof JsonArrayInputStream) {
+                // serialize the objects straight to the connection rather than through the stream
+                ((HttpEntityEnclosingRequestBase) apacheHttpRequest).setEntity(
+                        new JsonArrayEntity((JsonArrayInputStream) entity.getContent()));
+            } else {
+                InputStreamEntity streamEntity = new InputStreamEntity(entity.getContent(), entity.getContentLength());
+                streamEntity.setChunked(false);    // why?  not supported by library?
+                ((HttpEntityEnclosingRequestBase) apacheHttpRequest).setEntity(streamEntity);
+            }
+        }
+        return requestEntityCopy;
+    }
+
+    /**
+     * Set request headers to values ACTUALLY SENT (not just created by us), this would include: 'Connection',
+     * 'Accept-Encoding', etc. However, if a proxy is used, this may be the proxy's CONNECT request, hence the test for
+     * HTTP method first
+     */
+    private static void setActualRequestHeaders(HttpRequestBase apacheHttpRequest, HttpContext context) {
+        Object httpRequest = context.getAttribute("http.request");
+        if(httpRequest != null && HttpRequestWrapper.class.isAssignableFrom(httpRequest.getClass())) {
+            HttpRequestWrapper actualRequest = (HttpRequestWrapper)httpRequest;
+            switch(HttpMethod.valueOf(actualRequest.getMethod())) {
+                case GET:
+                case POST:
+                case PUT:
+                case DELETE:
+                    apacheHttpRequest.setHeaders(((HttpRequestWrapper)httpRequest).getAllHeaders());
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Copy the status, headers and entity of the Apache response to the smartsheet response.
+     *
+     * @return a snapshot of the response entity for logging (null if there is no entity)
+     */
+    private static HttpEntitySnapshot copyResponse(org.apache.http.HttpResponse apacheHttpResponse,
+                                                   HttpResponse smartsheetResponse) throws IOException {
+        // Set returned headers
+        smartsheetResponse.setHeaders(new HashMap<String, String>());
+        for (Header header : apacheHttpResponse.getAllHeaders()) {
+            smartsheetResponse.getHeaders().put(header.getName(), header.getValue());
+        }
+        smartsheetResponse.setStatus(apacheHttpResponse.getStatusLine().getStatusCode(),
+                apacheHttpResponse.getStatusLine().toString());
+
+        // Set returned entities
+        if (apacheHttpResponse.getEntity() != null) {
+            HttpEntity httpEntity = new HttpEntity();
+            httpEntity.setContentType(apacheHttpResponse.getEntity().getContentType().getValue());
+            httpEntity.setContentLength(apacheHttpResponse.getEntity().getContentLength());
+            InputStream content = apacheHttpResponse.getEntity().getContent();
+            if (smartsheetResponse.getStatusCode() == 200 && content != null && !content.markSupported()) {
+                // lets the snapshot peek at the head of a successful response instead of reading all of it into
+                // memory, so large bodies can be streamed (error responses are buffered by the retry logic anyway)
+                content = new BufferedInputStream(content);
+            }
+            httpEntity.setContent(content);
+            smartsheetResponse.setEntity(httpEntity);
+            return new HttpEntitySnapshot(httpEntity);
+        }
+        return null;
+    }
+
+    /**
+     * trace-logging of request and response (if so configured)
+     */
+    private void traceRequest(HttpRequestBase apacheHttpRequest, HttpEntitySnapshot requestEntityCopy,
+                              HttpResponse smartsheetResponse, HttpEntitySnapshot responseEntityCopy) throws IOException {
+        if (traces.size() > 0) {
+            RequestAndResponseData requestAndResponseData = RequestAndResponseData.of(apacheHttpRequest,
+                    requestEntityCopy, smartsheetResponse, responseEntityCopy, traces);
+            TRACE_WRITER.println(requestAndResponseData.toString(tracePrettyPrint));
+        }
+    }
+
+    /**
+     * Make sure the content of a (failed) response supports mark/reset, buffering it in memory if necessary.
+     *
+     * @return the content stream
+     */
+    private static InputStream makeResponseContentRepeatable(HttpResponse smartsheetResponse) throws IOException {
+        InputStream contentStream = smartsheetResponse.getEntity().getContent();
+        if (!contentStream.markSupported()) {
+            // wrap the response stream in a input-stream that does support mark/reset
+            contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
+            // close the old stream (just to be tidy) and then replace it with a reset-able stream
+            smartsheetResponse.getEntity().getContent().close();
+            smartsheetResponse.getEntity().setContent(contentStream);
+        }
+        return contentStream;
+    }
+
     /**
      * Create the Apache HTTP request. Override this function to inject additional
      * haaders in the request or use a proxy.
@@ -430,7 +1031,10 @@ public class DefaultHttpClient implements HttpClient {
 
     /**
      * Called when an API request fails to determine if it can retry the request.
-     * Calls calcBackoff to determine the time to wait in between retries.
+     * Calls calcBackoff to determine the time to wait in between retries, then waits until both that time and any
+     * shared rate limit backoff (see {@link #getSharedBackoff()}) are over. Asynchronous requests call it too when
+     * it is overridden (see {@link #getRetryBackoffMillis}), each call on a pooled daemon thread of its own, so an
+     * override may block.
      *
      * @param previousAttempts number of attempts (including this one) to execute request
      * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
@@ -438,17 +1042,54 @@ public class DefaultHttpClient implements HttpClient {
      * @return true if this request can be retried
      */
     public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+        long backoffMillis = getRetryBackoffMillis(previousAttempts, totalElapsedTimeMillis, response);
+        if(backoffMillis < 0)
+            return false;
+
+        logger.info("HttpError StatusCode=" + response.getStatusCode() + ": Retrying in " + backoffMillis + " milliseconds");
+        if (!sharedBackoff.await(backoffMillis)) {
+            logger.warn("retry backoff interrupted");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isShouldRetryOverridden() {
+        try {
+            return getClass().getMethod("shouldRetry", int.class, long.class, HttpResponse.class)
+                    .getDeclaringClass() != DefaultHttpClient.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called when an API request fails to determine if it can retry the request, and if so after how long. Calls
+     * calcBackoff to determine the time to wait in between retries. Unlike shouldRetry, this doesn't wait; when the
+     * rate limit was exceeded it pauses the shared backoff so that every request through this client waits it out.
+     *
+     * This is the retry decision of both {@link #request} (through the default shouldRetry) and {@link #requestAsync},
+     * so overriding it (or calcBackoff) changes both. A subclass that overrides shouldRetry instead is honored by
+     * both as well: asynchronous requests then call it on the thread that schedules retries, which it holds for as
+     * long as shouldRetry waits.
+     *
+     * @param previousAttempts number of attempts (including this one) to execute request
+     * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
+     * @param response the failed HttpResponse
+     * @return -1 if this request can't be retried, otherwise the time to wait before retrying it
+     */
+    public long getRetryBackoffMillis(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
         String contentType = response.getEntity().getContentType();
         if (contentType != null && !contentType.startsWith(JSON_MIME_TYPE)) {
             // it's not JSON; don't even try to parse it
-            return false;
+            return -1;
         }
         Error error;
         try {
             error = jsonSerializer.deserialize(Error.class, response.getEntity().getContent());
         }
         catch (IOException e) {
-            return false;
+            return -1;
         }
         switch(error.getErrorCode()) {
             case 4001: /** Smartsheet.com is currently offline for system maintenance. Please check back again shortly. */
@@ -458,22 +1099,109 @@ public class DefaultHttpClient implements HttpClient {
              * If you encounter this error repeatedly, please contact api@smartsheet.com for assistance. */
                 break;
             default:
-                return false;
+                return -1;
         }
 
         long backoffMillis = calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
-        if(backoffMillis < 0)
-            return false;
-
-        logger.info("HttpError StatusCode=" + response.getStatusCode() + ": Retrying in " + backoffMillis + " milliseconds");
-        try {
-            Thread.sleep(backoffMillis);
+        if (backoffMillis >= 0 && error.getErrorCode() == 4003) {
+            sharedBackoff.pause(backoffMillis);
         }
-        catch (InterruptedException e) {
-            logger.warn("sleep interrupted", e);
-            return false;
+        return backoffMillis;
+    }
+
+    /**
+     * The length of a response body, for the concurrency limiter.
+     *
+     * @param response the HttpResponse
+     * @return the length of the body, -1 if unknown
+     */
+    static long getResponseLength(HttpResponse response) {
+        return response.getEntity() == null ? 0 : response.getEntity().getContentLength();
+    }
+
+    /**
+     * Whether a failed response means that the server is overloaded, for the concurrency limiter. Reads the error
+     * from the content, so the content must support mark/reset and the caller must reset it afterwards.
+     *
+     * @param response the failed HttpResponse
+     * @return true if the server is overloaded
+     */
+    private boolean isOverloaded(HttpResponse response) {
+        Integer errorCode = null;
+        String contentType = response.getEntity().getContentType();
+        if (contentType == null || contentType.startsWith(JSON_MIME_TYPE)) {
+            try {
+                errorCode = jsonSerializer.deserialize(Error.class, response.getEntity().getContent()).getErrorCode();
+            } catch (IOException ignore) {
+            }
         }
-        return true;
+        return AdaptiveConcurrencyLimiter.isOverload(response.getStatusCode(), errorCode);
+    }
+
+    /**
+     * Set the rate limiter that paces the requests made through this client, each attempt (including retries) taking
+     * its tokens before it is sent. Blocking requests wait for the tokens; asynchronous ones are scheduled for when
+     * they are available.
+     *
+     * @param rateLimiter the rate limiter, null to send requests as soon as they are made
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Gets the rate limiter.
+     *
+     * @return the rate limiter, null if none is set
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Set the limiter that caps the number of requests in flight through this client, adapting the cap to latency
+     * and to the server's overload responses.
+     *
+     * @param concurrencyLimiter the concurrency limiter, null to not limit requests in flight
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * Set the cache that GET requests matching its rules are served from.
+     *
+     * @param responseCache the response cache, null to send every request
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Gets the response cache.
+     *
+     * @return the response cache, null if none is set
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Gets the concurrency limiter; its current limit shows how many requests in flight the server is coping with.
+     *
+     * @return the concurrency limiter, null if none
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Gets the backoff shared by all requests made through this client.
+     *
+     * @return the shared backoff
+     */
+    public SharedBackoff getSharedBackoff() {
+        return sharedBackoff;
     }
 
     /**
@@ -483,21 +1211,116 @@ public class DefaultHttpClient implements HttpClient {
      */
     @Override
     public void close() throws IOException {
+        ScheduledExecutorService scheduler = retryScheduler.getAndSet(null);
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        ExecutorService decisionExecutor = retryDecisionExecutor.getAndSet(null);
+        if (decisionExecutor != null) {
+            decisionExecutor.shutdownNow();
+        }
+        CloseableHttpAsyncClient asyncClient = httpAsyncClient.getAndSet(null);
+        if (asyncClient != null) {
+            asyncClient.close();
+        }
         this.httpClient.close();
     }
 
+    /**
+     * Gets the Apache async client, creating one first if none was given to the constructor, and makes sure it is
+     * started. The one created is pooled with {@link #DEFAULT_ASYNC_MAX_CONNECTIONS} connections, as many per route,
+     * rather than the Apache defaults of 20 and 2, which would let only two requests to Smartsheet run at a time.
+     *
+     * @return the async http client
+     */
+    protected CloseableHttpAsyncClient getHttpAsyncClient() {
+        CloseableHttpAsyncClient asyncClient = httpAsyncClient.get();
+        if (asyncClient == null) {
+            CloseableHttpAsyncClient newClient = createPooledHttpAsyncClient(null, null, null);
+            if (httpAsyncClient.compareAndSet(null, newClient)) {
+                asyncClient = newClient;
+            } else {
+                asyncClient = httpAsyncClient.get();
+            }
+        }
+        if (!asyncClient.isRunning()) {
+            synchronized (asyncClient) {
+                if (!asyncClient.isRunning()) {
+                    asyncClient.start();
+                }
+            }
+        }
+        return asyncClient;
+    }
+
+    /**
+     * @return the scheduler for retries of asynchronous requests, creating it first if needed
+     */
+    private ScheduledExecutorService getRetryScheduler() {
+        ScheduledExecutorService scheduler = retryScheduler.get();
+        if (scheduler == null) {
+            ScheduledExecutorService newScheduler = Executors.newSingleThreadScheduledExecutor(
+                    daemonThreadFactory("smartsheet-retry"));
+            if (retryScheduler.compareAndSet(null, newScheduler)) {
+                scheduler = newScheduler;
+            } else {
+                newScheduler.shutdown();
+                scheduler = retryScheduler.get();
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * @return the executor running overridden shouldRetry calls of asynchronous requests, creating it first if needed
+     */
+    private ExecutorService getRetryDecisionExecutor() {
+        ExecutorService executor = retryDecisionExecutor.get();
+        if (executor == null) {
+            ExecutorService newExecutor = Executors.newCachedThreadPool(daemonThreadFactory("smartsheet-retry-decision"));
+            if (retryDecisionExecutor.compareAndSet(null, newExecutor)) {
+                executor = newExecutor;
+            } else {
+                newExecutor.shutdown();
+                executor = retryDecisionExecutor.get();
+            }
+        }
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
     /* (non-Javadoc)
      * @see com.smartsheet.api.internal.http.HttpClient#releaseConnection()
      */
     @Override
     public void releaseConnection() {
-        if (apacheHttpResponse != null) {
-            try {
-                apacheHttpResponse.close();
-                apacheHttpResponse = null;
-            } catch (IOException e) {
-                logger.error("error closing Apache HttpResponse - {}", e);
-            }
+        HttpResponse response = currentResponse.get();
+        if (response != null) {
+            currentResponse.remove();
+            closeResponse(response);
+        }
+    }
+
+    /**
+     * Release the connection owned by a response, logging (rather than propagating) any failure.
+     *
+     * @param response the response to close
+     */
+    protected void closeResponse(HttpResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            logger.error("error closing Apache HttpResponse - {}", e);
         }
     }
 
@@ -0,0 +1,100 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A repeatable Apache HttpEntity for a region of a file, written with {@link FileChannel#transferTo} so the file is
+ * never copied onto the heap. Each write reopens the file, so the entity can be sent any number of times.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public class FileChannelEntity extends AbstractHttpEntity {
+    private final File file;
+    private final long offset;
+    private final long length;
+
+    /**
+     * Create an entity for the bytes of a file from the given offset.
+     *
+     * @param file the file
+     * @param offset the position of the first byte to send
+     * @param length the number of bytes to send, -1 for the rest of the file
+     */
+    public FileChannelEntity(File file, long offset, long length) {
+        this.file = file;
+        this.offset = offset;
+        this.length = length < 0 ? file.length() - offset : length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new RepeatableFileInputStream(file, offset);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        RandomAccessFile source = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = source.getChannel();
+            // not closed: that would close the output stream, which belongs to the caller
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0 && position >= channel.size()) {
+                    throw new EOFException("Incorrect file length, expected: " + length + ", actual: " +
+                            (channel.size() - offset));
+                }
+                position += transferred;
+            }
+        } finally {
+            source.close();
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
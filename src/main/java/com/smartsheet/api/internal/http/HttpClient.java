@@ -50,7 +50,8 @@ public interface HttpClient extends Closeable {
     public HttpResponse request(HttpRequest request) throws HttpClientException;
 
     /**
-     * Release connection.
+     * Release the connection of the response most recently returned to the calling thread. Callers that hand a
+     * response off to another thread should close the response itself instead (see {@link HttpResponse#close()}).
      */
     public void releaseConnection();
 }
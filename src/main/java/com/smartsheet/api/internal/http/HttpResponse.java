@@ -21,13 +21,15 @@ package com.smartsheet.api.internal.http;
  */
 
 
+import java.io.Closeable;
+import java.io.IOException;
 
 /**
  * This class represents an HTTP response.
  * 
  * Thread Safety: This class is not thread safe since it's mutable.
  */
-public class HttpResponse extends HttpMessage {
+public class HttpResponse extends HttpMessage implements Closeable {
     /**
      * Represents the response status code.
      *
@@ -36,6 +38,13 @@ public class HttpResponse extends HttpMessage {
     private int statusCode;
     private String statusText;
 
+    /**
+     * Represents the handle used to release the underlying connection once this response has been consumed.
+     *
+     * It is set by the HttpClient that produced this response and is cleared when the response is closed.
+     */
+    private Closeable closeHandle;
+
     /**
      * Gets the status code.
      *
@@ -74,4 +83,27 @@ public class HttpResponse extends HttpMessage {
         this.statusText = statusText;
     }
 
+    /**
+     * Sets the handle used to release the underlying connection of this response.
+     *
+     * @param closeHandle the close handle
+     */
+    public void setCloseHandle(Closeable closeHandle) {
+        this.closeHandle = closeHandle;
+    }
+
+    /**
+     * Release the underlying connection of this response. Each response owns its own connection, so closing it never
+     * affects responses returned to other threads. Calling this method more than once has no effect.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        Closeable handle = closeHandle;
+        closeHandle = null;
+        if (handle != null) {
+            handle.close();
+        }
+    }
 }
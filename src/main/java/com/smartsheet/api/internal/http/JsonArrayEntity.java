@@ -0,0 +1,75 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A repeatable, chunked Apache HttpEntity for a {@link JsonArrayInputStream}: each write serializes the objects
+ * straight to the connection, so the JSON is never held in memory.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class JsonArrayEntity extends AbstractHttpEntity {
+    private final JsonArrayInputStream content;
+
+    /**
+     * Create an entity for the JSON array of a stream's objects.
+     *
+     * @param content the stream
+     */
+    public JsonArrayEntity(JsonArrayInputStream content) {
+        this.content = content;
+        setChunked(true);
+        setContentType("application/json");
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        content.close();
+        return content;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        content.writeTo(outputStream);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * An InputStream of the JSON array of a sequence of objects, serialized as it is read rather than all at once, so
+ * that large request bodies (e.g. thousands of rows) don't have to be held in memory. The HTTP clients recognize it
+ * and serialize the objects straight to the connection with {@link #writeTo(OutputStream)}.
+ *
+ * The objects come from an Iterable, whose iterator() is called again each time the JSON is regenerated: by
+ * {@link #writeTo(OutputStream)} and by {@link #reset()}, which regenerates the JSON up to the marked position, so
+ * retries don't need a copy of the body. The Iterable must therefore return the same objects every time.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class JsonArrayInputStream extends InputStream {
+    /** The number of bytes serialized ahead of the reader. */
+    private static final int CHUNK_SIZE = 8192;
+
+    /** The objects. */
+    private final Iterable<?> source;
+
+    /** Serializes the objects. */
+    private final JacksonJsonSerializer serializer;
+
+    /** The objects left to serialize, null before the first read. */
+    private Iterator<?> items;
+
+    /** Writes the JSON read next into the buffer. */
+    private JsonGenerator generator;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_SIZE * 2);
+
+    /** Serialized bytes not read yet. */
+    private byte[] chunk = new byte[0];
+    private int chunkPosition;
+
+    /** The position of the next byte to read. */
+    private long position;
+
+    /** The position to return to on reset. */
+    private long markPosition;
+
+    /**
+     * Create a stream of the JSON array of the given objects.
+     *
+     * @param source the objects, iterated once per generation of the JSON
+     * @param serializer serializes the objects
+     */
+    public JsonArrayInputStream(Iterable<?> source, JacksonJsonSerializer serializer) {
+        if (source == null || serializer == null) {
+            throw new IllegalArgumentException("source and serializer are required");
+        }
+        this.source = source;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (chunkPosition == chunk.length && !fill()) {
+            return -1;
+        }
+        position++;
+        return chunk[chunkPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (chunkPosition == chunk.length && !fill()) {
+            return -1;
+        }
+        int count = Math.min(len, chunk.length - chunkPosition);
+        System.arraycopy(chunk, chunkPosition, b, off, count);
+        chunkPosition += count;
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - chunkPosition;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        markPosition = position;
+    }
+
+    /**
+     * Return to the marked position by serializing the objects again from the start.
+     *
+     * @throws IOException if the objects can't be serialized
+     */
+    @Override
+    public void reset() throws IOException {
+        close();
+        long target = markPosition;
+        while (position < target) {
+            if (chunkPosition == chunk.length && !fill()) {
+                throw new IOException("The source produced less JSON than before");
+            }
+            int skipped = (int) Math.min(target - position, chunk.length - chunkPosition);
+            chunkPosition += skipped;
+            position += skipped;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+        generator = null;
+        items = null;
+        chunk = new byte[0];
+        chunkPosition = 0;
+        position = 0;
+    }
+
+    /**
+     * Write the whole JSON array to a stream, serializing the objects from the start directly into it. The read
+     * position of this stream is not affected.
+     *
+     * @param outputStream the stream, which is flushed but not closed
+     * @throws IOException if the objects can't be serialized or written
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        JsonGenerator target = serializer.createGenerator(outputStream);
+        target.writeStartArray();
+        for (Object item : source) {
+            serializer.writeValue(target, item);
+        }
+        target.writeEndArray();
+        target.close();
+        outputStream.flush();
+    }
+
+    /**
+     * Serialize the next objects into the chunk.
+     *
+     * @return false at the end of the array
+     */
+    private boolean fill() throws IOException {
+        buffer.reset();
+        if (items == null) {
+            items = source.iterator();
+            generator = serializer.createGenerator(buffer);
+            generator.writeStartArray();
+        } else if (generator == null) {
+            return false;
+        }
+        while (buffer.size() < CHUNK_SIZE && items.hasNext()) {
+            serializer.writeValue(generator, items.next());
+            generator.flush();
+        }
+        if (!items.hasNext()) {
+            generator.writeEndArray();
+            generator.close();
+            generator = null;
+        }
+        chunk = buffer.toByteArray();
+        chunkPosition = 0;
+        return chunk.length > 0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A multipart/form-data HTTP entity whose content is streamed part by part, so it can be sent through the configured
+ * {@link HttpClient} like any other request body. Its content supports mark/reset (and so can be retried without
+ * being buffered) when every part's content does, which is the case for {@link RepeatableFileInputStream}; otherwise
+ * {@link DefaultHttpClient} buffers it only if it is small, and sends a larger one once, as it is read.
+ *
+ * Parts must all be added before the entity is used in a request.
+ *
+ * Thread Safety: This class is not thread safe since it's mutable.
+ */
+public class MultipartHttpEntity extends HttpEntity {
+    private static final String CRLF = "\r\n";
+
+    /** The boundary between parts. */
+    private final String boundary;
+
+    /** The content of each part, with its headers, in order; the closing boundary is added by {@link #update()}. */
+    private final List<InputStream> parts = new ArrayList<InputStream>();
+
+    /** The total length of the parts, -1 if any part's length is unknown. */
+    private long partsLength;
+
+    /**
+     * Create an empty multipart entity with a random boundary.
+     */
+    public MultipartHttpEntity() {
+        this.boundary = "----" + UUID.randomUUID().toString().replace("-", "");
+        setContentType("multipart/form-data; boundary=" + boundary);
+        update();
+    }
+
+    /**
+     * Add a part held in memory, such as the JSON of the object an attachment belongs to.
+     *
+     * @param name the part name
+     * @param contentType the content type of the part
+     * @param content the content of the part
+     * @return this entity
+     */
+    public MultipartHttpEntity addPart(String name, String contentType, byte[] content) {
+        return addPart(name, null, contentType, new ByteArrayInputStream(content), content.length);
+    }
+
+    /**
+     * Add a file part, streamed from the given content.
+     *
+     * @param name the part name
+     * @param fileName the file name sent to the server
+     * @param contentType the content type of the file
+     * @param content the content of the file
+     * @param contentLength the length of the content, -1 if unknown
+     * @return this entity
+     */
+    public MultipartHttpEntity addFilePart(String name, String fileName, String contentType, InputStream content,
+                                           long contentLength) {
+        return addPart(name, fileName, contentType, content, contentLength);
+    }
+
+    private MultipartHttpEntity addPart(String name, String fileName, String contentType, InputStream content,
+                                        long contentLength) {
+        StringBuilder header = new StringBuilder();
+        header.append("--").append(boundary).append(CRLF);
+        header.append("Content-Disposition: form-data; name=\"").append(quote(name)).append('"');
+        if (fileName != null) {
+            header.append("; filename=\"").append(quote(fileName)).append('"');
+        }
+        header.append(CRLF);
+        header.append("Content-Type: ").append(contentType).append(CRLF);
+        header.append(CRLF);
+        byte[] headerBytes = utf8(header.toString());
+        byte[] trailerBytes = utf8(CRLF);
+
+        parts.add(new ByteArrayInputStream(headerBytes));
+        parts.add(content);
+        parts.add(new ByteArrayInputStream(trailerBytes));
+        partsLength = partsLength < 0 || contentLength < 0 ? -1 :
+                partsLength + headerBytes.length + contentLength + trailerBytes.length;
+        update();
+        return this;
+    }
+
+    /**
+     * Gets the boundary between parts.
+     *
+     * @return the boundary
+     */
+    public String getBoundary() {
+        return boundary;
+    }
+
+    /**
+     * Rebuild the content and length after the parts changed.
+     */
+    private void update() {
+        byte[] closing = utf8("--" + boundary + "--" + CRLF);
+        List<InputStream> content = new ArrayList<InputStream>(parts);
+        content.add(new ByteArrayInputStream(closing));
+        setContent(new PartsInputStream(content));
+        setContentLength(partsLength < 0 ? -1 : partsLength + closing.length);
+    }
+
+    private static String quote(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static byte[] utf8(String value) {
+        try {
+            return value.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The concatenation of the parts' streams, supporting mark/reset when all of them do.
+     */
+    private static class PartsInputStream extends InputStream {
+        private final List<InputStream> streams;
+
+        /** The index of the stream being read. */
+        private int current;
+
+        /** The index of the stream that was being read when marked. */
+        private int marked;
+
+        PartsInputStream(List<InputStream> streams) {
+            this.streams = streams;
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (current < streams.size()) {
+                int b = streams.get(current).read();
+                if (b != -1) {
+                    return b;
+                }
+                current++;
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (current < streams.size()) {
+                int bytesRead = streams.get(current).read(b, off, len);
+                if (bytesRead > 0) {
+                    return bytesRead;
+                }
+                if (bytesRead == -1) {
+                    current++;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean markSupported() {
+            for (InputStream stream : streams) {
+                if (!stream.markSupported()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            marked = current;
+            // the streams after the current one are at their start, so marking them marks their start
+            for (int i = current; i < streams.size(); i++) {
+                streams.get(i).mark(readLimit);
+            }
+        }
+
+        @Override
+        public void reset() throws IOException {
+            for (int i = marked; i <= current && i < streams.size(); i++) {
+                streams.get(i).reset();
+            }
+            current = marked;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+        }
+    }
+}
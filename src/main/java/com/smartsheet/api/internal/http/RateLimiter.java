@@ -0,0 +1,168 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class paces outgoing requests so that each access token stays under its Smartsheet rate limit, rather than
+ * finding out from error 4003 after the fact.
+ *
+ * Every access token (identified by the Authorization header of the request) gets its own token bucket that refills
+ * at the configured rate and holds up to the configured burst. Requests for operations that Smartsheet counts as
+ * several requests (file attachments and cell history, see {@link #getCost(HttpRequest)}) take that many tokens.
+ *
+ * Each bucket is kept as a single "theoretical arrival time" updated by compare-and-set, so reserving a permit never
+ * takes a lock: the caller is told how long to wait, and either sleeps ({@link #acquire(HttpRequest)}, blocking
+ * clients) or schedules the request for later ({@link #reserve(HttpRequest)}, asynchronous client).
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class RateLimiter {
+    /** The documented per-token limit of the Smartsheet API. */
+    public static final int DEFAULT_REQUESTS_PER_MINUTE = 300;
+
+    /** The number of requests an attachment upload or a cell history request counts as. */
+    public static final int EXPENSIVE_OPERATION_COST = 10;
+
+    /** Time (in nanoseconds) it takes for one token to be added to a bucket. */
+    private final long nanosPerToken;
+
+    /** Time (in nanoseconds) it takes to fill an empty bucket. */
+    private final long burstNanos;
+
+    /** The theoretical arrival time (System.nanoTime based) of the next request, for each access token. */
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<String, AtomicLong>();
+
+    /**
+     * Create a rate limiter allowing a burst of up to a full minute of requests.
+     *
+     * @param requestsPerMinute the sustained rate allowed for each access token
+     */
+    public RateLimiter(int requestsPerMinute) {
+        this(requestsPerMinute, requestsPerMinute);
+    }
+
+    /**
+     * Create a rate limiter.
+     *
+     * Exceptions: - IllegalArgumentException : if either argument is less than 1
+     *
+     * @param requestsPerMinute the sustained rate allowed for each access token
+     * @param burst the number of requests that may be sent at once after a quiet period
+     */
+    public RateLimiter(int requestsPerMinute, int burst) {
+        if (requestsPerMinute < 1 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerMinute and burst must be positive");
+        }
+        this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.burstNanos = nanosPerToken * burst;
+    }
+
+    /**
+     * Take the tokens for a request, waiting until they are available.
+     *
+     * @param request the request about to be sent
+     * @return true if the request may be sent, false if the thread was interrupted (its interrupt status is restored)
+     */
+    public boolean acquire(HttpRequest request) {
+        long waitMillis = reserve(request);
+        if (waitMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Take the tokens for a request without waiting. The tokens are taken even if they are not available yet; the
+     * caller must then hold the request for the returned time.
+     *
+     * @param request the request about to be sent
+     * @return the time (in milliseconds) to wait before sending the request, 0 to send it now
+     */
+    public long reserve(HttpRequest request) {
+        Util.throwIfNull(request);
+        AtomicLong bucket = getBucket(request);
+        long cost = getCost(request) * nanosPerToken;
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now - burstNanos) + cost;
+            if (bucket.compareAndSet(arrival, next)) {
+                long waitNanos = next - now;
+                return waitNanos <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of tokens a request costs. Attaching a file (or a new version of one) and getting cell history
+     * count as {@link #EXPENSIVE_OPERATION_COST} requests; everything else counts as one. Override to change the
+     * weights.
+     *
+     * @param request the request
+     * @return the cost, at least 1
+     */
+    protected int getCost(HttpRequest request) {
+        String path = request.getUri() == null ? null : request.getUri().getPath();
+        if (path == null) {
+            return 1;
+        }
+        if (request.getMethod() == HttpMethod.POST && (path.endsWith("/attachments") || path.endsWith("/versions"))) {
+            return EXPENSIVE_OPERATION_COST;
+        }
+        if (request.getMethod() == HttpMethod.GET && path.endsWith("/history")) {
+            return EXPENSIVE_OPERATION_COST;
+        }
+        return 1;
+    }
+
+    /**
+     * @return the bucket of the access token the request is made with
+     */
+    private AtomicLong getBucket(HttpRequest request) {
+        Map<String, String> headers = request.getHeaders();
+        String authorization = headers == null ? null : headers.get("Authorization");
+        String key = authorization == null ? "" : authorization;
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            // start with a full bucket
+            AtomicLong newBucket = new AtomicLong(System.nanoTime() - burstNanos);
+            bucket = buckets.putIfAbsent(key, newBucket);
+            if (bucket == null) {
+                bucket = newBucket;
+            }
+        }
+        return bucket;
+    }
+}
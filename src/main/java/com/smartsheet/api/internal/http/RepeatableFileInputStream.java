@@ -0,0 +1,160 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An InputStream over a file that supports mark/reset by seeking, so that uploads of a file can be retried without
+ * buffering it in memory. The HTTP clients recognize it and send the file straight from its FileChannel.
+ *
+ * The file is opened on the first read and closed at end of file or on {@link #close()}; reading again (e.g. after
+ * {@link #reset()}) reopens it at the current position.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class RepeatableFileInputStream extends InputStream {
+    /** The file. */
+    private final File file;
+
+    /** The position of the next byte to read. */
+    private long position;
+
+    /** The position to return to on reset. */
+    private long markPosition;
+
+    /** The open channel, null while the file is closed. */
+    private FileChannel channel;
+
+    /**
+     * Create a stream reading the file from its start.
+     *
+     * @param file the file
+     * @throws FileNotFoundException if the file doesn't exist or can't be read
+     */
+    public RepeatableFileInputStream(File file) throws FileNotFoundException {
+        this(file, 0);
+    }
+
+    /**
+     * Create a stream reading the file from the given position.
+     *
+     * @param file the file
+     * @param position the position of the first byte to read
+     * @throws FileNotFoundException if the file doesn't exist or can't be read
+     */
+    public RepeatableFileInputStream(File file, long position) throws FileNotFoundException {
+        if (!file.isFile() || !file.canRead()) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        this.file = file;
+        this.position = position;
+        this.markPosition = position;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (channel == null) {
+            channel = new RandomAccessFile(file, "r").getChannel();
+        }
+        int bytesRead = channel.read(ByteBuffer.wrap(b, off, len), position);
+        if (bytesRead == -1) {
+            close();
+            return -1;
+        }
+        position += bytesRead;
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = Math.max(0, Math.min(n, file.length() - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, file.length() - position));
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        markPosition = position;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        position = markPosition;
+    }
+
+    /**
+     * Close the file; the stream can still be reset and read again.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            FileChannel open = channel;
+            channel = null;
+            open.close();
+        }
+    }
+
+    /**
+     * Gets the file.
+     *
+     * @return the file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the position of the next byte to read.
+     *
+     * @return the position
+     */
+    public long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,498 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.internal.util.StreamUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * This class is a disk-backed cache of successful GET responses, for reads that rarely change such as column lists,
+ * folders, workspaces, users and server information, so that they can be reused across runs instead of being
+ * requested again every time a job starts.
+ *
+ * Only requests whose path matches a rule (see {@link #addRule}) are cached, for that rule's time to live. Once an
+ * entry has expired it is still served for the rule's stale-while-revalidate window while a fresh copy is fetched in
+ * the background; after that it is fetched again before returning. Entries are keyed by URI, access token (and
+ * assumed user) and Accept header, and are stored under hashed file names, one file per entry. The directory is kept
+ * under a size limit by deleting the least recently used entries.
+ *
+ * Writes through the client don't invalidate cached reads; the time to live bounds how out of date a cached response
+ * can be, and {@link #clear()} drops everything.
+ *
+ * Thread Safety: This class is thread safe. Several clients (and processes) may share a directory.
+ */
+public class ResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    /**
+     * Matches the paths of listColumns, getFolder, getWorkspace, listUsers, getServerInfo and listContacts.
+     */
+    public static final String METADATA_PATHS = "/(sheets/\\d+/columns|folders/\\d+|workspaces/\\d+|users|serverinfo|contacts)$";
+
+    /** Identifies a cache entry file (and its format). */
+    private static final int MAGIC = 0x53524331;
+
+    private static final String ENTRY_SUFFIX = ".entry";
+
+    private final File directory;
+    private final long maxBytes;
+    private final List<Rule> rules = new CopyOnWriteArrayList<Rule>();
+
+    /** The size of each entry file in the directory, by file name. */
+    private final ConcurrentMap<String, Long> sizes = new ConcurrentHashMap<String, Long>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    /** The keys being revalidated in the background. */
+    private final ConcurrentMap<String, Boolean> revalidating = new ConcurrentHashMap<String, Boolean>();
+    private final ExecutorService revalidator;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor. Entries already in the directory are reused.
+     *
+     * @param directory the directory holding the entries, created if needed
+     * @param maxBytes the most bytes kept in the directory
+     * @throws IOException if the directory can't be created
+     */
+    public ResponseCache(File directory, long maxBytes) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create the cache directory " + directory);
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(ENTRY_SUFFIX)) {
+                    sizes.put(file.getName(), file.length());
+                    totalBytes.addAndGet(file.length());
+                }
+            }
+        }
+        this.revalidator = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "smartsheet-response-cache");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Cache the GET requests whose URI path matches a pattern. Rules are tried in the order they were added and the
+     * first match applies.
+     *
+     * @param pathPattern a regular expression found in the URI path, e.g. {@link #METADATA_PATHS}
+     * @param ttlMillis how long a response is served without a request
+     * @param staleWhileRevalidateMillis how long after that it's still served while it is fetched in the background
+     * @return this cache
+     */
+    public ResponseCache addRule(String pathPattern, long ttlMillis, long staleWhileRevalidateMillis) {
+        if (ttlMillis < 0 || staleWhileRevalidateMillis < 0) {
+            throw new IllegalArgumentException("ttlMillis and staleWhileRevalidateMillis must not be negative");
+        }
+        rules.add(new Rule(Pattern.compile(pathPattern), ttlMillis, staleWhileRevalidateMillis));
+        return this;
+    }
+
+    /**
+     * Delete every entry.
+     */
+    public synchronized void clear() {
+        for (String name : sizes.keySet()) {
+            delete(name);
+        }
+    }
+
+    /**
+     * @return the bytes held in the directory
+     */
+    public long getSize() {
+        return totalBytes.get();
+    }
+
+    /**
+     * @return the number of requests served from a fresh entry
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of requests served from an expired entry while it was revalidated
+     */
+    public long getStaleHitCount() {
+        return staleHits.get();
+    }
+
+    /**
+     * @return the number of cacheable requests that had to be sent
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Sends requests on behalf of the cache.
+     */
+    interface Origin {
+        /**
+         * @param request the request
+         * @return the response, which the cache closes
+         * @throws HttpClientException if the request fails
+         */
+        HttpResponse send(HttpRequest request) throws HttpClientException;
+    }
+
+    /**
+     * @param request the request
+     * @return true if the request is a GET matching one of the rules
+     */
+    boolean isCacheable(HttpRequest request) {
+        return request.getMethod() == HttpMethod.GET && ruleFor(request) != null;
+    }
+
+    /**
+     * Serve a cacheable request from the cache, sending it through the origin if needed.
+     *
+     * @param request the request
+     * @param origin sends the request
+     * @return the response; only successful ones are cached
+     * @throws HttpClientException if the request fails
+     */
+    HttpResponse request(HttpRequest request, Origin origin) throws HttpClientException {
+        Rule rule = ruleFor(request);
+        String name = entryName(request);
+        Entry entry = read(name);
+        if (entry != null) {
+            long age = System.currentTimeMillis() - entry.storedAt;
+            if (age < rule.ttlMillis) {
+                hits.incrementAndGet();
+                return entry.toResponse();
+            }
+            if (age < rule.ttlMillis + rule.staleWhileRevalidateMillis) {
+                staleHits.incrementAndGet();
+                revalidate(name, request, origin);
+                return entry.toResponse();
+            }
+        }
+        misses.incrementAndGet();
+        return fetch(name, request, origin);
+    }
+
+    private Rule ruleFor(HttpRequest request) {
+        String path = request.getUri().getRawPath();
+        if (path == null) {
+            return null;
+        }
+        for (Rule rule : rules) {
+            if (rule.pattern.matcher(path).find()) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Send a request and store its response if it succeeded.
+     */
+    private HttpResponse fetch(String name, HttpRequest request, Origin origin) throws HttpClientException {
+        HttpResponse response = origin.send(request);
+        if (response.getStatusCode() != 200 || response.getEntity() == null
+                || response.getEntity().getContent() == null) {
+            return response;
+        }
+        Entry entry = new Entry();
+        entry.storedAt = System.currentTimeMillis();
+        entry.statusCode = response.getStatusCode();
+        entry.statusText = response.getStatusText();
+        entry.contentType = response.getEntity().getContentType();
+        entry.headers = response.getHeaders() == null ? new HashMap<String, String>() : response.getHeaders();
+        try {
+            entry.body = StreamUtil.readBytesFromStream(response.getEntity().getContent());
+        } catch (IOException e) {
+            throw new HttpClientException("Error occurred.", e);
+        } finally {
+            try {
+                response.close();
+            } catch (IOException ignore) {
+            }
+        }
+        write(name, entry);
+        return entry.toResponse();
+    }
+
+    private void revalidate(final String name, HttpRequest request, final Origin origin) {
+        if (revalidating.putIfAbsent(name, Boolean.TRUE) != null) {
+            return;
+        }
+        final HttpRequest copy = new HttpRequest();
+        copy.setUri(request.getUri());
+        copy.setMethod(request.getMethod());
+        copy.setHeaders(request.getHeaders() == null ? null : new HashMap<String, String>(request.getHeaders()));
+        try {
+            revalidator.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        HttpResponse response = fetch(name, copy, origin);
+                        response.close();
+                    } catch (Exception e) {
+                        logger.debug("Revalidating {} failed", copy.getUri(), e);
+                    } finally {
+                        revalidating.remove(name);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(name);
+        }
+    }
+
+    /**
+     * @return the file name of the entry for a request, a hash of everything that identifies its response
+     */
+    private static String entryName(HttpRequest request) {
+        Map<String, String> headers = request.getHeaders() == null ? new HashMap<String, String>() : request.getHeaders();
+        String key = request.getUri() + "\n" + headers.get("Authorization") + "\n" + headers.get("Assume-User") + "\n"
+                + headers.get("Accept");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes("UTF-8"));
+            StringBuilder name = new StringBuilder(digest.length * 2 + ENTRY_SUFFIX.length());
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return name.append(ENTRY_SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the entry, or null if there is none (or it can't be read)
+     */
+    private Entry read(String name) {
+        File file = new File(directory, name);
+        if (!file.isFile()) {
+            return null;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a cache entry");
+            }
+            Entry entry = new Entry();
+            entry.storedAt = in.readLong();
+            entry.statusCode = in.readInt();
+            entry.statusText = in.readBoolean() ? in.readUTF() : null;
+            entry.contentType = in.readBoolean() ? in.readUTF() : null;
+            int headerCount = in.readInt();
+            entry.headers = new HashMap<String, String>();
+            for (int i = 0; i < headerCount; i++) {
+                entry.headers.put(in.readUTF(), in.readUTF());
+            }
+            entry.body = new byte[in.readInt()];
+            in.readFully(entry.body);
+            // remember the use for eviction
+            file.setLastModified(System.currentTimeMillis());
+            return entry;
+        } catch (IOException e) {
+            logger.debug("Discarding unreadable cache entry {}", file, e);
+            close(in);
+            in = null;
+            delete(name);
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    private void write(String name, Entry entry) {
+        File temp = null;
+        DataOutputStream out = null;
+        try {
+            temp = File.createTempFile("response", ".tmp", directory);
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeLong(entry.storedAt);
+            out.writeInt(entry.statusCode);
+            writeOptionalUTF(out, entry.statusText);
+            writeOptionalUTF(out, entry.contentType);
+            out.writeInt(entry.headers.size());
+            for (Map.Entry<String, String> header : entry.headers.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeUTF(header.getValue());
+            }
+            out.writeInt(entry.body.length);
+            out.write(entry.body);
+            out.close();
+            out = null;
+
+            File file = new File(directory, name);
+            synchronized (this) {
+                delete(name);
+                if (!temp.renameTo(file)) {
+                    throw new IOException("Unable to rename " + temp + " to " + file);
+                }
+                temp = null;
+                sizes.put(name, file.length());
+                totalBytes.addAndGet(file.length());
+            }
+            if (totalBytes.get() > maxBytes) {
+                evict(name);
+            }
+        } catch (IOException e) {
+            // the cache is best effort, the response is still returned
+            logger.warn("Unable to store a cache entry in {}", directory, e);
+        } finally {
+            close(out);
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    private static void writeOptionalUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Delete the least recently used entries until the directory is within its size limit.
+     *
+     * @param newest the entry just written, deleted last
+     */
+    private synchronized void evict(final String newest) {
+        List<File> files = new ArrayList<File>();
+        for (String name : sizes.keySet()) {
+            files.add(new File(directory, name));
+        }
+        File[] byLastUse = files.toArray(new File[files.size()]);
+        final Map<File, Long> lastUse = new HashMap<File, Long>();
+        for (File file : byLastUse) {
+            lastUse.put(file, file.lastModified());
+        }
+        Arrays.sort(byLastUse, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                if (a.getName().equals(newest) != b.getName().equals(newest)) {
+                    return a.getName().equals(newest) ? 1 : -1;
+                }
+                return lastUse.get(a).compareTo(lastUse.get(b));
+            }
+        });
+        for (int i = 0; i < byLastUse.length && totalBytes.get() > maxBytes; i++) {
+            delete(byLastUse[i].getName());
+        }
+    }
+
+    private synchronized void delete(String name) {
+        Long size = sizes.remove(name);
+        if (size != null) {
+            totalBytes.addAndGet(-size);
+        }
+        new File(directory, name).delete();
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private static final class Rule {
+        final Pattern pattern;
+        final long ttlMillis;
+        final long staleWhileRevalidateMillis;
+
+        Rule(Pattern pattern, long ttlMillis, long staleWhileRevalidateMillis) {
+            this.pattern = pattern;
+            this.ttlMillis = ttlMillis;
+            this.staleWhileRevalidateMillis = staleWhileRevalidateMillis;
+        }
+    }
+
+    private static final class Entry {
+        long storedAt;
+        int statusCode;
+        String statusText;
+        String contentType;
+        Map<String, String> headers;
+        byte[] body;
+
+        HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse();
+            response.setStatus(statusCode, statusText);
+            response.setHeaders(new HashMap<String, String>(headers));
+            HttpEntity entity = new HttpEntity();
+            entity.setContentType(contentType);
+            entity.setContentLength(body.length);
+            entity.setContent(new ByteArrayInputStream(body));
+            response.setEntity(entity);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a retry pause shared by every request made through one HttpClient.
+ *
+ * When the server reports that the rate limit was exceeded (error 4003) the client pauses here for the backoff, so
+ * every other request waits it out as well instead of each discovering the limit on its own. The asynchronous client
+ * schedules its attempts after {@link #getRemainingMillis()}; only the blocking clients, whose callers are waiting for
+ * the response anyway, use {@link #await(long)}.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class SharedBackoff {
+    /** The time (in milliseconds since the epoch) until which requests are paused. */
+    private final AtomicLong resumeAt = new AtomicLong();
+
+    /**
+     * Pause all requests for the given time. A pause already in effect is only ever extended, never shortened.
+     *
+     * @param millis the pause duration in milliseconds
+     */
+    public void pause(long millis) {
+        long until = System.currentTimeMillis() + millis;
+        long current;
+        do {
+            current = resumeAt.get();
+            if (current >= until) {
+                return;
+            }
+        } while (!resumeAt.compareAndSet(current, until));
+    }
+
+    /**
+     * @return the time left in the current pause in milliseconds, 0 if requests are not paused
+     */
+    public long getRemainingMillis() {
+        return Math.max(0, resumeAt.get() - System.currentTimeMillis());
+    }
+
+    /**
+     * Block the calling thread until the given delay has passed and no pause is in effect. The pause may be extended
+     * by other requests while waiting.
+     *
+     * @param minMillis the minimum time to wait in milliseconds
+     * @return true if the wait ended normally, false if the thread was interrupted (its interrupt status is restored)
+     */
+    public boolean await(long minMillis) {
+        long deadline = System.currentTimeMillis() + minMillis;
+        try {
+            long waitMillis;
+            while ((waitMillis = Math.max(deadline - System.currentTimeMillis(), getRemainingMillis())) > 0) {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.smartsheet.api.models.ChangeTracked;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializes a {@link ChangeTracked} model whose changes are tracked as just what an update needs: its identifying
+ * properties, the properties set since tracking started, and the elements of its collections of tracked models
+ * that were changed or added (e.g. the edited cells of a row). Models whose changes aren't tracked are serialized as
+ * usual.
+ */
+public class ChangeTrackingSerializerModifier extends BeanSerializerModifier {
+
+    /** Properties always sent: the row id and the cell column id. */
+    private static final Set<String> REQUIRED_PROPERTIES = new HashSet<String>(Arrays.asList("id", "columnId"));
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        if (!ChangeTracked.class.isAssignableFrom(beanDesc.getBeanClass())) {
+            return beanProperties;
+        }
+        List<BeanPropertyWriter> writers = new ArrayList<BeanPropertyWriter>(beanProperties.size());
+        for (BeanPropertyWriter writer : beanProperties) {
+            writers.add(REQUIRED_PROPERTIES.contains(writer.getName()) ? writer : new ChangedPropertyWriter(writer));
+        }
+        return writers;
+    }
+
+    /**
+     * Writes a property of a tracked model only if it was changed.
+     */
+    private static class ChangedPropertyWriter extends BeanPropertyWriter {
+        private static final long serialVersionUID = 1L;
+
+        ChangedPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            Set<String> changedFields = ((ChangeTracked) bean).getChangedFields();
+            if (changedFields == null) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            Object value = get(bean);
+            if (value instanceof Collection) {
+                // send the tracked elements that changed and the elements added since
+                List<Object> sent = new ArrayList<Object>();
+                for (Object element : (Collection<?>) value) {
+                    if (element instanceof ChangeTracked) {
+                        Set<String> elementChanges = ((ChangeTracked) element).getChangedFields();
+                        if (elementChanges == null || !elementChanges.isEmpty()) {
+                            sent.add(element);
+                        }
+                    }
+                }
+                if (!sent.isEmpty()) {
+                    gen.writeFieldName(getName());
+                    prov.defaultSerializeValue(sent, gen);
+                }
+            } else if (changedFields.contains(getName())) {
+                super.serializeAsField(bean, gen, prov);
+            }
+        }
+    }
+}
@@ -21,7 +21,6 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.smartsheet.api.models.*;
 
@@ -29,33 +28,45 @@ import java.io.IOException;
 import java.util.List;
 
 public class ErrorDeserializer extends JsonDeserializer<com.smartsheet.api.models.Error> {
+    /** Binds the error details; they ignore unknown properties whatever the enclosing parse is configured to do. */
+    private static final ObjectMapper DETAIL_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final ObjectReader DETAIL_LIST_READER = DETAIL_MAPPER.readerFor(
+            DETAIL_MAPPER.getTypeFactory().constructCollectionType(List.class, ErrorDetail.class));
+
+    private static final ObjectReader DETAIL_READER = DETAIL_MAPPER.readerFor(ErrorDetail.class);
 
     @Override
     public com.smartsheet.api.models.Error deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException {
 
-        ObjectMapper mapper = new ObjectMapper();
-
         final com.smartsheet.api.models.Error error = new com.smartsheet.api.models.Error();
 
         if(jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            JsonNode node = jp.getCodec().readTree(jp);
-            if(node.get("errorCode") != null)
-                error.setErrorCode(node.get("errorCode").asInt());
-            if(node.get("message") != null)
-                error.setMessage(node.get("message").asText());
-            if(node.get("refId") != null)
-                error.setRefId(node.get("refId").asText());
-            JsonNode detail = node.get("detail");
-            if(detail != null) {
-                if(detail.isArray()) {
-                    String _as_text = detail.toString();
-                    List<ErrorDetail> details = mapper.readValue(_as_text,
-                            new TypeReference<List<ErrorDetail>>(){});
-                    error.setDetail(details);
+            // read the fields as they stream by; the detail is either a single object or a list of them
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jp.getCurrentName();
+                JsonToken token = jp.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if ("errorCode".equals(field))
+                    error.setErrorCode(jp.getValueAsInt());
+                else if ("message".equals(field))
+                    error.setMessage(jp.getValueAsString());
+                else if ("refId".equals(field))
+                    error.setRefId(jp.getValueAsString());
+                else if ("detail".equals(field)) {
+                    if (token == JsonToken.START_ARRAY) {
+                        List<ErrorDetail> details = DETAIL_LIST_READER.readValue(jp);
+                        error.setDetail(details);
+                    }
+                    else
+                        error.setDetail(DETAIL_READER.<ErrorDetail>readValue(jp));
                 }
                 else
-                    error.setDetail(mapper.treeToValue(detail, ErrorDetail.class));
+                    jp.skipChildren();
             }
             return error;
         }
@@ -32,7 +32,8 @@ public class FormatDeserializer extends JsonDeserializer<Format> {
 
     @Override
     public Format deserialize(JsonParser jsonParser, DeserializationContext ctx) throws IOException, JsonProcessingException {
-        return new Format(jsonParser.getValueAsString());
+        // format strings repeat across a sheet's cells, rows and columns, so their instances are shared
+        return Format.valueOf(jsonParser.getValueAsString());
     }
 
 }
@@ -22,14 +22,20 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.format.Format;
@@ -37,9 +43,12 @@ import com.smartsheet.api.models.format.Format;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This is the Jackson based JsonSerializer implementation.
@@ -58,6 +67,12 @@ public class JacksonJsonSerializer implements JsonSerializer{
      */
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * A copy of OBJECT_MAPPER whose reads canonicalize repeated strings (see {@link StringInternTable}), used by
+     * serializers created with deduplicateStrings.
+     */
+    private static final ObjectMapper DEDUP_MAPPER;
+
     static {
         // Allow deserialization if there are properties that can't be deserialized
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -107,11 +122,128 @@ public class JacksonJsonSerializer implements JsonSerializer{
         module.setSerializerModifier(new CellSerializerModifier());
         OBJECT_MAPPER.registerModule(module);
 
+        module = new SimpleModule("ChangeTrackingSerializerModule", Version.unknownVersion());
+        module.setSerializerModifier(new ChangeTrackingSerializerModifier());
+        OBJECT_MAPPER.registerModule(module);
+
         module = new SimpleModule("ErrorDetailDeserializerModule", Version.unknownVersion());
         module.addDeserializer(com.smartsheet.api.models.Error.class, new ErrorDeserializer());
         OBJECT_MAPPER.registerModule(module);
+
+        DEDUP_MAPPER = OBJECT_MAPPER.copy();
+        module = new SimpleModule("DeduplicatingStringDeserializerModule", Version.unknownVersion());
+        module.addDeserializer(String.class, new DeduplicatingStringDeserializer());
+        DEDUP_MAPPER.registerModule(module);
+        // every read through this mapper, including those through its parsers' codec, deduplicates
+        DEDUP_MAPPER.setConfig(DEDUP_MAPPER.getDeserializationConfig().withAttribute(StringInternTable.ENABLED, Boolean.TRUE));
+    }
+
+    /**
+     * The shapes of JSON the serializer reads, each wrapping an element class.
+     */
+    private enum Shape {
+        PLAIN {
+            JavaType constructType(TypeFactory typeFactory, Class<?> elementClass) {
+                return typeFactory.constructType(elementClass);
+            }
+        },
+        LIST {
+            JavaType constructType(TypeFactory typeFactory, Class<?> elementClass) {
+                return typeFactory.constructCollectionType(List.class, elementClass);
+            }
+        },
+        PAGED_RESULT {
+            JavaType constructType(TypeFactory typeFactory, Class<?> elementClass) {
+                return typeFactory.constructParametrizedType(PagedResult.class, PagedResult.class, elementClass);
+            }
+        },
+        RESULT {
+            JavaType constructType(TypeFactory typeFactory, Class<?> elementClass) {
+                return typeFactory.constructParametrizedType(Result.class, Result.class, elementClass);
+            }
+        },
+        LIST_RESULT {
+            JavaType constructType(TypeFactory typeFactory, Class<?> elementClass) {
+                return typeFactory.constructParametrizedType(Result.class, Result.class,
+                        typeFactory.constructParametrizedType(List.class, List.class, elementClass));
+            }
+        },
+        BULK_ITEM_RESULT {
+            JavaType constructType(TypeFactory typeFactory, Class<?> elementClass) {
+                return typeFactory.constructParametrizedType(BulkItemResult.class, BulkItemResult.class, elementClass);
+            }
+        };
+
+        abstract JavaType constructType(TypeFactory typeFactory, Class<?> elementClass);
+    }
+
+    /**
+     * Readers with their type and root deserializer already resolved, per shape and element class, so repeated reads
+     * of the same type skip the type factory and deserializer lookup.
+     *
+     * ObjectReaders snapshot the mapper's configuration, so the caches are cleared when it changes (see
+     * setFailOnUnknownProperties).
+     */
+    private static final Map<Shape, ConcurrentMap<Class<?>, ObjectReader>> READERS =
+            new EnumMap<Shape, ConcurrentMap<Class<?>, ObjectReader>>(Shape.class);
+
+    /** The same as READERS, for DEDUP_MAPPER. */
+    private static final Map<Shape, ConcurrentMap<Class<?>, ObjectReader>> DEDUP_READERS =
+            new EnumMap<Shape, ConcurrentMap<Class<?>, ObjectReader>>(Shape.class);
+
+    /** Writers with their root serializer already resolved, per class of the serialized object. */
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+    static {
+        for (Shape shape : Shape.values()) {
+            READERS.put(shape, new ConcurrentHashMap<Class<?>, ObjectReader>());
+            DEDUP_READERS.put(shape, new ConcurrentHashMap<Class<?>, ObjectReader>());
+        }
+    }
+
+    /**
+     * Get the (cached) reader for a shape of JSON.
+     *
+     * @param shape the shape
+     * @param elementClass the class wrapped by the shape
+     * @return the reader
+     */
+    private ObjectReader readerFor(Shape shape, Class<?> elementClass) {
+        ConcurrentMap<Class<?>, ObjectReader> readers = (deduplicateStrings ? DEDUP_READERS : READERS).get(shape);
+        ObjectReader reader = readers.get(elementClass);
+        if (reader == null) {
+            ObjectMapper mapper = deduplicateStrings ? DEDUP_MAPPER : OBJECT_MAPPER;
+            reader = mapper.readerFor(shape.constructType(mapper.getTypeFactory(), elementClass));
+            ObjectReader existing = readers.putIfAbsent(elementClass, reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Get the (cached) writer for the class of an object.
+     *
+     * @param object the object to be serialized
+     * @return the writer
+     */
+    private static ObjectWriter writerFor(Object object) {
+        Class<?> objectClass = object.getClass();
+        ObjectWriter writer = WRITERS.get(objectClass);
+        if (writer == null) {
+            writer = OBJECT_MAPPER.writerFor(objectClass);
+            ObjectWriter existing = WRITERS.putIfAbsent(objectClass, writer);
+            if (existing != null) {
+                writer = existing;
+            }
+        }
+        return writer;
     }
 
+    /** Whether reads canonicalize repeated strings. */
+    private final boolean deduplicateStrings;
+
     /**
      * Sets if the OBJECT MAPPER should ignore unknown properties or fail when de-serializing the JSON data.
      *
@@ -120,6 +252,14 @@ public class JacksonJsonSerializer implements JsonSerializer{
      */
     public static void setFailOnUnknownProperties(boolean value) {
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, value);
+        DEDUP_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, value);
+        for (ConcurrentMap<Class<?>, ObjectReader> readers : READERS.values()) {
+            readers.clear();
+        }
+        for (ConcurrentMap<Class<?>, ObjectReader> readers : DEDUP_READERS.values()) {
+            readers.clear();
+        }
+        WRITERS.clear();
     }
 
     /**
@@ -130,6 +270,21 @@ public class JacksonJsonSerializer implements JsonSerializer{
      * Exceptions: None
      */
     public JacksonJsonSerializer() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * With deduplicateStrings, strings that repeat within a response (cell values and display values, contact names
+     * and emails, picklist options, column titles, ...) are read as one shared instance, trading a lookup per string
+     * while parsing for less retained heap in the results; worthwhile for sheets and reports that are kept around.
+     * The table of strings seen lives for one response (one row, for streamed sheets) and is capped in size.
+     *
+     * @param deduplicateStrings true to canonicalize repeated strings
+     */
+    public JacksonJsonSerializer(boolean deduplicateStrings) {
+        this.deduplicateStrings = deduplicateStrings;
     }
 
     /**
@@ -156,7 +311,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Util.throwIfNull(object, outputStream);
 
         try {
-            OBJECT_MAPPER.writeValue(outputStream, object);
+            writerFor(object).writeValue(outputStream, object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -189,7 +344,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         String value;
 
         try {
-            value= OBJECT_MAPPER.writeValueAsString(object);
+            value= writerFor(object).writeValueAsString(object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -220,7 +375,50 @@ public class JacksonJsonSerializer implements JsonSerializer{
     public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream) throws IOException {
         Util.throwIfNull(objectClass, inputStream);
 
-        return OBJECT_MAPPER.readValue(inputStream, objectClass);
+        return readerFor(Shape.PLAIN, objectClass).readValue(inputStream);
+    }
+
+    /**
+     * Create a generator that writes JSON incrementally to a stream, configured like serialize(). Closing the
+     * generator doesn't close the stream.
+     *
+     * @param outputStream the output stream to which the JSON will be written
+     * @return the generator
+     * @throws IOException if the generator can't be created
+     */
+    public JsonGenerator createGenerator(java.io.OutputStream outputStream) throws IOException {
+        Util.throwIfNull(outputStream);
+
+        JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    /**
+     * Serialize an object through a generator, for example as the next element of an array being written.
+     *
+     * @param generator the generator from {@link #createGenerator}
+     * @param object the object to serialize
+     * @throws IOException if the object can't be serialized or written
+     */
+    public void writeValue(JsonGenerator generator, Object object) throws IOException {
+        Util.throwIfNull(generator, object);
+
+        writerFor(object).writeValue(generator, object);
+    }
+
+    /**
+     * Create a parser that reads JSON incrementally from a stream. The parser's codec is this serializer's
+     * ObjectMapper, so values read through it (readValueAs, readValueAsTree) are configured like deserialize().
+     *
+     * @param inputStream the input stream from which the JSON will be read
+     * @return the parser (closing it closes the stream)
+     * @throws IOException if the stream can't be read
+     */
+    public JsonParser createParser(java.io.InputStream inputStream) throws IOException {
+        Util.throwIfNull(inputStream);
+
+        return (deduplicateStrings ? DEDUP_MAPPER : OBJECT_MAPPER).getFactory().createParser(inputStream);
     }
 
     /**
@@ -246,8 +444,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            list = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, objectClass));
+            list = readerFor(Shape.LIST, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -275,8 +472,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(PagedResult.class, PagedResult.class, objectClass));
+            rw = readerFor(Shape.PAGED_RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -302,7 +498,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Map<String, Object> map = null;
 
         try {
-            map = OBJECT_MAPPER.readValue(inputStream, new TypeReference<Map<String, Object>>() {
+            map = (deduplicateStrings ? DEDUP_MAPPER : OBJECT_MAPPER).readValue(inputStream, new TypeReference<Map<String, Object>>() {
             });
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
@@ -335,8 +531,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Result<T> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class, objectClass));
+            result = readerFor(Shape.RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -372,10 +567,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Result<List<T>> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(
-                    inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class,
-                            OBJECT_MAPPER.getTypeFactory().constructParametrizedType(List.class, List.class, objectClass)));
+            result = readerFor(Shape.LIST_RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -391,8 +583,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
             throws JSONSerializerException {
         BulkItemResult<T> result = null;
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(BulkItemResult.class, BulkItemResult.class, objectClass));
+            result = readerFor(Shape.BULK_ITEM_RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -417,7 +608,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, CopyOrMoveRowResult.class);
+            rw = readerFor(Shape.PLAIN, CopyOrMoveRowResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -443,7 +634,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, EventResult.class);
+            rw = readerFor(Shape.PLAIN, EventResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -25,16 +25,29 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.enums.ObjectValueType;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 
+/**
+ * Deserializes cell object values. Object-typed values are read token by token in a single pass, with nested values
+ * (predecessors, contacts) bound by readers built once, so no ObjectMapper is built per value.
+ */
 public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
+    /** Binds nested values; they ignore unknown properties whatever the enclosing parse is configured to do. */
+    private static final ObjectMapper NESTED_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final ObjectReader PREDECESSORS_READER = NESTED_MAPPER.readerFor(
+            NESTED_MAPPER.getTypeFactory().constructCollectionType(List.class, Predecessor.class));
+
+    private static final ObjectReader CONTACT_READER = NESTED_MAPPER.readerFor(ContactObjectValue.class);
 
     @Override
     public ObjectValue deserialize(JsonParser jp, DeserializationContext ctxt)
@@ -44,11 +57,11 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
         ContactObjectValue contactObjectValue = null;
 
         if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-            ObjectValueAttributeSuperset superset = mapper.readValue(jp, ObjectValueAttributeSuperset.class);
+            ObjectValueAttributeSuperset superset = readSuperset(jp, ctxt);
 
+            if (superset.objectType == null) {
+                return null;
+            }
             ObjectValueType parsedObjectType;
             try {
                 parsedObjectType = ObjectValueType.valueOf(superset.objectType);
@@ -91,15 +104,26 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
 
                 case MULTI_CONTACT:
                     List<ContactObjectValue> contactObjectValues = new ArrayList<ContactObjectValue>();
-                    for(Object contact: superset.values) {
-                        contactObjectValue = mapper.convertValue(contact, ContactObjectValue.class);
-                        contactObjectValues.add(contactObjectValue);
+                    if (superset.values != null) {
+                        for (JsonNode contact : superset.values) {
+                            contactObjectValue = CONTACT_READER.readValue(contact);
+                            contactObjectValue.setName(StringInternTable.canonicalize(ctxt, contactObjectValue.getName()));
+                            contactObjectValue.setEmail(StringInternTable.canonicalize(ctxt, contactObjectValue.getEmail()));
+                            contactObjectValues.add(contactObjectValue);
+                        }
                     }
                     objectValue = new MultiContactObjectValue(contactObjectValues);
                     break;
 
                 case MULTI_PICKLIST:
-                    objectValue = new MultiPicklistObjectValue((List<String>)superset.values);
+                    List<String> options = null;
+                    if (superset.values != null) {
+                        options = new ArrayList<String>();
+                        for (JsonNode option : superset.values) {
+                            options.add(option.isNull() ? null : StringInternTable.canonicalize(ctxt, option.asText()));
+                        }
+                    }
+                    objectValue = new MultiPicklistObjectValue(options);
                     break;
 
                 default:
@@ -112,37 +136,87 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
             } else if (token.isNumeric()) {
                 objectValue = new NumberObjectValue(jp.getNumberValue());
             } else {
-                objectValue = new StringObjectValue(jp.getText());
+                objectValue = new StringObjectValue(StringInternTable.canonicalize(ctxt, jp.getText()));
             }
         }
         return objectValue;
     }
 
+    /**
+     * Read the attributes of an object value; the parser is on its START_OBJECT and is left on its END_OBJECT.
+     * The object type may come after the attributes, so the type-dependent "values" array is kept as a tree.
+     */
+    private static ObjectValueAttributeSuperset readSuperset(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        ObjectValueAttributeSuperset superset = new ObjectValueAttributeSuperset();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if ("objectType".equals(field)) {
+                superset.objectType = jp.getValueAsString();
+            } else if ("predecessors".equals(field)) {
+                superset.predecessors = PREDECESSORS_READER.readValue(jp);
+            } else if ("negative".equals(field)) {
+                superset.negative = jp.getValueAsBoolean();
+            } else if ("elapsed".equals(field)) {
+                superset.elapsed = jp.getValueAsBoolean();
+            } else if ("weeks".equals(field)) {
+                superset.weeks = jp.getValueAsDouble();
+            } else if ("days".equals(field)) {
+                superset.days = jp.getValueAsDouble();
+            } else if ("hours".equals(field)) {
+                superset.hours = jp.getValueAsDouble();
+            } else if ("minutes".equals(field)) {
+                superset.minutes = jp.getValueAsDouble();
+            } else if ("seconds".equals(field)) {
+                superset.seconds = jp.getValueAsDouble();
+            } else if ("milliseconds".equals(field)) {
+                superset.milliseconds = jp.getValueAsDouble();
+            } else if ("id".equals(field)) {
+                superset.id = jp.getValueAsString();
+            } else if ("name".equals(field)) {
+                superset.name = StringInternTable.canonicalize(ctxt, jp.getValueAsString());
+            } else if ("email".equals(field)) {
+                superset.email = StringInternTable.canonicalize(ctxt, jp.getValueAsString());
+            } else if ("values".equals(field)) {
+                superset.values = jp.readValueAsTree();
+            } else if ("value".equals(field)) {
+                superset.value = jp.getValueAsString();
+            } else {
+                // attributes added in later versions of the API are ignored
+                jp.skipChildren();
+            }
+        }
+        return superset;
+    }
+
     private static class ObjectValueAttributeSuperset {
-        public String objectType; // This needs to be represented as a string so that any new object types added won't completely break the API
+        String objectType; // This needs to be represented as a string so that any new object types added won't completely break the API
 
         // PREDECESSOR_LIST specific attributes
-        public List<Predecessor> predecessors;
+        List<Predecessor> predecessors;
 
         // DURATION specific attributes
-        public Boolean negative;
-        public Boolean elapsed;
-        public Double weeks;
-        public Double days;
-        public Double hours;
-        public Double minutes;
-        public Double seconds;
-        public Double milliseconds;
+        Boolean negative;
+        Boolean elapsed;
+        Double weeks;
+        Double days;
+        Double hours;
+        Double minutes;
+        Double seconds;
+        Double milliseconds;
 
         // CONTACT specific attributes
-        public String id;
-        public String name;
-        public String email;
+        String id;
+        String name;
+        String email;
 
-        // MULTI_CONTACT
-        public List<?> values;
+        // MULTI_CONTACT and MULTI_PICKLIST
+        JsonNode values;
 
         // Various other types
-        public String value;
+        String value;
     }
 }
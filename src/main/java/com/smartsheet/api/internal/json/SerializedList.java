@@ -0,0 +1,68 @@
+package com.smartsheet.api.internal.json;
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2016 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only list of objects together with the JSON each was serialized to, for callers that serialize the objects
+ * anyway (for example to measure them). Serializing the list through {@link JacksonJsonSerializer} writes the saved
+ * JSON rather than serializing the objects a second time; anything else just sees the objects.
+ *
+ * Thread Safety: This class is not thread safe since it's mutable.
+ */
+@JsonSerialize(using = SerializedListSerializer.class)
+public class SerializedList<T> extends AbstractList<T> {
+    private final List<T> objects = new ArrayList<T>();
+    private final List<String> json = new ArrayList<String>();
+
+    /**
+     * Add an object and its JSON.
+     *
+     * @param object the object
+     * @param objectJson the JSON of the object, as written by the serializer the list will be serialized with
+     */
+    public void add(T object, String objectJson) {
+        objects.add(object);
+        json.add(objectJson);
+    }
+
+    @Override
+    public T get(int index) {
+        return objects.get(index);
+    }
+
+    @Override
+    public int size() {
+        return objects.size();
+    }
+
+    /**
+     * @return the JSON of each object, in order
+     */
+    List<String> getJson() {
+        return json;
+    }
+}
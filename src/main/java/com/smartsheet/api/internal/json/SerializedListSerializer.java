@@ -0,0 +1,43 @@
+package com.smartsheet.api.internal.json;
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2016 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes a {@link SerializedList} as the array of the JSON already saved for its objects.
+ */
+public class SerializedListSerializer extends JsonSerializer<SerializedList<?>> {
+
+    @Override
+    public void serialize(SerializedList<?> value, JsonGenerator gen, SerializerProvider serializers)
+            throws IOException {
+        gen.writeStartArray();
+        for (String json : value.getJson()) {
+            gen.writeRawValue(json);
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizes repeated strings within one deserialization call (one response), so a value that occurs thousands of
+ * times in a sheet is retained once.
+ *
+ * The table is held as a per-call attribute of the DeserializationContext and is only used when the call carries the
+ * {@link #ENABLED} attribute (see JacksonJsonSerializer's deduplicating mode); it is discarded with the context. Its
+ * size and the length of the strings it holds are capped, so a response of mostly unique values can't make it grow
+ * without bound.
+ *
+ * Thread Safety: This class is thread safe; each table is confined to the thread running its deserialization call.
+ */
+final class StringInternTable {
+    /** Attribute key that turns deduplication on for a deserialization call. */
+    static final Object ENABLED = new Object();
+
+    /** Attribute key of the per-call table. */
+    private static final Object TABLE = new Object();
+
+    /** The most distinct strings kept per call. */
+    static final int MAX_ENTRIES = 16384;
+
+    /** Longer strings are rarely repeated and aren't kept. */
+    static final int MAX_LENGTH = 256;
+
+    private StringInternTable() {
+    }
+
+    /**
+     * Get the canonical instance of a string for the current deserialization call.
+     *
+     * @param ctxt the deserialization context
+     * @param value the string (may be null)
+     * @return the first equal string seen by this call, or value itself if deduplication is off for the call
+     */
+    @SuppressWarnings("unchecked")
+    static String canonicalize(DeserializationContext ctxt, String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        Map<String, String> table = (Map<String, String>) ctxt.getAttribute(TABLE);
+        if (table == null) {
+            if (ctxt.getAttribute(ENABLED) == null) {
+                return value;
+            }
+            table = new HashMap<String, String>();
+            ctxt.setAttribute(TABLE, table);
+        }
+        String canonical = table.get(value);
+        if (canonical == null) {
+            canonical = value;
+            if (table.size() < MAX_ENTRIES) {
+                table.put(value, value);
+            }
+        }
+        return canonical;
+    }
+}
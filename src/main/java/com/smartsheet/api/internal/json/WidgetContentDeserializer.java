@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.enums.WidgetType;
@@ -35,13 +36,10 @@ import java.io.IOException;
 import java.util.List;
 
 public class WidgetContentDeserializer extends JsonDeserializer<WidgetContent> {
+    /** Binds widget contents; built once, as ObjectMappers are expensive to create. */
+    private static final ObjectReader SUPERSET_READER;
 
-    @Override
-    public WidgetContent deserialize(JsonParser jp, DeserializationContext ctxt)
-            throws IOException, JsonProcessingException {
-
-        WidgetContent widgetContent = null;
-
+    static {
         ObjectMapper mapper = new ObjectMapper();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
@@ -50,12 +48,22 @@ public class WidgetContentDeserializer extends JsonDeserializer<WidgetContent> {
         // Add the relevant custom deserializers
         SimpleModule module = new SimpleModule("FormatDeserializerModule", Version.unknownVersion());
         module.addDeserializer(Format.class, new FormatDeserializer());
+        mapper.registerModule(module);
 
         module = new SimpleModule("ObjectValueDeserializerModule", Version.unknownVersion());
         module.addDeserializer(ObjectValue.class, new ObjectValueDeserializer());
         mapper.registerModule(module);
 
-        WidgetContentSuperset superset = mapper.readValue(jp, WidgetContentSuperset.class);
+        SUPERSET_READER = mapper.readerFor(WidgetContentSuperset.class);
+    }
+
+    @Override
+    public WidgetContent deserialize(JsonParser jp, DeserializationContext ctxt)
+            throws IOException, JsonProcessingException {
+
+        WidgetContent widgetContent = null;
+
+        WidgetContentSuperset superset = SUPERSET_READER.readValue(jp);
 
         WidgetType parsedType;
         try {
@@ -25,9 +25,12 @@ import com.smartsheet.api.models.enums.AccessLevel;
 import com.smartsheet.api.models.format.Format;
 
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-public class AbstractRow<TColumn extends Column, TCell extends Cell> extends IdentifiableModel<Long>{
+public class AbstractRow<TColumn extends Column, TCell extends Cell> extends IdentifiableModel<Long>
+        implements ChangeTracked {
 
     @Override
     @JsonIgnore(false)
@@ -42,6 +45,9 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
         return this;
     }
 
+    /** The names of the properties set since {@link #trackChanges()}, null when changes aren't tracked. */
+    private Set<String> changedFields;
+
     /** Represents the Sheet ID. */
     private Long sheetId;
 
@@ -180,6 +186,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setExpanded(Boolean expanded) {
         this.expanded = expanded;
+        changed("expanded");
         return this;
     }
 
@@ -412,6 +419,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setLocked(Boolean locked) {
         this.locked = locked;
+        changed("locked");
         return this;
     }
 
@@ -440,6 +448,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setFormat(Format format) {
         this.format = format;
+        changed("format");
         return this;
     }
 
@@ -459,6 +468,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setParentId(Long parentId) {
         this.parentId = parentId;
+        changed("parentId");
         return this;
     }
 
@@ -478,6 +488,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setSiblingId(Long siblingId) {
         this.siblingId = siblingId;
+        changed("siblingId");
         return this;
     }
 
@@ -571,6 +582,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setToTop(Boolean toTop) {
         this.toTop = toTop;
+        changed("toTop");
         return this;
     }
 
@@ -590,6 +602,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setToBottom(Boolean toBottom) {
         this.toBottom = toBottom;
+        changed("toBottom");
         return this;
     }
 
@@ -609,6 +622,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setAbove(Boolean above) {
         this.above = above;
+        changed("above");
         return this;
     }
 
@@ -626,6 +640,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setIndent(Integer indent) {
         this.indent = indent;
+        changed("indent");
         return this;
     }
 
@@ -643,6 +658,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setOutdent(Integer outdent) {
         this.outdent = outdent;
+        changed("outdent");
         return this;
     }
 
@@ -663,4 +679,38 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
     public User getModifiedBy() {
         return modifiedBy;
     }
+
+    /**
+     * Start recording which properties of the row and its cells are set. While a row's changes are tracked,
+     * serializing it (e.g. in updateRows) sends only its id, the properties set since, and the cells that were set
+     * or added, so rows read from a sheet can be edited and sent back without their read-only and unchanged data.
+     * Rows of a sheet from the sheet cache are shared and must not be edited; see SmartsheetBuilder.setSheetCache.
+     *
+     * @return this row
+     */
+    public AbstractRow<TColumn, TCell> trackChanges() {
+        this.changedFields = new HashSet<String>();
+        if (cells != null) {
+            for (TCell cell : cells) {
+                cell.trackChanges();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Gets the names of the properties set since {@link #trackChanges()}.
+     *
+     * @return the names of the changed properties, or null if changes aren't tracked
+     */
+    @JsonIgnore
+    public Set<String> getChangedFields() {
+        return changedFields;
+    }
+
+    private void changed(String field) {
+        if (changedFields != null) {
+            changedFields.add(field);
+        }
+    }
 }
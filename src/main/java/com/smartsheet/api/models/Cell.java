@@ -20,16 +20,19 @@ package com.smartsheet.api.models;
  * %[license]
  */
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.smartsheet.api.models.enums.ColumnType;
 import com.smartsheet.api.models.format.Format;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents the Cell object that holds data in a sheet.
  */
-public class Cell {
+public class Cell implements ChangeTracked {
 
     /**
      * Represents the column columnType.
@@ -113,6 +116,11 @@ public class Cell {
      */
     private Boolean overrideValidation;
 
+    /**
+     * The names of the properties set since {@link #trackChanges()}, null when changes aren't tracked.
+     */
+    private Set<String> changedFields;
+
     /**
      * Default constructor
      */
@@ -182,6 +190,7 @@ public class Cell {
      */
     public Cell setValue(Object value) {
         this.value = value;
+        changed("value");
         return this;
     }
 
@@ -201,6 +210,7 @@ public class Cell {
      */
     public Cell setObjectValue(ObjectValue objectValue) {
         this.objectValue = objectValue;
+        changed("objectValue");
         return this;
     }
 
@@ -278,6 +288,7 @@ public class Cell {
      */
     public Cell setFormula(String formula) {
         this.formula = formula;
+        changed("formula");
         return this;
     }
 
@@ -299,6 +310,7 @@ public class Cell {
      */
     public Cell setStrict(Boolean strict) {
         this.strict = strict;
+        changed("strict");
         return this;
     }
 
@@ -314,6 +326,7 @@ public class Cell {
      */
     public Cell setFormat(Format format) {
         this.format = format;
+        changed("format");
         return this;
     }
 
@@ -329,6 +342,7 @@ public class Cell {
      */
     public Cell setHyperlink(Hyperlink hyperlink) {
         this.hyperlink = hyperlink;
+        changed("hyperlink");
         return this;
     }
 
@@ -344,6 +358,7 @@ public class Cell {
      */
     public Cell setLinkInFromCell(CellLink linkInFromCell) {
         this.linkInFromCell = linkInFromCell;
+        changed("linkInFromCell");
         return this;
     }
 
@@ -393,6 +408,7 @@ public class Cell {
      */
     public Cell setImage(Image image) {
         this.image = image;
+        changed("image");
         return this;
     }
 
@@ -411,9 +427,38 @@ public class Cell {
      */
     public Cell setOverrideValidation(Boolean overrideValidation) {
         this.overrideValidation = overrideValidation;
+        changed("overrideValidation");
+        return this;
+    }
+
+    /**
+     * Start recording which properties are set. While a cell's changes are tracked, serializing it (e.g. in
+     * updateRows) sends only its column id and the properties set since, so a cell read from a sheet can be edited
+     * and sent back without its read-only and unchanged values.
+     *
+     * @return this cell
+     */
+    public Cell trackChanges() {
+        this.changedFields = new HashSet<String>();
         return this;
     }
 
+    /**
+     * Gets the names of the properties set since {@link #trackChanges()}.
+     *
+     * @return the names of the changed properties, or null if changes aren't tracked
+     */
+    @JsonIgnore
+    public Set<String> getChangedFields() {
+        return changedFields;
+    }
+
+    private void changed(String field) {
+        if (changedFields != null) {
+            changedFields.add(field);
+        }
+    }
+
     /**
      * A convenience class for quickly creating a List of cells to add.
      */
@@ -0,0 +1,37 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import java.util.Set;
+
+/**
+ * A model that can record which of its properties were set, so that an update sends only those.
+ */
+public interface ChangeTracked {
+
+    /**
+     * Gets the names of the properties set since tracking started.
+     *
+     * @return the names of the changed properties, or null if changes aren't tracked
+     */
+    Set<String> getChangedFields();
+}
@@ -0,0 +1,477 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.StreamingSheet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A read-only, column oriented copy of a sheet's cell values for keeping large sheets in memory.
+ *
+ * Instead of a Row and Cell object per row and cell, each column is stored as typed arrays: a kind per cell, a
+ * double[] for numbers, and dictionary codes (int[]) into the column's distinct strings for text values and display
+ * values. Row ids and numbers are long[]/int[]. Only values, display values and the row ids, numbers and parents are
+ * kept; formulas, formats, links, object values and other cell and row attributes are not. Numbers are read back as
+ * Double.
+ *
+ * Rows and columns are addressed by position (0 based, in sheet order); {@link #indexOfRow(long)} and
+ * {@link #indexOfColumn(long)} map ids to positions.
+ *
+ * Thread Safety: This class is thread safe because it is immutable.
+ */
+public final class ColumnarSheet {
+
+    /** The kinds of cell value. */
+    private static final byte EMPTY = 0;
+    private static final byte NUMBER = 1;
+    private static final byte TEXT = 2;
+    private static final byte TRUE = 3;
+    private static final byte FALSE = 4;
+
+    /** Marks a missing display value. */
+    private static final int NO_STRING = -1;
+
+    /** Marks a display value that is the plain text of the cell's number, so it needn't be stored. */
+    private static final int NUMBER_TEXT = -2;
+
+    private final Long id;
+    private final String name;
+    private final Integer version;
+    private final List<Column> columns;
+
+    private final int rowCount;
+    private final long[] rowIds;
+    private final int[] rowNumbers;
+    /** The parent row id, or 0 for top level rows. */
+    private final long[] parentIds;
+
+    /** Row ids in ascending order, and the position of each in rowIds. */
+    private final long[] sortedRowIds;
+    private final int[] sortedRowPositions;
+
+    private final Map<Long, Integer> columnPositions;
+    private final ColumnVector[] vectors;
+
+    private ColumnarSheet(Sheet sheet, int rowCount, long[] rowIds, int[] rowNumbers, long[] parentIds,
+                          ColumnVector[] vectors) {
+        this.id = sheet.getId();
+        this.name = sheet.getName();
+        this.version = sheet.getVersion();
+        this.columns = sheet.getColumns() == null ? Collections.<Column>emptyList()
+                : Collections.unmodifiableList(new ArrayList<Column>(sheet.getColumns()));
+        this.rowCount = rowCount;
+        this.rowIds = rowIds;
+        this.rowNumbers = rowNumbers;
+        this.parentIds = parentIds;
+        this.vectors = vectors;
+
+        columnPositions = new HashMap<Long, Integer>();
+        for (int i = 0; i < columns.size(); i++) {
+            columnPositions.put(columns.get(i).getId(), i);
+        }
+
+        // sort the row positions by row id, for lookups by id without a boxed map entry per row
+        Integer[] order = new Integer[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new java.util.Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                long x = ColumnarSheet.this.rowIds[a];
+                long y = ColumnarSheet.this.rowIds[b];
+                return x < y ? -1 : (x == y ? 0 : 1);
+            }
+        });
+        sortedRowIds = new long[rowCount];
+        sortedRowPositions = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            sortedRowPositions[i] = order[i];
+            sortedRowIds[i] = rowIds[order[i]];
+        }
+    }
+
+    /**
+     * Copy a sheet's rows into a columnar sheet. The sheet isn't retained.
+     *
+     * @param sheet the sheet, with its columns and rows
+     * @return the columnar sheet
+     */
+    public static ColumnarSheet of(Sheet sheet) {
+        List<Row> rows = sheet.getRows() == null ? Collections.<Row>emptyList() : sheet.getRows();
+        return build(sheet, rows.iterator());
+    }
+
+    /**
+     * Read a streaming sheet's remaining rows into a columnar sheet, so that no more than one Row is held at a time.
+     * The streaming sheet is closed afterwards.
+     *
+     * @param sheet the streaming sheet (see {@link com.smartsheet.api.SheetResources#streamSheet(long)})
+     * @return the columnar sheet
+     * @throws com.smartsheet.api.SmartsheetRuntimeException if reading the rows fails
+     */
+    public static ColumnarSheet of(StreamingSheet sheet) {
+        try {
+            return build(sheet.getSheet(), sheet);
+        } finally {
+            try {
+                sheet.close();
+            } catch (java.io.IOException ignore) {
+                // StreamingSheet.close() doesn't fail
+            }
+        }
+    }
+
+    private static ColumnarSheet build(Sheet sheet, Iterator<Row> rows) {
+        List<Column> columns = sheet.getColumns() == null ? Collections.<Column>emptyList() : sheet.getColumns();
+        Map<Long, Integer> columnPositions = new HashMap<Long, Integer>();
+        ColumnBuilder[] builders = new ColumnBuilder[columns.size()];
+        for (int i = 0; i < builders.length; i++) {
+            columnPositions.put(columns.get(i).getId(), i);
+            builders[i] = new ColumnBuilder();
+        }
+
+        int capacity = 16;
+        long[] rowIds = new long[capacity];
+        int[] rowNumbers = new int[capacity];
+        long[] parentIds = new long[capacity];
+        int rowCount = 0;
+        while (rows.hasNext()) {
+            Row row = rows.next();
+            if (rowCount == capacity) {
+                capacity *= 2;
+                rowIds = Arrays.copyOf(rowIds, capacity);
+                rowNumbers = Arrays.copyOf(rowNumbers, capacity);
+                parentIds = Arrays.copyOf(parentIds, capacity);
+                for (ColumnBuilder builder : builders) {
+                    builder.grow(capacity);
+                }
+            }
+            rowIds[rowCount] = row.getId() == null ? 0 : row.getId();
+            rowNumbers[rowCount] = row.getRowNumber() == null ? rowCount + 1 : row.getRowNumber();
+            parentIds[rowCount] = row.getParentId() == null ? 0 : row.getParentId();
+            if (row.getCells() != null) {
+                for (Cell cell : row.getCells()) {
+                    Integer position = columnPositions.get(cell.getColumnId());
+                    if (position != null) {
+                        builders[position].set(rowCount, cell.getValue(), cell.getDisplayValue());
+                    }
+                }
+            }
+            rowCount++;
+        }
+
+        ColumnVector[] vectors = new ColumnVector[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            vectors[i] = builders[i].build(rowCount);
+        }
+        return new ColumnarSheet(sheet, rowCount, Arrays.copyOf(rowIds, rowCount), Arrays.copyOf(rowNumbers, rowCount),
+                Arrays.copyOf(parentIds, rowCount), vectors);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the columns, in sheet order (unmodifiable)
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return vectors.length;
+    }
+
+    public long getRowId(int row) {
+        return rowIds[row];
+    }
+
+    public int getRowNumber(int row) {
+        return rowNumbers[row];
+    }
+
+    /**
+     * @param row the row position
+     * @return the id of the row's parent, or null for a top level row
+     */
+    public Long getParentId(int row) {
+        return parentIds[row] == 0 ? null : parentIds[row];
+    }
+
+    /**
+     * @param rowId the row id
+     * @return the position of the row, or -1 if the sheet has no such row
+     */
+    public int indexOfRow(long rowId) {
+        int found = Arrays.binarySearch(sortedRowIds, rowId);
+        return found < 0 ? -1 : sortedRowPositions[found];
+    }
+
+    /**
+     * @param columnId the column id
+     * @return the position of the column, or -1 if the sheet has no such column
+     */
+    public int indexOfColumn(long columnId) {
+        Integer position = columnPositions.get(columnId);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * @param row the row position
+     * @param column the column position
+     * @return the cell's value (a Double, String or Boolean), or null if it has none
+     */
+    public Object getValue(int row, int column) {
+        ColumnVector vector = vectors[column];
+        switch (vector.kinds[row]) {
+            case NUMBER:
+                return vector.numbers[row];
+            case TEXT:
+                return vector.strings[vector.valueCodes[row]];
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param row the row position
+     * @param column the column position
+     * @return whether the cell's value is a number
+     */
+    public boolean isNumber(int row, int column) {
+        return vectors[column].kinds[row] == NUMBER;
+    }
+
+    /**
+     * Get a numeric value without boxing it.
+     *
+     * @param row the row position
+     * @param column the column position
+     * @return the cell's value, or NaN if it isn't a number (see {@link #isNumber(int, int)})
+     */
+    public double getNumber(int row, int column) {
+        ColumnVector vector = vectors[column];
+        return vector.kinds[row] == NUMBER ? vector.numbers[row] : Double.NaN;
+    }
+
+    /**
+     * @param row the row position
+     * @param column the column position
+     * @return the cell's display value, or null if it has none
+     */
+    public String getDisplayValue(int row, int column) {
+        ColumnVector vector = vectors[column];
+        int code = vector.displayCodes[row];
+        if (code == NUMBER_TEXT) {
+            return numberText(vector.numbers[row]);
+        }
+        return code == NO_STRING ? null : vector.strings[code];
+    }
+
+    /**
+     * Visit every row, in order, on the calling thread.
+     *
+     * @param visitor the visitor
+     */
+    public void scan(RowVisitor visitor) {
+        for (int row = 0; row < rowCount; row++) {
+            visitor.visit(this, row);
+        }
+    }
+
+    /**
+     * Visit every row, split into contiguous ranges that are scanned concurrently on an executor; returns when all
+     * of them are done. Rows within a range are visited in order, ranges in no particular order.
+     *
+     * @param executor the executor that runs the ranges
+     * @param parallelism the number of ranges
+     * @param visitor the visitor, which must be thread safe
+     * @throws InterruptedException if interrupted while waiting for the ranges
+     * @throws ExecutionException if the visitor threw an exception
+     */
+    public void parallelScan(ExecutorService executor, int parallelism, final RowVisitor visitor)
+            throws InterruptedException, ExecutionException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        int rangeSize = (rowCount + parallelism - 1) / parallelism;
+        List<Future<Void>> ranges = new ArrayList<Future<Void>>();
+        for (int start = 0; start < rowCount; start += rangeSize) {
+            final int from = start;
+            final int to = Math.min(rowCount, start + rangeSize);
+            ranges.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int row = from; row < to; row++) {
+                        visitor.visit(ColumnarSheet.this, row);
+                    }
+                    return null;
+                }
+            }));
+        }
+        try {
+            for (Future<Void> range : ranges) {
+                range.get();
+            }
+        } finally {
+            for (Future<Void> range : ranges) {
+                range.cancel(true);
+            }
+        }
+    }
+
+    private static String numberText(double number) {
+        if (number == Math.rint(number) && Math.abs(number) < 1e15) {
+            return Long.toString((long) number);
+        }
+        return Double.toString(number);
+    }
+
+    /**
+     * Receives the rows of a scan.
+     */
+    public interface RowVisitor {
+        /**
+         * @param sheet the sheet being scanned
+         * @param row the row position
+         */
+        void visit(ColumnarSheet sheet, int row);
+    }
+
+    /**
+     * The cells of one column. numbers and valueCodes are only allocated if the column holds a value of that kind.
+     */
+    private static final class ColumnVector {
+        final byte[] kinds;
+        final double[] numbers;
+        final int[] valueCodes;
+        final int[] displayCodes;
+        final String[] strings;
+
+        ColumnVector(byte[] kinds, double[] numbers, int[] valueCodes, int[] displayCodes, String[] strings) {
+            this.kinds = kinds;
+            this.numbers = numbers;
+            this.valueCodes = valueCodes;
+            this.displayCodes = displayCodes;
+            this.strings = strings;
+        }
+    }
+
+    /**
+     * Accumulates a column's cells while rows are read.
+     */
+    private static final class ColumnBuilder {
+        byte[] kinds = new byte[16];
+        double[] numbers;
+        int[] valueCodes;
+        int[] displayCodes = filled(new int[16], 0);
+        final Map<String, Integer> dictionary = new HashMap<String, Integer>();
+        final List<String> strings = new ArrayList<String>();
+
+        void grow(int capacity) {
+            int previous = kinds.length;
+            kinds = Arrays.copyOf(kinds, capacity);
+            displayCodes = filled(Arrays.copyOf(displayCodes, capacity), previous);
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, capacity);
+            }
+            if (valueCodes != null) {
+                valueCodes = Arrays.copyOf(valueCodes, capacity);
+            }
+        }
+
+        void set(int row, Object value, String displayValue) {
+            if (value instanceof Number) {
+                if (numbers == null) {
+                    numbers = new double[kinds.length];
+                }
+                kinds[row] = NUMBER;
+                numbers[row] = ((Number) value).doubleValue();
+            } else if (value instanceof Boolean) {
+                kinds[row] = (Boolean) value ? TRUE : FALSE;
+            } else if (value != null) {
+                if (valueCodes == null) {
+                    valueCodes = new int[kinds.length];
+                }
+                kinds[row] = TEXT;
+                valueCodes[row] = encode(value.toString());
+            }
+            if (displayValue != null) {
+                // numbers are usually displayed as is; those display values are rebuilt rather than stored
+                boolean numberText = kinds[row] == NUMBER && displayValue.equals(numberText(numbers[row]));
+                displayCodes[row] = numberText ? NUMBER_TEXT : encode(displayValue);
+            }
+        }
+
+        int encode(String value) {
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                code = strings.size();
+                dictionary.put(value, code);
+                strings.add(value);
+            }
+            return code;
+        }
+
+        ColumnVector build(int rowCount) {
+            return new ColumnVector(Arrays.copyOf(kinds, rowCount),
+                    numbers == null ? null : Arrays.copyOf(numbers, rowCount),
+                    valueCodes == null ? null : Arrays.copyOf(valueCodes, rowCount),
+                    Arrays.copyOf(displayCodes, rowCount),
+                    strings.toArray(new String[strings.size()]));
+        }
+
+        private static int[] filled(int[] codes, int from) {
+            Arrays.fill(codes, from, codes.length, NO_STRING);
+            return codes;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import java.util.List;
+
+/**
+ * The changes made by an upsert, see {@link com.smartsheet.api.SheetRowResources#upsertRows}.
+ */
+public class RowUpsertResult {
+
+    /** Represents the rows added, as returned by the API. */
+    private List<Row> addedRows;
+
+    /** Represents the rows updated, as returned by the API. */
+    private List<Row> updatedRows;
+
+    /** Represents the IDs of the rows deleted. */
+    private List<Long> deletedRowIds;
+
+    /** Represents the number of rows that already matched and were left alone. */
+    private int unchangedRowCount;
+
+    /**
+     * Gets the rows added.
+     *
+     * @return the rows added
+     */
+    public List<Row> getAddedRows() {
+        return addedRows;
+    }
+
+    /**
+     * Sets the rows added.
+     *
+     * @param addedRows the rows added
+     */
+    public RowUpsertResult setAddedRows(List<Row> addedRows) {
+        this.addedRows = addedRows;
+        return this;
+    }
+
+    /**
+     * Gets the rows updated.
+     *
+     * @return the rows updated
+     */
+    public List<Row> getUpdatedRows() {
+        return updatedRows;
+    }
+
+    /**
+     * Sets the rows updated.
+     *
+     * @param updatedRows the rows updated
+     */
+    public RowUpsertResult setUpdatedRows(List<Row> updatedRows) {
+        this.updatedRows = updatedRows;
+        return this;
+    }
+
+    /**
+     * Gets the IDs of the rows deleted.
+     *
+     * @return the IDs of the rows deleted
+     */
+    public List<Long> getDeletedRowIds() {
+        return deletedRowIds;
+    }
+
+    /**
+     * Sets the IDs of the rows deleted.
+     *
+     * @param deletedRowIds the IDs of the rows deleted
+     */
+    public RowUpsertResult setDeletedRowIds(List<Long> deletedRowIds) {
+        this.deletedRowIds = deletedRowIds;
+        return this;
+    }
+
+    /**
+     * Gets the number of rows that already matched and were left alone.
+     *
+     * @return the number of unchanged rows
+     */
+    public int getUnchangedRowCount() {
+        return unchangedRowCount;
+    }
+
+    /**
+     * Sets the number of rows that already matched and were left alone.
+     *
+     * @param unchangedRowCount the number of unchanged rows
+     */
+    public RowUpsertResult setUnchangedRowCount(int unchangedRowCount) {
+        this.unchangedRowCount = unchangedRowCount;
+        return this;
+    }
+}
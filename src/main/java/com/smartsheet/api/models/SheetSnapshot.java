@@ -0,0 +1,449 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.format.Format;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sheet saved to a file in a compact binary form and read back through a memory mapping, so a process can start
+ * from the sheets it saved earlier instead of fetching them again. Compare {@link #getVersion()} with
+ * {@code sheetResources().getSheetVersion(id)} to tell whether the saved copy is still current.
+ *
+ * Opening a snapshot reads only the sheet's attributes and columns; a row's cells are decoded from the mapped file
+ * each time the row is asked for, so rows that aren't used cost no heap.
+ *
+ * A snapshot keeps the sheet's id, name, version, permalink, access level, total row count, creation and
+ * modification times and columns; each row's id, number, parent, expanded flag, format and conditional format; and
+ * each cell's column id, value, display value, formula, format and conditional format. Other attributes (object
+ * values, hyperlinks, cell links, images, discussions, attachments, ...) are not saved.
+ *
+ * Thread Safety: This class is thread safe; rows are decoded from independent views of the mapped file.
+ */
+public final class SheetSnapshot {
+
+    private static final int MAGIC = 0x53534e50;          // "SSNP"
+    private static final int FORMAT_VERSION = 1;
+
+    /** The largest snapshot, the most that can be mapped at once. */
+    private static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    /** The trailer: the position of the row offsets (long) and the number of rows (int). */
+    private static final int TRAILER_SIZE = 12;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_DOUBLE = 1;
+    private static final byte VALUE_LONG = 2;
+    private static final byte VALUE_STRING = 3;
+    private static final byte VALUE_TRUE = 4;
+    private static final byte VALUE_FALSE = 5;
+
+    private static final byte EXPANDED_NULL = 0;
+    private static final byte EXPANDED_FALSE = 1;
+    private static final byte EXPANDED_TRUE = 2;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final JacksonJsonSerializer SERIALIZER = new JacksonJsonSerializer();
+
+    private final ByteBuffer buffer;
+    private final byte[] header;
+    private final Sheet sheet;
+    private final int rowCount;
+    private final int offsetsPosition;
+
+    private SheetSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < 8 + TRAILER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a sheet snapshot.");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported sheet snapshot version " + buffer.getInt(4) + ".");
+        }
+        // check the trailer against the size of the file, so a damaged file fails here rather than in getRow
+        int headerLength = buffer.getInt(8);
+        long offsets = buffer.getLong(buffer.limit() - TRAILER_SIZE);
+        int rows = buffer.getInt(buffer.limit() - 4);
+        if (headerLength < 0 || rows < 0 || offsets < 12L + headerLength
+                || offsets + rows * 8L + TRAILER_SIZE != buffer.limit()) {
+            throw new IOException("Damaged sheet snapshot.");
+        }
+        offsetsPosition = (int) offsets;
+        rowCount = rows;
+
+        header = new byte[headerLength];
+        ByteBuffer view = buffer.duplicate();
+        view.position(12);
+        view.get(header);
+        sheet = readHeader();
+    }
+
+    /**
+     * Save a sheet to a file, replacing it if it exists. The snapshot is written to a temporary file in the same
+     * directory and renamed into place, so a snapshot already open on the old file (in this process or another)
+     * keeps reading the old content, and a failed write leaves the old file as it was.
+     *
+     * @param sheet the sheet, with its columns and rows
+     * @param file the file
+     * @throws IOException if the file can't be written, or the snapshot would exceed 2 GB (the most that can be
+     * mapped at once)
+     */
+    public static void write(Sheet sheet, File file) throws IOException {
+        write(sheet, file, MAX_SIZE);
+    }
+
+    /**
+     * Save a sheet to a file, failing (and leaving the file as it was) if the snapshot would exceed the given
+     * size.
+     */
+    static void write(Sheet sheet, File file, long maxSize) throws IOException {
+        byte[] header;
+        try {
+            header = SERIALIZER.serialize(createHeader(sheet)).getBytes(UTF_8);
+        } catch (JSONSerializerException e) {
+            throw new IOException("The sheet's attributes can't be saved.", e);
+        }
+        List<Row> rows = sheet.getRows() == null ? new ArrayList<Row>() : sheet.getRows();
+        long[] offsets = new long[rows.size()];
+
+        // DataOutputStream.size() stops counting at Integer.MAX_VALUE, so the size is counted separately
+        File temp = File.createTempFile("sheet", ".tmp", file.getAbsoluteFile().getParentFile());
+        CountingOutputStream counter;
+        try {
+            counter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 65536));
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+        DataOutputStream out = new DataOutputStream(counter);
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(header.length);
+            out.write(header);
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = counter.count;
+                writeRow(out, rows.get(i));
+                checkSize(counter.count, maxSize);
+            }
+            long offsetsPosition = counter.count;
+            checkSize(offsetsPosition + (long) offsets.length * 8 + TRAILER_SIZE, maxSize);
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+            out.writeLong(offsetsPosition);
+            out.writeInt(offsets.length);
+            out.close();
+            out = null;
+
+            // renaming replaces the file atomically, except where an existing file must be deleted first (Windows)
+            if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+                throw new IOException("Unable to rename " + temp + " to " + file);
+            }
+            temp = null;
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    private static void checkSize(long size, long maxSize) throws IOException {
+        if (size > maxSize) {
+            throw new IOException("The sheet is too large for a snapshot.");
+        }
+    }
+
+    /**
+     * Open a snapshot saved by {@link #write(Sheet, File)}. The file is mapped read-only; it must not be changed
+     * in place while the snapshot is in use (replacing it with {@link #write(Sheet, File)} is safe).
+     *
+     * @param file the file
+     * @return the snapshot
+     * @throws IOException if the file can't be read, isn't a sheet snapshot or is damaged
+     */
+    public static SheetSnapshot open(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            if (channel.size() > MAX_SIZE) {
+                throw new IOException("Not a sheet snapshot: larger than 2 GB.");
+            }
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SheetSnapshot(buffer);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * @return the sheet's attributes and columns, without its rows
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * @return the version of the sheet when it was saved
+     */
+    public Integer getVersion() {
+        return sheet.getVersion();
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Decode a row. Each call returns a new Row.
+     *
+     * @param index the position of the row in the sheet
+     * @return the row
+     */
+    public Row getRow(int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + index + " of " + rowCount);
+        }
+        ByteBuffer view = buffer.duplicate();
+        view.position((int) buffer.getLong(offsetsPosition + index * 8));
+        return readRow(view);
+    }
+
+    /**
+     * @return the rows, as a read-only list that decodes a row whenever it is asked for
+     */
+    public List<Row> getRows() {
+        return new AbstractList<Row>() {
+            @Override
+            public Row get(int index) {
+                return getRow(index);
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    /**
+     * Decode the whole snapshot.
+     *
+     * @return a new Sheet holding every row
+     * @throws IOException if the sheet's attributes can't be read
+     */
+    public Sheet toSheet() throws IOException {
+        Sheet copy = readHeader();
+        List<Row> rows = new ArrayList<Row>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(getRow(i));
+        }
+        copy.setRows(rows);
+        return copy;
+    }
+
+    private Sheet readHeader() throws IOException {
+        return SERIALIZER.deserialize(Sheet.class, new ByteArrayInputStream(header));
+    }
+
+    private static Sheet createHeader(Sheet sheet) {
+        Sheet header = new Sheet();
+        header.setId(sheet.getId());
+        header.setName(sheet.getName());
+        header.setVersion(sheet.getVersion());
+        header.setPermalink(sheet.getPermalink());
+        header.setAccessLevel(sheet.getAccessLevel());
+        header.setTotalRowCount(sheet.getTotalRowCount());
+        header.setCreatedAt(sheet.getCreatedAt());
+        header.setModifiedAt(sheet.getModifiedAt());
+        header.setColumns(sheet.getColumns());
+        return header;
+    }
+
+    private static void writeRow(DataOutputStream out, Row row) throws IOException {
+        out.writeLong(row.getId() == null ? 0 : row.getId());
+        out.writeInt(row.getRowNumber() == null ? 0 : row.getRowNumber());
+        out.writeLong(row.getParentId() == null ? 0 : row.getParentId());
+        out.writeByte(row.isExpanded() == null ? EXPANDED_NULL : (row.isExpanded() ? EXPANDED_TRUE : EXPANDED_FALSE));
+        writeString(out, row.getFormat() == null ? null : row.getFormat().toString());
+        writeString(out, row.getConditionalFormat() == null ? null : row.getConditionalFormat().toString());
+
+        List<Cell> cells = row.getCells();
+        out.writeInt(cells == null ? -1 : cells.size());
+        if (cells != null) {
+            for (Cell cell : cells) {
+                out.writeLong(cell.getColumnId() == null ? 0 : cell.getColumnId());
+                writeValue(out, cell.getValue());
+                writeString(out, cell.getDisplayValue());
+                writeString(out, cell.getFormula());
+                writeString(out, cell.getFormat() == null ? null : cell.getFormat().toString());
+                writeString(out, cell.getConditionalFormat());
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? VALUE_TRUE : VALUE_FALSE);
+        } else {
+            out.writeByte(VALUE_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    /** Strings are written as their UTF-8 length (-1 for null) and bytes. */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static Row readRow(ByteBuffer in) {
+        Row row = new Row();
+        long id = in.getLong();
+        row.setId(id == 0 ? null : id);
+        int rowNumber = in.getInt();
+        row.setRowNumber(rowNumber == 0 ? null : rowNumber);
+        long parentId = in.getLong();
+        row.setParentId(parentId == 0 ? null : parentId);
+        byte expanded = in.get();
+        row.setExpanded(expanded == EXPANDED_NULL ? null : expanded == EXPANDED_TRUE);
+        row.setFormat(readFormat(in));
+        row.setConditionalFormat(readFormat(in));
+
+        int cellCount = in.getInt();
+        if (cellCount >= 0) {
+            List<Cell> cells = new ArrayList<Cell>(cellCount);
+            for (int i = 0; i < cellCount; i++) {
+                Cell cell = new Cell();
+                long columnId = in.getLong();
+                cell.setColumnId(columnId == 0 ? null : columnId);
+                cell.setValue(readValue(in));
+                cell.setDisplayValue(readString(in));
+                cell.setFormula(readString(in));
+                cell.setFormat(readFormat(in));
+                cell.setConditionalFormat(readString(in));
+                cells.add(cell);
+            }
+            row.setCells(cells);
+        }
+        return row;
+    }
+
+    private static Object readValue(ByteBuffer in) {
+        switch (in.get()) {
+            case VALUE_DOUBLE:
+                return in.getDouble();
+            case VALUE_LONG:
+                // as Jackson reads them: Integer if it fits, Long otherwise
+                long value = in.getLong();
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            case VALUE_STRING:
+                return readString(in);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static Format readFormat(ByteBuffer in) {
+        String format = readString(in);
+        return format == null ? null : Format.valueOf(format);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Counts the bytes written through it in a long.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -28,6 +28,8 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 
@@ -43,7 +45,37 @@ public class Format {
     //The default format.
     private static final int[] DEFAULT_FORMAT = new int[]{0,2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
     static final int UNSET = Integer.MIN_VALUE;
-    int[] formatArray;
+
+    //The most distinct format strings kept by valueOf(); sheets typically use a few dozen.
+    private static final int MAX_CACHED_FORMATS = 4096;
+    private static final ConcurrentMap<String, Format> CACHED_FORMATS = new ConcurrentHashMap<String, Format>();
+
+    final int[] formatArray;
+
+    /**
+     * Returns the {@link Format} for a format string provided by the Smartsheet API, sharing one instance between
+     * every occurrence of the same string.
+     *
+     * Formats have no setters, so a shared instance can't be changed by its users; to derive a different format use
+     * {@link FormatBuilder#withFormat(Format)}, which copies it. Once a bounded number of distinct strings has been
+     * seen, further strings are parsed into new instances rather than cached.
+     *
+     * @param original the format string
+     * @return the format
+     */
+    public static Format valueOf(String original) {
+        Format format = CACHED_FORMATS.get(original);
+        if (format == null) {
+            format = new Format(original);
+            if (CACHED_FORMATS.size() < MAX_CACHED_FORMATS) {
+                Format existing = CACHED_FORMATS.putIfAbsent(original, format);
+                if (existing != null) {
+                    format = existing;
+                }
+            }
+        }
+        return format;
+    }
 
     /**
      * Constructs a {@link Format} object using the format string provided by the Smartsheet API.
@@ -72,6 +104,24 @@ public class Format {
         formatArray = Arrays.copyOf(DEFAULT_FORMAT, DEFAULT_FORMAT.length);
     }
 
+    /**
+     * @return the format string, as used by the Smartsheet API (see {@link #valueOf(String)})
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder(30);
+        String separator = "";
+        for (int formatValue : formatArray) {
+            stringBuilder.append(separator);
+            separator = ",";
+
+            if (formatValue != UNSET) {
+                stringBuilder.append(formatValue);
+            }
+        }
+        return stringBuilder.toString();
+    }
+
     protected <T extends Enum<?>> T getFormatValue(FormatAttribute attribute, T[] values) {
         if (formatArray[attribute.ordinal()] >= values.length) {
             return values[DEFAULT_FORMAT[attribute.ordinal()]];
@@ -320,7 +370,7 @@ public class Format {
                 }
             }
 
-            return new Format(formatStringBuilder.toString());
+            return Format.valueOf(formatStringBuilder.toString());
         }
 
         /**
@@ -529,18 +579,7 @@ public class Format {
     public static class FormatSerializer extends JsonSerializer<Format> {
         @Override
         public void serialize(Format format, JsonGenerator generator, SerializerProvider provider) throws IOException {
-            StringBuilder stringBuilder = new StringBuilder(30);
-            String separator = "";
-            for (int formatValue : format.formatArray) {
-                stringBuilder.append(separator);
-                separator = ",";
-
-                if (formatValue != UNSET) {
-                    stringBuilder.append(formatValue);
-                }
-            }
-
-            generator.writeString(stringBuilder.toString());
+            generator.writeString(format.toString());
         }
     }
 }
@@ -0,0 +1,236 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Row;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BulkRowWriterTest {
+
+    /** Records the requests made, and fails if two requests to the same sheet overlap. */
+    static class FakeRows implements InvocationHandler {
+        final List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<Integer>());
+        final Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<Long, AtomicInteger>();
+        final AtomicInteger maxSheetsInFlight = new AtomicInteger();
+        final AtomicInteger sheetsInFlight = new AtomicInteger();
+        volatile boolean overlapped;
+        volatile int failOnRequest = -1;
+        final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            long sheetId = (Long) args[0];
+            if (requests.getAndIncrement() == failOnRequest) {
+                throw new SmartsheetException("failed");
+            }
+            AtomicInteger sheet = inFlight.get(sheetId);
+            if (sheet == null) {
+                inFlight.put(sheetId, new AtomicInteger());
+                sheet = inFlight.get(sheetId);
+            }
+            if (sheet.incrementAndGet() > 1) {
+                overlapped = true;
+            }
+            int now = sheetsInFlight.incrementAndGet();
+            if (now > maxSheetsInFlight.get()) {
+                maxSheetsInFlight.set(now);
+            }
+            try {
+                Thread.sleep(5);
+                if (method.getName().equals("deleteRows")) {
+                    chunkSizes.add(((Set<?>) args[1]).size());
+                    return new ArrayList<Object>((Set<?>) args[1]);
+                }
+                List<?> rows = (List<?>) args[1];
+                chunkSizes.add(rows.size());
+                return new ArrayList<Object>(rows);
+            } finally {
+                sheetsInFlight.decrementAndGet();
+                sheet.decrementAndGet();
+            }
+        }
+
+        SheetRowResources proxy() {
+            return (SheetRowResources) Proxy.newProxyInstance(SheetRowResources.class.getClassLoader(),
+                    new Class[]{SheetRowResources.class}, this);
+        }
+    }
+
+    private static List<Row> rows(int count, int valueLength) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < valueLength; i++) {
+            value.append('x');
+        }
+        List<Row> rows = new ArrayList<Row>();
+        for (int i = 0; i < count; i++) {
+            Row row = new Row();
+            row.setId((long) i);
+            Cell cell = new Cell();
+            cell.setColumnId(1L);
+            cell.setValue(value.toString());
+            row.setCells(Arrays.asList(cell));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    public void testChunksAndMergesInOrder() throws Exception {
+        FakeRows fake = new FakeRows();
+        BulkRowWriter writer = new BulkRowWriter(fake.proxy(), 4).setMaxRowsPerRequest(100);
+        try {
+            List<Row> input = rows(1050, 1);
+            List<Row> added = writer.addRows(1L, input.iterator()).get();
+            assertEquals(input, added);
+            assertEquals(Arrays.asList(100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 50), fake.chunkSizes);
+
+            // the byte limit splits rows with large values
+            fake.chunkSizes.clear();
+            writer.setMaxBytesPerRequest(10000);
+            assertEquals(30, writer.updateRows(1L, rows(30, 1000)).get().size());
+            assertTrue(fake.chunkSizes.size() > 1);
+            for (int size : fake.chunkSizes) {
+                assertTrue(size <= 10);
+            }
+
+            fake.chunkSizes.clear();
+            List<Long> ids = new ArrayList<Long>();
+            for (long i = 0; i < 1000; i++) {
+                ids.add(i);
+            }
+            assertEquals(ids, writer.deleteRows(1L, ids, true).get());
+            assertEquals(Arrays.asList(400, 400, 200), fake.chunkSizes);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void testRowsAreSerializedOnceWithTheClientSerializer() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        server.setResponseBody(new File("src/test/resources/insertRows.json"));
+
+        final AtomicInteger serializedRows = new AtomicInteger();
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer() {
+            @Override
+            public <T> void serialize(T object, OutputStream outputStream) throws JSONSerializerException {
+                if (object instanceof Row) {
+                    serializedRows.incrementAndGet();
+                }
+                super.serialize(object, outputStream);
+            }
+        };
+        final AtomicInteger idReads = new AtomicInteger();
+        List<Row> input = new ArrayList<Row>();
+        for (long i = 0; i < 3; i++) {
+            Row row = new Row() {
+                @Override
+                public Long getId() {
+                    idReads.incrementAndGet();
+                    return super.getId();
+                }
+            };
+            row.setId(i);
+            input.add(row);
+        }
+
+        DefaultHttpClient httpClient = new DefaultHttpClient();
+        SmartsheetImpl smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken", httpClient,
+                serializer);
+        BulkRowWriter writer = new BulkRowWriter(smartsheet.sheetResources().rowResources(), 1);
+        try {
+            writer.addRows(1L, input).get();
+            // each row is serialized once, by the client's serializer, and the request body reuses that JSON
+            assertEquals(3, serializedRows.get());
+            assertEquals(3, idReads.get());
+            assertEquals(new JacksonJsonSerializer().serialize(new ArrayList<Row>(input)), server.getRequestBody());
+        } finally {
+            writer.close();
+            httpClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testSheetsAreWrittenConcurrentlyButEachInOrder() throws Exception {
+        FakeRows fake = new FakeRows();
+        BulkRowWriter writer = new BulkRowWriter(fake.proxy(), 4).setMaxRowsPerRequest(10);
+        try {
+            List<Future<List<Row>>> writes = new ArrayList<Future<List<Row>>>();
+            for (int i = 0; i < 16; i++) {
+                writes.add(writer.addRows(i % 4, rows(50, 1)));
+            }
+            for (Future<List<Row>> write : writes) {
+                assertEquals(50, write.get().size());
+            }
+            assertFalse(fake.overlapped);
+            assertTrue(fake.maxSheetsInFlight.get() > 1);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void testFailureReportsCompletedRows() throws Exception {
+        FakeRows fake = new FakeRows();
+        fake.failOnRequest = 2;
+        BulkRowWriter writer = new BulkRowWriter(fake.proxy(), 1).setMaxRowsPerRequest(10);
+        try {
+            writer.addRows(1L, rows(50, 1)).get();
+            fail("Exception should have been thrown");
+        } catch (ExecutionException e) {
+            BulkRowWriteException failure = (BulkRowWriteException) e.getCause();
+            assertEquals(20, failure.getCompleted().size());
+            assertEquals("failed", failure.getCause().getMessage());
+        } finally {
+            writer.close();
+        }
+    }
+}
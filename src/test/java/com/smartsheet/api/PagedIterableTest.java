@@ -0,0 +1,222 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PagedIterableTest {
+
+    /** Serves the integers 1..total, recording the pages asked for. */
+    static class CountingFetcher implements PagedIterable.PageFetcher<Integer> {
+        final int total;
+        final List<Integer> pages = Collections.synchronizedList(new ArrayList<Integer>());
+
+        CountingFetcher(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public PagedResult<Integer> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+            assertFalse(pagination.isIncludeAll());
+            int page = pagination.getPage();
+            int pageSize = pagination.getPageSize();
+            pages.add(page);
+            List<Integer> data = new ArrayList<Integer>();
+            for (int i = (page - 1) * pageSize + 1; i <= Math.min(total, page * pageSize); i++) {
+                data.add(i);
+            }
+            PagedResult<Integer> result = new PagedResult<Integer>();
+            result.setData(data);
+            result.setPageNumber(page);
+            result.setPageSize(pageSize);
+            result.setTotalCount(total);
+            result.setTotalPages((total + pageSize - 1) / pageSize);
+            return result;
+        }
+    }
+
+    @Test
+    public void testIteratesEveryPage() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountingFetcher fetcher = new CountingFetcher(7);
+            PagedIterable<Integer> items = new PagedIterable<Integer>(fetcher, 3, executor);
+
+            Iterator<Integer> iterator = items.iterator();
+            assertEquals(1, iterator.next().intValue());
+            // the second page is requested while the first is consumed
+            long deadline = System.currentTimeMillis() + 5000;
+            while (fetcher.pages.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(Arrays.asList(1, 2), fetcher.pages);
+
+            List<Integer> rest = new ArrayList<Integer>();
+            while (iterator.hasNext()) {
+                rest.add(iterator.next());
+            }
+            assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7), rest);
+            assertEquals(Arrays.asList(1, 2, 3), fetcher.pages);
+
+            // every iterator starts over, and no prefetch executor means pages are fetched when reached
+            int count = 0;
+            for (Integer ignored : new PagedIterable<Integer>(new CountingFetcher(6), 3, null)) {
+                count++;
+            }
+            assertEquals(6, count);
+            assertFalse(new PagedIterable<Integer>(new CountingFetcher(0), 3).iterator().hasNext());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedPage() {
+        PagedIterable<Integer> items = new PagedIterable<Integer>(new CountingFetcher(10) {
+            @Override
+            public PagedResult<Integer> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+                if (pagination.getPage() == 2) {
+                    throw new SmartsheetException("unavailable");
+                }
+                return super.fetchPage(pagination);
+            }
+        }, 5);
+
+        Iterator<Integer> iterator = items.iterator();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(iterator.hasNext());
+            iterator.next();
+        }
+        try {
+            iterator.hasNext();
+            fail("Exception should have been thrown");
+        } catch (SmartsheetRuntimeException e) {
+            assertEquals("unavailable", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testParallelPages() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountingFetcher fetcher = new CountingFetcher(100) {
+                @Override
+                public PagedResult<Integer> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+                    try {
+                        // later pages answer first
+                        Thread.sleep(30 - pagination.getPage());
+                    } catch (InterruptedException e) {
+                        throw new SmartsheetException("interrupted");
+                    }
+                    return super.fetchPage(pagination);
+                }
+            };
+            List<Integer> items = new PagedIterable<Integer>(fetcher, 10, null).fetchAll(executor, 4);
+            assertEquals(100, items.size());
+            for (int i = 0; i < items.size(); i++) {
+                assertEquals(i + 1, items.get(i).intValue());
+            }
+            assertEquals(10, fetcher.pages.size());
+
+            final List<Integer> pages = new ArrayList<Integer>();
+            new PagedIterable<Integer>(fetcher, 10).forEachPage(executor, 4, false,
+                    new PagedIterable.PageHandler<Integer>() {
+                        @Override
+                        public void handle(PagedResult<Integer> page) {
+                            pages.add(page.getPageNumber());
+                        }
+                    });
+            Collections.sort(pages);
+            assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), pages);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testHandledPagesAreReleased() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<WeakReference<PagedResult<Integer>>> handled = new ArrayList<WeakReference<PagedResult<Integer>>>();
+            final List<Boolean> released = new ArrayList<Boolean>();
+            new PagedIterable<Integer>(new CountingFetcher(100), 10).forEachPage(executor, 2, true,
+                    new PagedIterable.PageHandler<Integer>() {
+                        @Override
+                        public void handle(PagedResult<Integer> page) {
+                            handled.add(new WeakReference<PagedResult<Integer>>(page));
+                            if (page.getPageNumber() == 10) {
+                                // while the last page is handled, the earlier ones must be collectable
+                                WeakReference<PagedResult<Integer>> earlier = handled.get(4);
+                                for (int i = 0; i < 50 && earlier.get() != null; i++) {
+                                    System.gc();
+                                    try {
+                                        Thread.sleep(10);
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                    }
+                                }
+                                released.add(earlier.get() == null);
+                            }
+                        }
+                    });
+            assertEquals(10, handled.size());
+            assertEquals(Arrays.asList(true), released);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelPagesFailure() {
+        PagedIterable<Integer> items = new PagedIterable<Integer>(new CountingFetcher(50) {
+            @Override
+            public PagedResult<Integer> fetchPage(PaginationParameters pagination) throws SmartsheetException {
+                if (pagination.getPage() == 3) {
+                    throw new SmartsheetException("unavailable");
+                }
+                return super.fetchPage(pagination);
+            }
+        }, 5);
+        try {
+            items.fetchAll(null, 3);
+            fail("Exception should have been thrown");
+        } catch (SmartsheetException e) {
+            assertEquals("unavailable", e.getMessage());
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class SmartsheetBuilderTest {
@@ -52,4 +53,11 @@ public class SmartsheetBuilderTest {
         ss.getClass();
     }
 
+    @Test
+    public void testBuildWithConnectionPool() throws Exception {
+        SmartsheetImpl smartsheet = (SmartsheetImpl)new SmartsheetBuilder().setAccessToken("b").setMaxConnections(64)
+                .setMaxConnectionsPerRoute(64).setKeepAliveMillis(30000).setIdleConnectionTimeoutMillis(60000).build();
+        assertNotNull(smartsheet.sheetResources());
+        smartsheet.setMaxRetryTimeMillis(1000);
+    }
 }
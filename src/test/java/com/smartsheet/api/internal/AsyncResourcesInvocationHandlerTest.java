@@ -0,0 +1,131 @@
+package com.smartsheet.api.internal;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.async.AsyncSmartsheet;
+import com.smartsheet.api.async.SmartsheetCallback;
+import com.smartsheet.api.async.SmartsheetFuture;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.models.Discussion;
+import com.smartsheet.api.models.Home;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Folder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AsyncResourcesInvocationHandlerTest extends ResourcesImplBase {
+
+    private SmartsheetImpl smartsheet;
+    private AsyncSmartsheet async;
+
+    @Before
+    public void setUp() throws Exception {
+        smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken", new DefaultHttpClient(),
+                serializer);
+        async = smartsheet.async();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        smartsheet.getHttpClient().close();
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getHome.json"));
+
+        Home home = async.homeResources().getHome(null).get(10, TimeUnit.SECONDS);
+        assertEquals(7, home.getSheets().size());
+        assertSame(async, smartsheet.async());
+    }
+
+    @Test
+    public void testSubResources() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getHomeFolders.json"));
+
+        PagedResult<Folder> folders = async.homeResources().folderResources()
+                .listFolders(new PaginationParameters(true, 1, 1)).get(10, TimeUnit.SECONDS);
+        assertEquals(1, folders.getTotalPages().intValue());
+    }
+
+    @Test
+    public void testGetSheetVersion() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getSheetVersion.json"));
+
+        Integer version = async.sheetResources().getSheetVersion(1234L).get(10, TimeUnit.SECONDS);
+        assertEquals(1, version.intValue());
+    }
+
+    @Test
+    public void testCallback() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getHome.json"));
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<Home> result = new AtomicReference<Home>();
+        SmartsheetFuture<Home> future = async.homeResources().getHome(null);
+        future.addCallback(new SmartsheetCallback<Home>() {
+            public void completed(Home home) {
+                result.set(home);
+                latch.countDown();
+            }
+
+            public void failed(SmartsheetException exception) {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNotNull(result.get());
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testErrorResponse() throws Exception {
+        server.setStatus(400);
+        server.setResponseBody(new File("src/test/resources/createDiscussion_1032.json"));
+
+        try {
+            async.sheetResources().discussionResources().createDiscussion(1234L, new Discussion())
+                    .get(10, TimeUnit.SECONDS);
+            fail("An exception should have been thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof InvalidRequestException);
+            assertEquals(1032, ((InvalidRequestException) e.getCause()).getErrorCode());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testArgumentsValidatedOnCallingThread() {
+        async.sheetResources().discussionResources().createDiscussion(1234L, null);
+    }
+}
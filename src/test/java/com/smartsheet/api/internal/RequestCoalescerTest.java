@@ -0,0 +1,126 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.SmartsheetException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RequestCoalescerTest {
+
+    @Test
+    public void testConcurrentCallersShareOneRequest() throws Exception {
+        final RequestCoalescer coalescer = new RequestCoalescer();
+        final AtomicInteger requests = new AtomicInteger();
+        final int callers = 8;
+        final RequestCoalescer.Request<Object> request = new RequestCoalescer.Request<Object>() {
+            @Override
+            public Object execute() throws SmartsheetException {
+                requests.incrementAndGet();
+                // stay in flight until every other caller is waiting
+                long deadline = System.currentTimeMillis() + 5000;
+                while (coalescer.getCoalescedCount() < callers - 1 && System.currentTimeMillis() < deadline) {
+                    Thread.yield();
+                }
+                return new Object();
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Object>> results = new ArrayList<Future<Object>>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        return coalescer.execute("GET sheets/1", request);
+                    }
+                }));
+            }
+            Object result = results.get(0).get();
+            for (Future<Object> other : results) {
+                assertSame(result, other.get());
+            }
+            assertEquals(1, requests.get());
+            assertEquals(callers - 1, coalescer.getCoalescedCount());
+
+            // nothing is kept once the request completes
+            assertNotSame(result, coalescer.execute("GET sheets/1", request));
+            assertEquals(2, requests.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallersShareTheException() throws Exception {
+        final RequestCoalescer coalescer = new RequestCoalescer();
+        final RequestCoalescer.Request<Object> failing = new RequestCoalescer.Request<Object>() {
+            @Override
+            public Object execute() throws SmartsheetException {
+                long deadline = System.currentTimeMillis() + 5000;
+                while (coalescer.getCoalescedCount() < 1 && System.currentTimeMillis() < deadline) {
+                    Thread.yield();
+                }
+                throw new SmartsheetException("failed");
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Object>> results = new ArrayList<Future<Object>>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        return coalescer.execute("GET users", failing);
+                    }
+                }));
+            }
+            for (Future<Object> result : results) {
+                try {
+                    result.get();
+                    fail("Exception should have been thrown");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof SmartsheetException);
+                    assertEquals("failed", e.getCause().getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
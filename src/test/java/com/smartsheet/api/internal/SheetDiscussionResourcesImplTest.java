@@ -107,6 +107,8 @@ public class SheetDiscussionResourcesImplTest extends ResourcesImplBase {
         discussion.setLastCommentedAt(new Date());
         discussion.setCommentAttachments(new ArrayList<Attachment>());
         Discussion newDiscussion = sheetDiscussionResources.createDiscussionWithAttachment(1234L, discussion, file, "application/pdf");
+        assertTrue(server.getRequestBody().contains("Content-Disposition: form-data; name=\"discussion\""));
+        assertTrue(server.getRequestBody().contains("filename=\"large_sheet.pdf\""));
 
         assertNotNull(newDiscussion.getComments());
         assertTrue(newDiscussion.getComments().size() == 1);
@@ -20,7 +20,9 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 
+import com.smartsheet.api.PagedIterable;
 import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.StreamingSheet;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.enums.*;
@@ -94,6 +96,197 @@ public class SheetResourcesImplTest extends ResourcesImplBase {
         assertEquals(0,sheet.getRows().size());
     }
 
+    @Test
+    public void testStreamSheet() throws SmartsheetException, IOException {
+
+        server.setResponseBody("{\"id\":123123,\"name\":\"streamed\",\"columns\":[{\"id\":1,\"title\":\"A\"}]," +
+                "\"rows\":[{\"id\":11,\"rowNumber\":1,\"cells\":[{\"columnId\":1,\"value\":\"one\"}]}," +
+                "{\"id\":12,\"rowNumber\":2,\"cells\":[{\"columnId\":1,\"value\":\"two\"}]}]," +
+                "\"accessLevel\":\"OWNER\",\"totalRowCount\":2}");
+        StreamingSheet sheet = sheetResource.streamSheet(123123L);
+        assertEquals("streamed", sheet.getSheet().getName());
+        assertEquals(1, sheet.getSheet().getColumns().size());
+        assertNull(sheet.getSheet().getRows());
+        // attributes following the rows aren't known yet
+        assertNull(sheet.getSheet().getAccessLevel());
+
+        List<Long> rowIds = new ArrayList<Long>();
+        while (sheet.hasNext()) {
+            Row row = sheet.next();
+            rowIds.add(row.getId());
+            assertEquals(1, row.getCells().size());
+        }
+        assertEquals(Arrays.asList(11L, 12L), rowIds);
+        assertEquals(AccessLevel.OWNER, sheet.getSheet().getAccessLevel());
+        assertEquals(2, sheet.getSheet().getTotalRowCount().intValue());
+        try {
+            sheet.next();
+            fail("Exception should have been thrown");
+        } catch (NoSuchElementException e) {
+            // Expected
+        }
+
+        // stopping early releases the connection for the next request
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+        sheet = sheetResource.streamSheet(123123L, EnumSet.of(SheetInclusion.FORMAT), null, null, null, null, 1, 1, 2);
+        sheet.close();
+        assertFalse(sheet.hasNext());
+        assertEquals(9, sheetResource.getSheet(123123L, null, null, null, null, null, null, null).getColumns().size());
+    }
+
+    @Test
+    public void testGetSheetCached() throws SmartsheetException, IOException {
+        SheetCache cache = new SheetCache(1000, 60000);
+        sheetResource.smartsheet.setSheetCache(cache);
+
+        server.setResponseBody("{\"id\":123123,\"name\":\"cached\",\"version\":7,\"columns\":[{\"id\":1,\"title\":\"A\"}]," +
+                "\"rows\":[{\"id\":11,\"rowNumber\":1,\"cells\":[{\"columnId\":1,\"value\":\"one\"}]}]}");
+        Sheet sheet = sheetResource.getSheet(123123L, null, null, null, null, null, null, null);
+        assertEquals("cached", sheet.getName());
+
+        // within the staleness limit no request is made
+        server.setResponseBody("{\"id\":123123,\"name\":\"changed\",\"version\":8,\"columns\":[],\"rows\":[]}");
+        assertSame(sheet, sheetResource.getSheet(123123L, null, null, null, null, null, null, null));
+        assertEquals(1, cache.getHitCount());
+
+        // other parameters are cached separately
+        assertEquals("changed", sheetResource.getSheet(123123L, EnumSet.of(SheetInclusion.FORMAT), null, null, null,
+                null, null, null).getName());
+        assertEquals(2, cache.size());
+
+        // a stale sheet whose version hasn't moved is kept
+        cache = new SheetCache(1000, 0);
+        sheetResource.smartsheet.setSheetCache(cache);
+        sheet = sheetResource.getSheet(123123L, null, null, null, null, null, null, null);
+        server.setResponseBody("{\"version\":8}");
+        assertSame(sheet, sheetResource.getSheet(123123L, null, null, null, null, null, null, null));
+        assertEquals(1, cache.getRevalidationCount());
+
+        // and replaced once it has
+        server.setResponseBody("{\"id\":123123,\"name\":\"newer\",\"version\":9,\"columns\":[],\"rows\":[]}");
+        assertEquals("newer", sheetResource.getSheet(123123L, null, null, null, null, null, null, null).getName());
+        assertEquals(2, cache.getFetchCount());
+
+        cache.invalidate(123123L);
+        assertEquals(0, cache.size());
+        sheetResource.smartsheet.setSheetCache(null);
+    }
+
+    @Test
+    public void testGetSheetCacheInvalidatedOnWrites() throws SmartsheetException, IOException {
+        SheetCache cache = new SheetCache(1000, 60000);
+        sheetResource.smartsheet.setSheetCache(cache);
+
+        server.setResponseBody("{\"id\":123123,\"name\":\"cached\",\"version\":7,\"columns\":[],\"rows\":[]}");
+        Sheet sheet = sheetResource.getSheet(123123L, null, null, null, null, null, null, null);
+        assertEquals(1, cache.size());
+
+        // writes to other sheets leave it alone
+        server.setResponseBody(new File("src/test/resources/updateRows.json"));
+        sheetResource.rowResources().updateRows(456456L, Arrays.asList(new Row.UpdateRowBuilder().setRowId(11L).build()));
+        assertSame(sheet, sheetResource.getSheet(123123L, null, null, null, null, null, null, null));
+
+        // writes to its rows drop it
+        server.setResponseBody(new File("src/test/resources/updateRows.json"));
+        sheetResource.rowResources().updateRows(123123L, Arrays.asList(new Row.UpdateRowBuilder().setRowId(11L).build()));
+        assertEquals(0, cache.size());
+
+        server.setResponseBody("{\"id\":123123,\"name\":\"updated\",\"version\":8,\"columns\":[],\"rows\":[]}");
+        assertEquals("updated", sheetResource.getSheet(123123L, null, null, null, null, null, null, null).getName());
+        assertEquals(2, cache.getFetchCount());
+        sheetResource.smartsheet.setSheetCache(null);
+    }
+
+    @Test
+    public void testSheetCacheInvalidatedWhileLoading() throws SmartsheetException {
+        final SheetCache cache = new SheetCache(1000, 60000);
+        final Sheet before = new Sheet();
+        before.setVersion(7);
+        before.setColumns(new ArrayList<Column>());
+        before.setRows(new ArrayList<Row>());
+
+        // a write to the sheet completes while the sheet from before it is on its way
+        SheetCache.Loader racingWrite = new SheetCache.Loader() {
+            @Override
+            public Sheet load(Integer ifVersionAfter) {
+                cache.invalidate(123123L);
+                return before;
+            }
+        };
+        assertSame(before, cache.get("key", 123123L, racingWrite));
+        assertEquals(0, cache.size());
+
+        // so the next call fetches the sheet as it is after the write
+        final Sheet after = new Sheet();
+        after.setVersion(8);
+        after.setColumns(new ArrayList<Column>());
+        after.setRows(new ArrayList<Row>());
+        SheetCache.Loader loader = new SheetCache.Loader() {
+            @Override
+            public Sheet load(Integer ifVersionAfter) {
+                return after;
+            }
+        };
+        assertSame(after, cache.get("key", 123123L, loader));
+        assertSame(after, cache.get("key", 123123L, loader));
+        assertEquals(2, cache.getFetchCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testLoadSheet() throws SmartsheetException, IOException {
+        // the test server answers every page with the same two rows
+        server.setResponseBody("{\"id\":123123,\"name\":\"paged\",\"version\":3,\"totalRowCount\":6," +
+                "\"columns\":[{\"id\":1,\"title\":\"A\"}]," +
+                "\"rows\":[{\"id\":11,\"rowNumber\":1},{\"id\":12,\"rowNumber\":2}]}");
+        Sheet sheet = sheetResource.loadSheet(123123L, null, null, 2, null, 2);
+        assertEquals("paged", sheet.getName());
+        assertEquals(1, sheet.getColumns().size());
+        assertEquals(6, sheet.getRows().size());
+
+        final List<Integer> pages = new ArrayList<Integer>();
+        sheet = sheetResource.loadSheet(123123L, null, null, 2, null, 2, new PagedIterable.PageHandler<Row>() {
+            @Override
+            public void handle(PagedResult<Row> page) {
+                assertEquals(2, page.getData().size());
+                pages.add(page.getPageNumber());
+            }
+        });
+        assertNull(sheet.getRows());
+        assertEquals(Arrays.asList(1, 2, 3), pages);
+    }
+
+    @Test
+    public void testLoadSheetLeavesFetchedPagesUnchanged() throws SmartsheetException {
+        // every page request returns the same instance, as coalesced requests share one result
+        final Sheet shared = new Sheet();
+        shared.setId(123123L);
+        shared.setName("shared");
+        shared.setVersion(3);
+        shared.setTotalRowCount(2);
+        shared.setPermalink("https://app.smartsheet.com/sheets/shared");
+        shared.setAccessLevel(AccessLevel.EDITOR);
+        shared.setRows(Arrays.asList(new Row(11L), new Row(12L)));
+        SheetResourcesImpl resources = new SheetResourcesImpl(sheetResource.smartsheet) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <T> T getResource(String path, Class<T> objectClass) {
+                return (T) shared;
+            }
+        };
+
+        Sheet first = resources.loadSheet(123123L, null, null, 2, null, 2);
+        Sheet second = resources.loadSheet(123123L, null, null, 2, null, 2);
+        assertEquals(2, first.getRows().size());
+        assertEquals(2, second.getRows().size());
+        assertEquals("shared", second.getName());
+        assertEquals(3, second.getVersion().intValue());
+        assertEquals("https://app.smartsheet.com/sheets/shared", second.getPermalink());
+        assertEquals(AccessLevel.EDITOR, second.getAccessLevel());
+        assertNotSame(shared, first);
+        assertEquals(2, shared.getRows().size());
+    }
+
     @Test
     public void testGetSheetWithFormat() throws SmartsheetException, IOException {
 
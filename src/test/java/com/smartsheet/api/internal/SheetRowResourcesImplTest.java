@@ -20,8 +20,10 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 
+import com.smartsheet.api.BulkRowWriteException;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.enums.*;
 import org.junit.Before;
@@ -77,6 +79,202 @@ public class SheetRowResourcesImplTest extends ResourcesImplBase {
         assertEquals("New status", row2.getCells().get(1).getValue());
     }
 
+    @Test
+    public void testAddRowsFrom() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/insertRows.json"));
+
+        List<Row> rows = new ArrayList<Row>();
+        for (int i = 0; i < 2000; i++) {
+            Cell cell = new Cell();
+            cell.setColumnId(8764071660021636L);
+            cell.setValue("value " + i);
+            Row row = new Row();
+            row.setToBottom(true);
+            row.setCells(Collections.singletonList(cell));
+            rows.add(row);
+        }
+
+        List<Row> newRows = sheetRowResource.addRowsFrom(1234L, Collections.unmodifiableList(rows));
+        assertEquals(2, newRows.size());
+
+        // the streamed body is the same JSON as the whole list serialized at once
+        assertEquals(new JacksonJsonSerializer().serialize(rows), server.getRequestBody());
+    }
+
+    @Test
+    public void testUpsertRows() throws SmartsheetException, IOException {
+        List<Row> existing = new ArrayList<Row>();
+        existing.add(createKeyedRow(11L, "a", 1.0));
+        existing.add(createKeyedRow(12L, "b", "old"));
+        existing.add(createKeyedRow(13L, "c", "gone"));
+        existing.add(createKeyedRow(14L, null, "no key"));
+        existing.add(createKeyedRow(15L, "b", "duplicate"));
+        Sheet sheet = new Sheet();
+        sheet.setId(1234L);
+        sheet.setRows(existing);
+        server.setResponseBody(new JacksonJsonSerializer().serialize(sheet));
+
+        final List<Row> added = new ArrayList<Row>();
+        final List<Row> updated = new ArrayList<Row>();
+        final Set<Long> deleted = new HashSet<Long>();
+        final Set<Thread> threads = new HashSet<Thread>();
+        SheetRowResourcesImpl resources = new SheetRowResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/",
+                "accessToken", new DefaultHttpClient(), serializer)) {
+            @Override
+            public List<Row> addRows(long sheetId, List<Row> rows) {
+                threads.add(Thread.currentThread());
+                added.addAll(rows);
+                return rows;
+            }
+
+            @Override
+            public List<Row> updateRows(long sheetId, List<Row> rows) {
+                updated.addAll(rows);
+                return rows;
+            }
+
+            @Override
+            public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) {
+                deleted.addAll(rowIds);
+                return new ArrayList<Long>(rowIds);
+            }
+        };
+
+        List<Row> rows = new ArrayList<Row>();
+        rows.add(createKeyedRow(null, "a", 1));
+        rows.add(createKeyedRow(null, "b", "new"));
+        rows.add(createKeyedRow(null, "d", "added"));
+        RowUpsertResult result = resources.upsertRows(1234L, 1L, rows, true);
+        // the writes run on the calling thread rather than a pool of their own
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+
+        assertEquals(1, result.getUnchangedRowCount());
+        assertEquals(1, added.size());
+        assertSame(rows.get(2), added.get(0));
+        // only the changed cell is sent
+        assertEquals(1, updated.size());
+        assertEquals(12L, updated.get(0).getId().longValue());
+        assertEquals(1, updated.get(0).getCells().size());
+        assertEquals("new", updated.get(0).getCells().get(0).getValue());
+        // the second row with key b is deleted as a duplicate
+        assertEquals(new HashSet<Long>(Arrays.asList(13L, 15L)), deleted);
+        assertEquals(Arrays.asList(13L, 15L), result.getDeletedRowIds());
+
+        try {
+            resources.upsertRows(1234L, 1L, Arrays.asList(createKeyedRow(null, "a", 1), createKeyedRow(null, "a", 2)),
+                    false);
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testUpsertRowsStopsAtFailure() throws SmartsheetException, IOException {
+        List<Row> existing = new ArrayList<Row>();
+        existing.add(createKeyedRow(11L, "a", "old"));
+        existing.add(createKeyedRow(12L, "a", "duplicate"));
+        existing.add(createKeyedRow(13L, "c", "gone"));
+        Sheet sheet = new Sheet();
+        sheet.setId(1234L);
+        sheet.setRows(existing);
+        server.setResponseBody(new JacksonJsonSerializer().serialize(sheet));
+
+        final Set<Long> deleted = new HashSet<Long>();
+        SheetRowResourcesImpl resources = new SheetRowResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/",
+                "accessToken", new DefaultHttpClient(), serializer)) {
+            @Override
+            public List<Row> addRows(long sheetId, List<Row> rows) {
+                return rows;
+            }
+
+            @Override
+            public List<Row> updateRows(long sheetId, List<Row> rows) throws SmartsheetException {
+                throw new SmartsheetException("update failed");
+            }
+
+            @Override
+            public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) {
+                deleted.addAll(rowIds);
+                return new ArrayList<Long>(rowIds);
+            }
+        };
+
+        List<Row> rows = new ArrayList<Row>();
+        rows.add(createKeyedRow(null, "a", "new"));
+        rows.add(createKeyedRow(null, "b", "added"));
+        try {
+            resources.upsertRows(1234L, 1L, rows, true);
+            fail("Exception should have been thrown");
+        } catch (BulkRowWriteException e) {
+            // the add was applied; the deletes (of the missing and the duplicate row) were never sent
+            assertEquals(Collections.singletonList(rows.get(1)), e.getCompleted());
+            assertEquals("update failed", e.getCause().getMessage());
+            assertTrue(deleted.isEmpty());
+        }
+    }
+
+    @Test
+    public void testUpsertRowsWithLeadingZeroKeys() throws SmartsheetException, IOException {
+        List<Row> existing = new ArrayList<Row>();
+        existing.add(createKeyedRow(11L, "007", "1.50"));
+        existing.add(createKeyedRow(12L, "7", "seven"));
+        existing.add(createKeyedRow(13L, 8.0, "eight"));
+        Sheet sheet = new Sheet();
+        sheet.setId(1234L);
+        sheet.setRows(existing);
+        server.setResponseBody(new JacksonJsonSerializer().serialize(sheet));
+
+        final List<Row> added = new ArrayList<Row>();
+        final List<Row> updated = new ArrayList<Row>();
+        SheetRowResourcesImpl resources = new SheetRowResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/",
+                "accessToken", new DefaultHttpClient(), serializer)) {
+            @Override
+            public List<Row> addRows(long sheetId, List<Row> rows) {
+                added.addAll(rows);
+                return rows;
+            }
+
+            @Override
+            public List<Row> updateRows(long sheetId, List<Row> rows) {
+                updated.addAll(rows);
+                return rows;
+            }
+        };
+
+        List<Row> rows = new ArrayList<Row>();
+        rows.add(createKeyedRow(null, "007", "1.5"));
+        rows.add(createKeyedRow(null, "07", "new"));
+        rows.add(createKeyedRow(null, "7", "seven"));
+        rows.add(createKeyedRow(null, 8, "eight"));
+        RowUpsertResult result = resources.upsertRows(1234L, 1L, rows, false);
+
+        // "07" is a key of its own, and numbers still match by value
+        assertEquals(2, result.getUnchangedRowCount());
+        assertEquals(Collections.singletonList(rows.get(1)), added);
+        // "1.50" to "1.5" is a change of text
+        assertEquals(1, updated.size());
+        assertEquals(11L, updated.get(0).getId().longValue());
+        assertEquals("1.5", updated.get(0).getCells().get(0).getValue());
+    }
+
+    private static Row createKeyedRow(Long id, Object key, Object value) {
+        List<Cell> cells = new ArrayList<Cell>();
+        if (key != null) {
+            Cell keyCell = new Cell();
+            keyCell.setColumnId(1L);
+            keyCell.setValue(key);
+            cells.add(keyCell);
+        }
+        Cell cell = new Cell();
+        cell.setColumnId(2L);
+        cell.setValue(value);
+        cells.add(cell);
+        Row row = new Row(id);
+        row.setCells(cells);
+        return row;
+    }
+
     @Test
     public void testGetRow() throws SmartsheetException, IOException {
         server.setResponseBody(new File("src/test/resources/getRow.json"));
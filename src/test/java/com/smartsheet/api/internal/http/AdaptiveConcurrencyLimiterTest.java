@@ -0,0 +1,172 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void testAdditiveIncreaseWhenSaturated() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.acquire());
+            assertTrue(limiter.acquire());
+            limiter.release(100, false);
+            limiter.release(100, false);
+        }
+        assertTrue(limiter.getLimit() > 2);
+        assertEquals(0, limiter.getInFlight());
+
+        // not using the limit doesn't raise it
+        int limit = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.acquire());
+            limiter.release(100, false);
+        }
+        assertEquals(limit, limiter.getLimit());
+    }
+
+    @Test
+    public void testMultiplicativeDecrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10);
+
+        assertTrue(limiter.acquire());
+        limiter.release(100, true);
+        assertEquals(4, limiter.getLimit());
+
+        // the rest of the same burst of failures doesn't cut it again
+        assertTrue(limiter.acquire());
+        limiter.release(100, true);
+        assertEquals(4, limiter.getLimit());
+
+        assertTrue(AdaptiveConcurrencyLimiter.isOverload(429, null));
+        assertTrue(AdaptiveConcurrencyLimiter.isOverload(503, null));
+        assertTrue(AdaptiveConcurrencyLimiter.isOverload(500, 4002));
+        assertFalse(AdaptiveConcurrencyLimiter.isOverload(500, 4004));
+    }
+
+    @Test
+    public void testLatencySpikeAndMinimum() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        assertTrue(limiter.acquire());
+        limiter.release(10, false);
+        assertTrue(limiter.acquire());
+        limiter.release(1000, false);
+        assertEquals(1, limiter.getLimit());
+
+        Thread.sleep(50);
+        assertTrue(limiter.acquire());
+        limiter.release(10, true);
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    public void testLatencySpikeOfUnknownLength() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10);
+
+        // chunked and decompressed responses don't report their length
+        assertTrue(limiter.acquire());
+        limiter.release(10, -1, false);
+        assertTrue(limiter.acquire());
+        limiter.release(1000, -1, false);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void testQueuedUntilReleased() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.tryAcquire(new Runnable() {
+            @Override
+            public void run() {
+                ran.set(true);
+            }
+        }));
+        assertFalse(ran.get());
+
+        limiter.release();
+        assertTrue(ran.get());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void testLargeResponsesAreNotLatencySpikes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10);
+
+        assertTrue(limiter.acquire());
+        limiter.release(10, false);
+        // a big sheet or attachment is slow because of its size
+        assertTrue(limiter.acquire());
+        limiter.release(1000, AdaptiveConcurrencyLimiter.LARGE_RESPONSE_BYTES + 1, false);
+        assertEquals(4, limiter.getLimit());
+
+        // and doesn't raise the baseline either
+        assertTrue(limiter.acquire());
+        limiter.release(1000, 100, false);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void testQueuedServedBeforeBlocking() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.tryAcquire(new Runnable() {
+            @Override
+            public void run() {
+                ran.set(true);
+            }
+        }));
+        final AtomicBoolean blockingAcquired = new AtomicBoolean();
+        Thread blocking = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                blockingAcquired.set(limiter.acquire());
+            }
+        });
+        blocking.start();
+        Thread.sleep(50);
+
+        // the freed permit goes to the queued request, the blocking caller keeps waiting
+        limiter.release();
+        assertTrue(ran.get());
+        blocking.join(100);
+        assertFalse(blockingAcquired.get());
+
+        limiter.release();
+        blocking.join(5000);
+        assertTrue(blockingAcquired.get());
+        assertEquals(1, limiter.getInFlight());
+    }
+}
@@ -20,14 +20,41 @@ package com.smartsheet.api.internal.http;
  * %[license]
  */
 
+import com.smartsheet.api.HttpTestServer;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.models.Error;
+import org.apache.http.concurrent.FutureCallback;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.junit.Before;
 import org.junit.Test;
 
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class DefaultHttpClientTest {
@@ -132,4 +159,348 @@ public class DefaultHttpClientTest {
 
     }
 
+    @Test
+    public void testConcurrentRequestsSharePooledClient() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        final String body = "{\"id\":1234,\"name\":\"shared\"}";
+        server.setResponseBody(body);
+
+        final HttpClient pooledClient = new DefaultHttpClient(DefaultHttpClient.createPooledHttpClient(
+                DefaultHttpClient.createConnectionManager(16, 16), false, 5000L, 5000L), new JacksonJsonSerializer());
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        HttpRequest request = new HttpRequest();
+                        request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+                        request.setMethod(HttpMethod.GET);
+                        // other threads releasing their own responses must never close this one
+                        HttpResponse response = pooledClient.request(request);
+                        try {
+                            return new String(StreamUtil.readBytesFromStream(response.getEntity().getContent()), "UTF-8");
+                        } finally {
+                            pooledClient.releaseConnection();
+                        }
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals(body, result.get());
+            }
+        } finally {
+            executor.shutdown();
+            pooledClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testRequestAsync() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        String body = "{\"id\":1234,\"name\":\"async\"}";
+        server.setResponseBody(body);
+
+        DefaultHttpClient asyncClient = new DefaultHttpClient();
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+            request.setMethod(HttpMethod.GET);
+
+            final AtomicReference<HttpResponse> callbackResponse = new AtomicReference<HttpResponse>();
+            final CountDownLatch callbackDone = new CountDownLatch(1);
+            Future<HttpResponse> future = asyncClient.requestAsync(request, new FutureCallback<HttpResponse>() {
+                public void completed(HttpResponse result) {
+                    callbackResponse.set(result);
+                    callbackDone.countDown();
+                }
+                public void failed(Exception ex) { }
+                public void cancelled() { }
+            });
+            HttpResponse response = future.get(10, TimeUnit.SECONDS);
+            assertEquals(200, response.getStatusCode());
+            assertEquals(body, new String(StreamUtil.readBytesFromStream(response.getEntity().getContent()), "UTF-8"));
+            // the future completes before its callback is invoked
+            assertTrue(callbackDone.await(10, TimeUnit.SECONDS));
+            assertSame(response, callbackResponse.get());
+        } finally {
+            asyncClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testRequestAsyncRetries() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        server.setStatus(500);
+        server.setResponseBody("{\"errorCode\":4004,\"message\":\"An unexpected error has occurred.\"}");
+
+        final AtomicInteger attempts = new AtomicInteger();
+        DefaultHttpClient asyncClient = new DefaultHttpClient() {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                attempts.set(previousAttempts);
+                return previousAttempts < 3 ? 10 : -1;
+            }
+        };
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+            request.setMethod(HttpMethod.GET);
+
+            HttpResponse response = asyncClient.requestAsync(request, null).get(10, TimeUnit.SECONDS);
+            assertEquals(500, response.getStatusCode());
+            assertEquals(3, attempts.get());
+        } finally {
+            asyncClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testNonRepeatableRequestBody() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        server.setStatus(500);
+        server.setResponseBody("{\"errorCode\":4004,\"message\":\"An unexpected error has occurred.\"}");
+
+        final AtomicInteger attempts = new AtomicInteger();
+        DefaultHttpClient retryingClient = new DefaultHttpClient() {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                attempts.set(previousAttempts);
+                return previousAttempts < 2 ? 10 : -1;
+            }
+        };
+        try {
+            // a small body is buffered, so the request is retried with the whole body
+            HttpRequest request = createPostRequest(new byte[1000]);
+            assertEquals(500, retryingClient.request(request).getStatusCode());
+            retryingClient.releaseConnection();
+            assertEquals(2, attempts.get());
+            assertEquals(1000, server.getRequestBody().length());
+
+            // a large one is streamed as it is read, and sent only once
+            attempts.set(0);
+            request = createPostRequest(new byte[StreamUtil.ONE_MB * 3]);
+            assertEquals(500, retryingClient.request(request).getStatusCode());
+            retryingClient.releaseConnection();
+            assertEquals(0, attempts.get());
+            assertEquals(StreamUtil.ONE_MB * 3, server.getRequestBody().length());
+            assertFalse(request.getEntity().getContent() instanceof ByteArrayInputStream);
+        } finally {
+            retryingClient.close();
+            server.stop();
+        }
+    }
+
+    /**
+     * @return a POST whose body is a stream without mark/reset, of unknown length
+     */
+    private static HttpRequest createPostRequest(byte[] body) throws URISyntaxException {
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/octet-stream");
+        entity.setContentLength(-1);
+        entity.setContent(new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        });
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("http://localhost:9090/1.1/sheets/1234/attachments"));
+        request.setMethod(HttpMethod.POST);
+        request.setEntity(entity);
+        return request;
+    }
+
+    @Test
+    public void testRequestAsyncHonorsShouldRetry() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        server.setStatus(500);
+        server.setResponseBody("{\"errorCode\":4004,\"message\":\"An unexpected error has occurred.\"}");
+
+        final AtomicInteger attempts = new AtomicInteger();
+        DefaultHttpClient asyncClient = new DefaultHttpClient() {
+            @Override
+            public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+                attempts.set(previousAttempts);
+                return previousAttempts < 3;
+            }
+        };
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+            request.setMethod(HttpMethod.GET);
+
+            // the same decision as a blocking request
+            HttpResponse response = asyncClient.requestAsync(request, null).get(10, TimeUnit.SECONDS);
+            assertEquals(500, response.getStatusCode());
+            assertEquals(3, attempts.get());
+
+            attempts.set(0);
+            assertEquals(500, asyncClient.request(request).getStatusCode());
+            asyncClient.releaseConnection();
+            assertEquals(3, attempts.get());
+        } finally {
+            asyncClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testRequestAsyncShouldRetryDoesNotBlockOthers() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        server.setStatus(500);
+        server.setResponseBody("{\"errorCode\":4004,\"message\":\"An unexpected error has occurred.\"}");
+
+        // each decision waits for the other, as an override sleeping through its backoff would
+        final CountDownLatch deciding = new CountDownLatch(2);
+        final AtomicInteger concurrent = new AtomicInteger();
+        DefaultHttpClient asyncClient = new DefaultHttpClient() {
+            @Override
+            public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+                deciding.countDown();
+                try {
+                    if (deciding.await(5, TimeUnit.SECONDS)) {
+                        concurrent.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+            request.setMethod(HttpMethod.GET);
+
+            Future<HttpResponse> first = asyncClient.requestAsync(request, null);
+            Future<HttpResponse> second = asyncClient.requestAsync(request, null);
+            assertEquals(500, first.get(10, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(500, second.get(10, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(2, concurrent.get());
+        } finally {
+            asyncClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testRequestAsyncDefaultPoolRunsManyAtOnce() throws Exception {
+        // every request is answered only once ten are in flight together
+        final CountDownLatch inFlight = new CountDownLatch(10);
+        final AtomicInteger together = new AtomicInteger();
+        HttpTestServer server = new HttpTestServer() {
+            @Override
+            public Handler getMockHandler() {
+                final Handler handler = super.getMockHandler();
+                return new AbstractHandler() {
+                    @Override
+                    public void handle(String target, Request baseRequest, HttpServletRequest request,
+                                       HttpServletResponse response) throws IOException, ServletException {
+                        inFlight.countDown();
+                        try {
+                            if (inFlight.await(5, TimeUnit.SECONDS)) {
+                                together.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        handler.handle(target, baseRequest, request, response);
+                    }
+                };
+            }
+        };
+        server.setPort(9090);
+        server.start();
+        server.setResponseBody("{}");
+
+        DefaultHttpClient asyncClient = new DefaultHttpClient();
+        try {
+            HttpRequest request = new HttpRequest();
+            request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+            request.setMethod(HttpMethod.GET);
+
+            List<Future<HttpResponse>> responses = new ArrayList<Future<HttpResponse>>();
+            for (int i = 0; i < 10; i++) {
+                responses.add(asyncClient.requestAsync(request, null));
+            }
+            for (Future<HttpResponse> response : responses) {
+                assertEquals(200, response.get(20, TimeUnit.SECONDS).getStatusCode());
+            }
+            assertEquals(10, together.get());
+        } finally {
+            asyncClient.close();
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testRateLimitBackoffIsShared() throws Exception {
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        server.setStatus(429);
+        server.setResponseBody("{\"errorCode\":4003,\"message\":\"Rate limit exceeded.\"}");
+
+        final AtomicInteger backoffs = new AtomicInteger();
+        final DefaultHttpClient sharedClient = new DefaultHttpClient() {
+            @Override
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                // only the first request to hit the limit backs off
+                return backoffs.getAndIncrement() == 0 ? 500 : -1;
+            }
+        };
+        try {
+            final HttpRequest request = new HttpRequest();
+            request.setUri(new URI("http://localhost:9090/1.1/sheets/1234"));
+            request.setMethod(HttpMethod.GET);
+
+            Thread first = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        sharedClient.request(request);
+                    } catch (HttpClientException ignore) {
+                    } finally {
+                        sharedClient.releaseConnection();
+                    }
+                }
+            });
+            first.start();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sharedClient.getSharedBackoff().getRemainingMillis() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            long remaining = sharedClient.getSharedBackoff().getRemainingMillis();
+            assertTrue(remaining > 0);
+
+            // a second caller waits out the first caller's backoff before sending anything
+            long start = System.currentTimeMillis();
+            HttpResponse response = sharedClient.requestAsync(request, null).get(10, TimeUnit.SECONDS);
+            assertEquals(429, response.getStatusCode());
+            assertTrue(System.currentTimeMillis() - start >= remaining - 50);
+
+            first.join(10000);
+        } finally {
+            sharedClient.close();
+            server.stop();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Row;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonArrayInputStreamTest {
+    private final JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+
+    @Test
+    public void testReadMatchesListSerialization() throws Exception {
+        List<Row> rows = createRows(1000);
+        String expected = serializer.serialize(rows);
+
+        JsonArrayInputStream stream = new JsonArrayInputStream(rows, serializer);
+        assertEquals(expected, new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+        assertEquals(-1, stream.read());
+
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        stream.writeTo(written);
+        assertEquals(expected, new String(written.toByteArray(), "UTF-8"));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        JsonArrayInputStream stream = new JsonArrayInputStream(Collections.emptyList(), serializer);
+        assertEquals("[]", new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+    }
+
+    @Test
+    public void testResetRegenerates() throws Exception {
+        List<Row> rows = createRows(1000);
+        byte[] expected = serializer.serialize(rows).getBytes("UTF-8");
+
+        JsonArrayInputStream stream = new JsonArrayInputStream(rows, serializer);
+        assertTrue(stream.markSupported());
+        stream.mark(-1);
+        StreamUtil.readBytesFromStream(stream);
+        stream.reset();
+        assertEquals(new String(expected, "UTF-8"), new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+
+        // a mark part way through is found again by skipping the regenerated bytes
+        stream.reset();
+        byte[] head = new byte[20000];
+        int read = 0;
+        while (read < head.length) {
+            read += stream.read(head, read, head.length - read);
+        }
+        stream.mark(-1);
+        int next = stream.read();
+        StreamUtil.readBytesFromStream(stream);
+        stream.reset();
+        assertEquals(next, stream.read());
+        assertEquals(expected[20000] & 0xff, next);
+    }
+
+    private static List<Row> createRows(int count) {
+        List<Row> rows = new ArrayList<Row>();
+        for (int i = 0; i < count; i++) {
+            Cell cell = new Cell();
+            cell.setColumnId(8764071660021636L);
+            cell.setValue("value " + i);
+            Row row = new Row();
+            row.setToBottom(true);
+            row.setCells(Collections.singletonList(cell));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
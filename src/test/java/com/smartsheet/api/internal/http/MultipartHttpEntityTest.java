@@ -0,0 +1,79 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.util.StreamUtil;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MultipartHttpEntityTest {
+
+    @Test
+    public void testContent() throws Exception {
+        MultipartHttpEntity entity = new MultipartHttpEntity()
+                .addPart("comment", "application/json; charset=UTF-8", "{\"text\":\"hi\"}".getBytes("UTF-8"))
+                .addFilePart("file", "a \"b\".txt", "text/plain", new ByteArrayInputStream("data".getBytes("UTF-8")), 4);
+        String boundary = entity.getBoundary();
+
+        String expected = "--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"comment\"\r\n" +
+                "Content-Type: application/json; charset=UTF-8\r\n" +
+                "\r\n" +
+                "{\"text\":\"hi\"}\r\n" +
+                "--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"file\"; filename=\"a \\\"b\\\".txt\"\r\n" +
+                "Content-Type: text/plain\r\n" +
+                "\r\n" +
+                "data\r\n" +
+                "--" + boundary + "--\r\n";
+        assertEquals("multipart/form-data; boundary=" + boundary, entity.getContentType());
+        assertEquals(expected.getBytes("UTF-8").length, entity.getContentLength());
+
+        // the content can be replayed for a retry
+        InputStream content = entity.getContent();
+        assertTrue(content.markSupported());
+        content.mark((int) entity.getContentLength());
+        assertEquals(expected, new String(StreamUtil.readBytesFromStream(content), "UTF-8"));
+        content.reset();
+        assertEquals(expected, new String(StreamUtil.readBytesFromStream(content), "UTF-8"));
+    }
+
+    @Test
+    public void testUnknownLength() throws Exception {
+        InputStream unmarkable = new ByteArrayInputStream("data".getBytes("UTF-8")) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        MultipartHttpEntity entity = new MultipartHttpEntity().addFilePart("file", "a.txt", "text/plain", unmarkable, -1);
+
+        assertEquals(-1, entity.getContentLength());
+        assertFalse(entity.getContent().markSupported());
+    }
+}
@@ -0,0 +1,78 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+    @Test
+    public void testBurstThenPace() throws Exception {
+        RateLimiter limiter = new RateLimiter(60, 2);
+        HttpRequest request = createRequest(HttpMethod.GET, "sheets/1234", "token");
+
+        assertEquals(0, limiter.reserve(request));
+        assertEquals(0, limiter.reserve(request));
+        long waitMillis = limiter.reserve(request);
+        assertTrue(waitMillis > 900 && waitMillis <= 1000);
+    }
+
+    @Test
+    public void testBucketPerAccessToken() throws Exception {
+        RateLimiter limiter = new RateLimiter(60, 1);
+
+        assertEquals(0, limiter.reserve(createRequest(HttpMethod.GET, "sheets/1234", "token1")));
+        assertEquals(0, limiter.reserve(createRequest(HttpMethod.GET, "sheets/1234", "token2")));
+        assertTrue(limiter.reserve(createRequest(HttpMethod.GET, "sheets/1234", "token1")) > 0);
+    }
+
+    @Test
+    public void testExpensiveOperations() throws Exception {
+        RateLimiter limiter = new RateLimiter(60, RateLimiter.EXPENSIVE_OPERATION_COST);
+
+        assertEquals(RateLimiter.EXPENSIVE_OPERATION_COST,
+                limiter.getCost(createRequest(HttpMethod.POST, "sheets/1234/attachments", "token")));
+        assertEquals(RateLimiter.EXPENSIVE_OPERATION_COST,
+                limiter.getCost(createRequest(HttpMethod.GET, "sheets/1/rows/2/columns/3/history", "token")));
+        assertEquals(1, limiter.getCost(createRequest(HttpMethod.GET, "sheets/1234/attachments", "token")));
+
+        // an attachment empties the bucket
+        assertEquals(0, limiter.reserve(createRequest(HttpMethod.POST, "sheets/1234/attachments", "token")));
+        assertTrue(limiter.reserve(createRequest(HttpMethod.GET, "sheets/1234", "token")) > 900);
+    }
+
+    private static HttpRequest createRequest(HttpMethod method, String path, String accessToken) throws Exception {
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("https://api.smartsheet.com/2.0/" + path));
+        request.setMethod(method);
+        HashMap<String, String> headers = new HashMap<String, String>();
+        headers.put("Authorization", "Bearer " + accessToken);
+        request.setHeaders(headers);
+        return request;
+    }
+}
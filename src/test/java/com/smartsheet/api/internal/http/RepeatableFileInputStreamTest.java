@@ -0,0 +1,93 @@
+package com.smartsheet.api.internal.http;
+
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.util.StreamUtil;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RepeatableFileInputStreamTest {
+
+    @Test
+    public void testResetAfterEndOfFile() throws Exception {
+        File file = createFile("Hello World!");
+        RepeatableFileInputStream stream = new RepeatableFileInputStream(file);
+
+        assertTrue(stream.markSupported());
+        stream.mark(0);
+        assertEquals("Hello World!", new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+        assertEquals(-1, stream.read());
+
+        // the file was closed at end of file and is reopened at the mark
+        stream.reset();
+        assertEquals('H', stream.read());
+        assertEquals(6, stream.skip(6));
+        assertEquals("orld!", new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+        stream.close();
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        try {
+            new RepeatableFileInputStream(new File("missing-file.bin"));
+            fail("Exception should have been thrown");
+        } catch (FileNotFoundException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testFileChannelEntity() throws Exception {
+        File file = createFile("Hello World!");
+        FileChannelEntity entity = new FileChannelEntity(file, 6, -1);
+
+        assertEquals(6, entity.getContentLength());
+        assertTrue(entity.isRepeatable());
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            entity.writeTo(out);
+            assertArrayEquals("World!".getBytes("UTF-8"), out.toByteArray());
+        }
+        assertEquals("World!", new String(StreamUtil.readBytesFromStream(entity.getContent()), "UTF-8"));
+    }
+
+    private static File createFile(String content) throws Exception {
+        File file = File.createTempFile("upload", ".txt");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+}
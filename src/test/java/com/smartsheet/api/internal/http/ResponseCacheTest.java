@@ -0,0 +1,140 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.HttpTestServer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ResponseCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    HttpTestServer server;
+    DefaultHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        client = new DefaultHttpClient();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    public void testFreshEntriesAreServedFromDisk() throws Exception {
+        File directory = folder.newFolder();
+        ResponseCache cache = new ResponseCache(directory, 1 << 20).addRule(ResponseCache.METADATA_PATHS, 60000, 0);
+        client.setResponseCache(cache);
+
+        server.setResponseBody("{\"version\":1}");
+        assertEquals("{\"version\":1}", get("serverinfo", "token"));
+        server.setResponseBody("{\"version\":2}");
+        assertEquals("{\"version\":1}", get("serverinfo", "token"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // other tokens and paths that don't match a rule aren't served from the entry
+        assertEquals("{\"version\":2}", get("serverinfo", "other"));
+        assertEquals("{\"version\":2}", get("sheets/1", "token"));
+
+        // entries outlive the client
+        client.setResponseCache(new ResponseCache(directory, 1 << 20).addRule("/serverinfo$", 60000, 0));
+        assertEquals("{\"version\":1}", get("serverinfo", "token"));
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws Exception {
+        ResponseCache cache = new ResponseCache(folder.newFolder(), 1 << 20).addRule("/folders/\\d+$", 0, 60000);
+        client.setResponseCache(cache);
+
+        server.setResponseBody("{\"name\":\"old\"}");
+        assertEquals("{\"name\":\"old\"}", get("folders/1", "token"));
+        server.setResponseBody("{\"name\":\"new\"}");
+        // the expired entry is returned while the new one is fetched
+        assertEquals("{\"name\":\"old\"}", get("folders/1", "token"));
+        assertEquals(1, cache.getStaleHitCount());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = get("folders/1", "token");
+        while (!body.equals("{\"name\":\"new\"}") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            body = get("folders/1", "token");
+        }
+        assertEquals("{\"name\":\"new\"}", body);
+    }
+
+    @Test
+    public void testSizeLimit() throws Exception {
+        ResponseCache cache = new ResponseCache(folder.newFolder(), 1000).addRule("/users$", 60000, 0);
+        client.setResponseCache(cache);
+
+        StringBuilder body = new StringBuilder();
+        while (body.length() < 400) {
+            body.append("{\"email\":\"someone@example.com\"}");
+        }
+        server.setResponseBody(body.toString());
+        for (int i = 0; i < 5; i++) {
+            get("users", "token" + i);
+        }
+        assertTrue(cache.getSize() <= 1000);
+        // the most recent entry is kept
+        server.setResponseBody("[]");
+        assertEquals(body.toString(), get("users", "token4"));
+    }
+
+    private String get(String path, String token) throws Exception {
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("http://localhost:9090/2.0/" + path));
+        request.setMethod(HttpMethod.GET);
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("Authorization", "Bearer " + token);
+        request.setHeaders(headers);
+        try {
+            HttpResponse response = client.request(request);
+            return new String(StreamUtil.readBytesFromStream(response.getEntity().getContent()), "UTF-8");
+        } finally {
+            client.releaseConnection();
+        }
+    }
+}
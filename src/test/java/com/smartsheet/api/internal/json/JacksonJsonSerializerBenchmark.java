@@ -0,0 +1,81 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Row;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+
+/**
+ * Compares reading a small Result&lt;Row&gt; response (the shape of an updateRows/getRow round trip) through the
+ * serializer's cached readers against resolving the parametrized type on every call, as the serializer used to.
+ *
+ * Not a unit test; run it with
+ * {@code mvn test-compile exec:java -Dexec.mainClass=com.smartsheet.api.internal.json.JacksonJsonSerializerBenchmark
+ * -Dexec.classpathScope=test}.
+ */
+public class JacksonJsonSerializerBenchmark {
+    private static final int WARMUP_ITERATIONS = 200000;
+    private static final int ITERATIONS = 1000000;
+
+    private static final String RESULT_JSON = "{\"message\":\"SUCCESS\",\"resultCode\":0,\"version\":12,\"result\":" +
+            "{\"id\":7670198317672324,\"sheetId\":2331373580117892,\"rowNumber\":1,\"expanded\":true," +
+            "\"createdAt\":\"2013-10-16T20:08:20Z\",\"modifiedAt\":\"2013-10-16T20:08:20Z\",\"cells\":[" +
+            "{\"columnId\":4583173393803140,\"value\":\"Revision 1\",\"displayValue\":\"Revision 1\"}," +
+            "{\"columnId\":2331373580117892,\"value\":12.5,\"displayValue\":\"12.5\"}]}}";
+
+    public static void main(String[] args) throws Exception {
+        byte[] json = RESULT_JSON.getBytes("UTF-8");
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+        Field field = JacksonJsonSerializer.class.getDeclaredField("OBJECT_MAPPER");
+        field.setAccessible(true);
+        ObjectMapper mapper = (ObjectMapper) field.get(null);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializer.deserializeResult(Row.class, new ByteArrayInputStream(json));
+            readUncached(mapper, json);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            readUncached(mapper, json);
+        }
+        long uncachedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserializeResult(Row.class, new ByteArrayInputStream(json));
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        System.out.println(String.format("Result<Row>: type resolved per call %d ns/op, cached reader %d ns/op",
+                uncachedNanos / ITERATIONS, cachedNanos / ITERATIONS));
+    }
+
+    private static Result<Row> readUncached(ObjectMapper mapper, byte[] json) throws Exception {
+        return mapper.readValue(new ByteArrayInputStream(json),
+                mapper.getTypeFactory().constructParametrizedType(Result.class, Result.class, Row.class));
+    }
+}
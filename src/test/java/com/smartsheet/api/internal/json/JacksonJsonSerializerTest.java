@@ -23,8 +23,12 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.ContactObjectValue;
 import com.smartsheet.api.models.Folder;
+import com.smartsheet.api.models.MultiContactObjectValue;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.User;
 import org.junit.Before;
 import org.junit.Test;
@@ -437,4 +441,51 @@ public class JacksonJsonSerializerTest {
         }
     }
 
+    @Test
+    public void testCachedReadersFollowFailOnUnknownProperties() throws JSONSerializerException {
+        String json = "{\"message\":\"SUCCESS\",\"result\":{\"id\":1,\"name\":\"folder\",\"unknownField\":1}}";
+
+        JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        try {
+            Result<Folder> result = jjs.deserializeResult(Folder.class, new ByteArrayInputStream(json.getBytes()));
+            assertEquals("folder", result.getResult().getName());
+
+            // the reader cached above must not keep the lenient configuration
+            JacksonJsonSerializer.setFailOnUnknownProperties(true);
+            try {
+                jjs.deserializeResult(Folder.class, new ByteArrayInputStream(json.getBytes()));
+                fail("Exception should have been thrown");
+            } catch (JSONSerializerException ex) {
+                // Expected
+            }
+        } finally {
+            JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        }
+    }
+
+    @Test
+    public void testDeduplicateStrings() throws IOException {
+        String json = "{\"id\":1,\"rows\":[" +
+                "{\"id\":1,\"cells\":[{\"columnId\":1,\"value\":\"Done\",\"displayValue\":\"Done\"}," +
+                "{\"columnId\":2,\"objectValue\":{\"objectType\":\"CONTACT\",\"email\":\"a@example.com\",\"name\":\"A\"}}]}," +
+                "{\"id\":2,\"cells\":[{\"columnId\":1,\"value\":\"Done\",\"displayValue\":\"Done\"}," +
+                "{\"columnId\":2,\"objectValue\":{\"objectType\":\"MULTI_CONTACT\",\"values\":[" +
+                "{\"objectType\":\"CONTACT\",\"email\":\"a@example.com\",\"name\":\"A\"}]}}]}]}";
+
+        Sheet sheet = new JacksonJsonSerializer(true).deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+        Cell first = sheet.getRows().get(0).getCells().get(0);
+        Cell second = sheet.getRows().get(1).getCells().get(0);
+        assertEquals("Done", second.getDisplayValue());
+        assertSame(first.getDisplayValue(), second.getDisplayValue());
+        assertSame(first.getDisplayValue(), second.getValue());
+        ContactObjectValue contact = (ContactObjectValue) sheet.getRows().get(0).getCells().get(1).getObjectValue();
+        ContactObjectValue listedContact = ((MultiContactObjectValue) sheet.getRows().get(1).getCells().get(1)
+                .getObjectValue()).getValues().get(0);
+        assertSame(contact.getEmail(), listedContact.getEmail());
+
+        // off by default
+        sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+        assertNotSame(sheet.getRows().get(0).getCells().get(0).getDisplayValue(),
+                sheet.getRows().get(1).getCells().get(0).getDisplayValue());
+    }
 }
@@ -0,0 +1,80 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.models.Sheet;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Measures how long it takes to parse a 10,000 row project sheet whose cells hold object values (contacts,
+ * multi-contacts, durations and predecessor lists), the case dominated by the object value deserializer.
+ *
+ * Not a unit test; run it with
+ * {@code mvn test-compile exec:java -Dexec.mainClass=com.smartsheet.api.internal.json.ObjectValueDeserializerBenchmark
+ * -Dexec.classpathScope=test}.
+ */
+public class ObjectValueDeserializerBenchmark {
+    private static final int ROWS = 10000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args) throws Exception {
+        byte[] json = createSheetJson(ROWS).getBytes("UTF-8");
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializer.deserialize(Sheet.class, new ByteArrayInputStream(json));
+        }
+        long start = System.nanoTime();
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows += serializer.deserialize(Sheet.class, new ByteArrayInputStream(json)).getRows().size();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1000000;
+        System.out.println(String.format("parsed %d rows (%d KB) in %d ms per sheet", rows / ITERATIONS,
+                json.length / 1024, elapsedMillis / ITERATIONS));
+    }
+
+    private static String createSheetJson(int rowCount) {
+        StringBuilder json = new StringBuilder("{\"id\":1,\"name\":\"benchmark\",\"rows\":[");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i).append(",\"rowNumber\":").append(i + 1).append(",\"cells\":[")
+                    .append("{\"columnId\":1,\"objectValue\":{\"objectType\":\"CONTACT\",\"email\":\"user")
+                    .append(i).append("@example.com\",\"name\":\"User ").append(i).append("\"}},")
+                    .append("{\"columnId\":2,\"objectValue\":{\"objectType\":\"MULTI_CONTACT\",\"values\":[")
+                    .append("{\"objectType\":\"CONTACT\",\"email\":\"a@example.com\",\"name\":\"A\"},")
+                    .append("{\"objectType\":\"CONTACT\",\"email\":\"b@example.com\",\"name\":\"B\"}]}},")
+                    .append("{\"columnId\":3,\"objectValue\":{\"objectType\":\"DURATION\",\"days\":")
+                    .append(i % 10).append(",\"hours\":4}},")
+                    .append("{\"columnId\":4,\"objectValue\":{\"objectType\":\"PREDECESSOR_LIST\",\"predecessors\":[")
+                    .append("{\"rowId\":").append(Math.max(0, i - 1)).append(",\"rowNumber\":").append(Math.max(1, i))
+                    .append(",\"type\":\"FS\",\"lag\":{\"objectType\":\"DURATION\",\"days\":1}}]}},")
+                    .append("{\"columnId\":5,\"value\":\"Task ").append(i).append("\",\"objectValue\":\"Task ")
+                    .append(i).append("\"}]}");
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -301,6 +301,22 @@ public class ObjectValueDeserializerTest {
         assertEquals("true", jacksonJsonSerializer.serialize(actual));
     }
 
+    @Test
+    public void multiContact_objectTypeLast() throws IOException, JSONSerializerException {
+        // the values are read before it is known whether they are contacts or picklist options
+        String json = "{\"objectValue\": {\"values\": [" +
+                "{\"objectType\": \"CONTACT\", \"email\": \"a@example.com\", \"name\": \"A\"}," +
+                "{\"objectType\": \"CONTACT\", \"email\": \"b@example.com\", \"imageId\": \"img\"}]," +
+                "\"objectType\": \"MULTI_CONTACT\"}}";
+
+        MultiContactObjectValue objectValue = (MultiContactObjectValue) getObjectValue(json);
+
+        assertEquals(2, objectValue.getValues().size());
+        assertEquals("A", objectValue.getValues().get(0).getName());
+        assertEquals("b@example.com", objectValue.getValues().get(1).getEmail());
+        assertEquals("img", objectValue.getValues().get(1).getImageId());
+    }
+
     private static class ExpectedAttributeValue {
         final String attributeName;
         final Object attributeValue;
@@ -0,0 +1,112 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarSheetTest {
+    private static final String SHEET_JSON = "{\"id\":5,\"name\":\"columnar\",\"version\":3,\"columns\":[" +
+            "{\"id\":101,\"index\":0,\"title\":\"Task\"},{\"id\":102,\"index\":1,\"title\":\"Cost\"}," +
+            "{\"id\":103,\"index\":2,\"title\":\"Done\"}],\"rows\":[" +
+            "{\"id\":30,\"rowNumber\":1,\"cells\":[{\"columnId\":101,\"value\":\"Plan\",\"displayValue\":\"Plan\"}," +
+            "{\"columnId\":102,\"value\":1200,\"displayValue\":\"$1,200.00\"},{\"columnId\":103,\"value\":true}]}," +
+            "{\"id\":10,\"rowNumber\":2,\"parentId\":30,\"cells\":[{\"columnId\":101,\"value\":\"Build\",\"displayValue\":\"Build\"}," +
+            "{\"columnId\":102,\"value\":12.5,\"displayValue\":\"12.5\"}]}," +
+            "{\"id\":20,\"rowNumber\":3,\"cells\":[{\"columnId\":101,\"value\":\"Plan\",\"displayValue\":\"Plan\"}]}]}";
+
+    ColumnarSheet sheet;
+
+    @Before
+    public void setUp() throws Exception {
+        sheet = ColumnarSheet.of(new JacksonJsonSerializer().deserialize(Sheet.class,
+                new ByteArrayInputStream(SHEET_JSON.getBytes("UTF-8"))));
+    }
+
+    @Test
+    public void testAccessors() {
+        assertEquals(5L, sheet.getId().longValue());
+        assertEquals(3, sheet.getVersion().intValue());
+        assertEquals(3, sheet.getRowCount());
+        assertEquals(3, sheet.getColumnCount());
+
+        int build = sheet.indexOfRow(10L);
+        assertEquals(1, build);
+        assertEquals(2, sheet.getRowNumber(build));
+        assertEquals(30L, sheet.getParentId(build).longValue());
+        assertNull(sheet.getParentId(0));
+        assertEquals(-1, sheet.indexOfRow(99L));
+        assertEquals(2, sheet.indexOfRow(20L));
+
+        int task = sheet.indexOfColumn(101L);
+        int cost = sheet.indexOfColumn(102L);
+        int done = sheet.indexOfColumn(103L);
+        assertEquals("Plan", sheet.getValue(0, task));
+        assertEquals("Plan", sheet.getDisplayValue(2, task));
+        assertEquals(1200.0, sheet.getValue(0, cost));
+        assertEquals("$1,200.00", sheet.getDisplayValue(0, cost));
+        assertTrue(sheet.isNumber(build, cost));
+        assertEquals(12.5, sheet.getNumber(build, cost), 0);
+        assertEquals("12.5", sheet.getDisplayValue(build, cost));
+        assertEquals(Boolean.TRUE, sheet.getValue(0, done));
+
+        // cells the row doesn't have
+        assertNull(sheet.getValue(2, cost));
+        assertNull(sheet.getDisplayValue(2, cost));
+        assertFalse(sheet.isNumber(2, cost));
+        assertTrue(Double.isNaN(sheet.getNumber(2, cost)));
+    }
+
+    @Test
+    public void testParallelScan() throws Exception {
+        final int cost = sheet.indexOfColumn(102L);
+        final AtomicInteger visited = new AtomicInteger();
+        final AtomicInteger total = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            sheet.parallelScan(executor, 2, new ColumnarSheet.RowVisitor() {
+                @Override
+                public void visit(ColumnarSheet sheet, int row) {
+                    visited.incrementAndGet();
+                    if (sheet.isNumber(row, cost)) {
+                        total.addAndGet((int) (sheet.getNumber(row, cost) * 10));
+                    }
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(3, visited.get());
+        assertEquals(12125, total.get());
+    }
+}
@@ -20,6 +20,8 @@ package com.smartsheet.api.models;
  * %[license]
  */
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.models.format.Format;
 import org.junit.Before;
 import org.junit.Test;
@@ -60,6 +62,30 @@ public class RowTest {
         assertNull(row1.getColumnByIndex(1));
     }
 
+    @Test
+    public void testTrackChanges() throws Exception {
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+        String json = "{\"id\":1,\"rowNumber\":3,\"expanded\":true,\"createdAt\":\"2021-01-01T00:00:00Z\","
+                + "\"cells\":[{\"columnId\":2,\"value\":\"old\",\"displayValue\":\"old\"},"
+                + "{\"columnId\":3,\"value\":5.0,\"displayValue\":\"5\"}]}";
+        Row row = serializer.deserialize(Row.class, new java.io.ByteArrayInputStream(json.getBytes("UTF-8")));
+
+        // without tracking everything is sent back
+        assertTrue(serializer.serialize(row).contains("\"rowNumber\":3"));
+
+        row.trackChanges();
+        assertTrue(row.getChangedFields().isEmpty());
+        row.getCells().get(0).setValue("new");
+        row.setExpanded(false);
+        row.getCells().add(new Cell(4L).setValue("added"));
+
+        // only the id, the changed properties and the changed and added cells are sent
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals(mapper.readTree("{\"id\":1,\"expanded\":false,\"cells\":[{\"columnId\":2,\"value\":\"new\"},"
+                + "{\"columnId\":4,\"value\":\"added\"}]}"), mapper.readTree(serializer.serialize(row)));
+        assertEquals(mapper.readTree("{\"id\":1}"), mapper.readTree(serializer.serialize(new Row(1L).trackChanges())));
+    }
+
     @Test
     public void testInsertRowBuilder() {
         Format format = new Format("new format");
@@ -0,0 +1,183 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet SDK for Java
+ * %%
+ * Copyright (C) 2014 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.models.enums.AccessLevel;
+import com.smartsheet.api.models.format.Bold;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SheetSnapshotTest {
+    private static final String SHEET_JSON = "{\"id\":5,\"name\":\"snapshot\",\"version\":7,\"accessLevel\":\"OWNER\"," +
+            "\"columns\":[{\"id\":101,\"index\":0,\"title\":\"Task\",\"primary\":true,\"type\":\"TEXT_NUMBER\"}," +
+            "{\"id\":102,\"index\":1,\"title\":\"Cost\",\"type\":\"TEXT_NUMBER\"}],\"rows\":[" +
+            "{\"id\":30,\"rowNumber\":1,\"expanded\":true,\"format\":\",,1,,,,,,,,,,,,,,\",\"cells\":[" +
+            "{\"columnId\":101,\"value\":\"Plan \\u00e9\",\"displayValue\":\"Plan \\u00e9\",\"format\":\",,1,,,,,,,,,,,,,,\"}," +
+            "{\"columnId\":102,\"value\":12.5,\"displayValue\":\"$12.50\",\"formula\":\"=SUM([Cost]2:[Cost]3)\"}]}," +
+            "{\"id\":31,\"rowNumber\":2,\"parentId\":30,\"cells\":[{\"columnId\":101,\"value\":true}," +
+            "{\"columnId\":102,\"value\":4000000000}]}]}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndOpen() throws IOException {
+        Sheet sheet = new JacksonJsonSerializer().deserialize(Sheet.class,
+                new ByteArrayInputStream(SHEET_JSON.getBytes("UTF-8")));
+        File file = folder.newFile("sheet.snapshot");
+        SheetSnapshot.write(sheet, file);
+
+        SheetSnapshot snapshot = SheetSnapshot.open(file);
+        assertEquals(7, snapshot.getVersion().intValue());
+        assertEquals("snapshot", snapshot.getSheet().getName());
+        assertEquals(AccessLevel.OWNER, snapshot.getSheet().getAccessLevel());
+        assertEquals(2, snapshot.getSheet().getColumns().size());
+        assertEquals("Cost", snapshot.getSheet().getColumns().get(1).getTitle());
+        assertNull(snapshot.getSheet().getRows());
+        assertEquals(2, snapshot.getRowCount());
+
+        Row child = snapshot.getRow(1);
+        assertEquals(31L, child.getId().longValue());
+        assertEquals(30L, child.getParentId().longValue());
+        assertNull(child.isExpanded());
+        assertNull(child.getFormat());
+        assertEquals(Boolean.TRUE, child.getCells().get(0).getValue());
+        assertEquals(4000000000L, child.getCells().get(1).getValue());
+
+        Sheet copy = snapshot.toSheet();
+        Row row = copy.getRows().get(0);
+        assertEquals(1, row.getRowNumber().intValue());
+        assertTrue(row.isExpanded());
+        assertEquals(Bold.ON, row.getFormat().getBold());
+        List<Cell> cells = row.getCells();
+        assertEquals(101L, cells.get(0).getColumnId().longValue());
+        assertEquals("Plan \u00e9", cells.get(0).getValue());
+        assertEquals(Bold.ON, cells.get(0).getFormat().getBold());
+        assertEquals(12.5, cells.get(1).getValue());
+        assertEquals("$12.50", cells.get(1).getDisplayValue());
+        assertEquals("=SUM([Cost]2:[Cost]3)", cells.get(1).getFormula());
+    }
+
+    @Test
+    public void testOpenRejectsOtherFiles() throws IOException {
+        File file = folder.newFile("not.snapshot");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(SHEET_JSON.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        try {
+            SheetSnapshot.open(file);
+            fail("Exception should have been thrown");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testOpenRejectsDamagedFiles() throws IOException {
+        Sheet sheet = new JacksonJsonSerializer().deserialize(Sheet.class,
+                new ByteArrayInputStream(SHEET_JSON.getBytes("UTF-8")));
+        File file = folder.newFile("damaged.snapshot");
+        SheetSnapshot.write(sheet, file);
+
+        // drop the last row offset, keeping the trailer
+        FileInputStream in = new FileInputStream(file);
+        byte[] content;
+        try {
+            content = StreamUtil.readBytesFromStream(in);
+        } finally {
+            in.close();
+        }
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content, 0, content.length - 20);
+            out.write(content, content.length - 12, 12);
+        } finally {
+            out.close();
+        }
+        try {
+            SheetSnapshot.open(file);
+            fail("Exception should have been thrown");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testWriteReplacesOpenSnapshot() throws IOException {
+        Sheet sheet = new JacksonJsonSerializer().deserialize(Sheet.class,
+                new ByteArrayInputStream(SHEET_JSON.getBytes("UTF-8")));
+        File file = folder.newFile("replaced.snapshot");
+        SheetSnapshot.write(sheet, file);
+        SheetSnapshot snapshot = SheetSnapshot.open(file);
+
+        sheet.setVersion(8);
+        sheet.getRows().remove(1);
+        SheetSnapshot.write(sheet, file);
+
+        // the open snapshot still reads the file it mapped
+        assertEquals(2, snapshot.getRowCount());
+        assertEquals(31L, snapshot.getRow(1).getId().longValue());
+        assertEquals(8, SheetSnapshot.open(file).getVersion().intValue());
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void testWriteRejectsTooLarge() throws IOException {
+        Sheet sheet = new JacksonJsonSerializer().deserialize(Sheet.class,
+                new ByteArrayInputStream(SHEET_JSON.getBytes("UTF-8")));
+        File file = folder.newFile("large.snapshot");
+        SheetSnapshot.write(sheet, file);
+        long size = file.length();
+
+        try {
+            SheetSnapshot.write(sheet, file, size - 1);
+            fail("Exception should have been thrown");
+        } catch (IOException e) {
+            // Expected
+        }
+        // the old file is left as it was, and the partial file isn't left behind
+        assertEquals(size, file.length());
+        assertEquals(1, folder.getRoot().list().length);
+
+        SheetSnapshot.write(sheet, file, size);
+        assertEquals(size, file.length());
+        assertEquals(2, SheetSnapshot.open(file).getRowCount());
+    }
+}
@@ -32,6 +32,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -78,6 +79,20 @@ public class FormatTest {
         }
     }
 
+    @Test
+    public void testValueOfSharesInstances() throws IOException {
+        Format first = Format.valueOf(",,1,1,1,,,,20,29,,,,,,,");
+        Format second = Format.valueOf(new String(",,1,1,1,,,,20,29,,,,,,,"));
+        assertSame(first, second);
+        assertEquals(Bold.ON, first.getBold());
+
+        // deriving a format copies the shared one instead of changing it
+        Format derived = new Format.FormatBuilder().withFormat(first).withBold(Bold.NONE).build();
+        assertEquals(Bold.NONE, derived.getBold());
+        assertEquals(Bold.ON, first.getBold());
+        verifySerializedFormat(",,1,1,1,,,,20,29,,,,,,,", first);
+    }
+
     @Test
     public void testFormatBuilderAllDefaults() throws IOException {
         Format actual = new Format.FormatBuilder()